@@ -85,4 +85,49 @@ tasks.withType<Jar> {
     from({
       configurations["runtimeClasspath"].map { if(it.isDirectory) it else zipTree(it) }
     })
-}
\ No newline at end of file
+}
+tasks.register<JavaExec>("runHeadless") {
+    group = "application"
+    description = "Ticks the game model without display and audio, then prints a report."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("it.unibo.pensilina14.bullet.ballet.HeadlessLauncher")
+    args = listOfNotNull(project.findProperty("ticks")?.toString())
+}
+
+val jmhVersion = "1.33"
+
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks, reporting ops/s and bytes allocated per op (gc.alloc.rate.norm)."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val results = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    // ./gradlew jmh -Pbenchmarks=Collision runs only the benchmarks matching the given regexp
+    args = listOfNotNull(project.findProperty("benchmarks")?.toString()) +
+        listOf("-prof", "gc", "-rf", "json", "-rff", results.path)
+    doFirst {
+        results.parentFile.mkdirs()
+    }
+}
+
+tasks.register<JavaExec>("runReplay") {
+    group = "application"
+    description = "Plays back a game recorded with -Dbulletballet.record=<file>, then prints a report."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("it.unibo.pensilina14.bullet.ballet.ReplayLauncher")
+    // ./gradlew runReplay -Preplay=game.bbr -Pfrom=600
+    args = listOfNotNull(project.findProperty("replay")?.toString(), project.findProperty("from")?.toString())
+}
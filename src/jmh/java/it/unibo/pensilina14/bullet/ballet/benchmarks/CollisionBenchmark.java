@@ -0,0 +1,125 @@
+package it.unibo.pensilina14.bullet.ballet.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.pensilina14.bullet.ballet.common.EntityManager;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.model.collision.SpatialGrid;
+import it.unibo.pensilina14.bullet.ballet.model.environment.GameEnvironment;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.CollisionEventChecker;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.CollisionSystem;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.EventBuffer;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.EventChecker;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEventListener;
+
+/**
+ * {@link CollisionEventChecker#check()} on the pairs the environment checks every tick: 
+ * the player against the platforms and the enemies against the platforms.
+ * 
+ * The platforms and the other entities are counted by parameters of their own.
+ * Checkers are created by the benchmark. The platforms are binned in a {@link SpatialGrid} once,
+ * as the environment keeps them: checking through the grid grows with the enemies alone,
+ * not with enemies times platforms.
+ *
+ * {@link #collisionStage()} runs the whole stage the environment runs on every tick, through
+ * its long-lived {@link CollisionSystem}. Nothing collides in these worlds, so with -prof gc
+ * gc.alloc.rate.norm is expected to be about 0 B/op.
+ * {@link #collisionStageParallel()} runs it on the common {@link ForkJoinPool}, which pays off 
+ * only once the pairs take longer to check than the slices take to be handed to the workers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+	/*
+	 * Enemies, items and obstacles, apart from the platforms they are checked against.
+	 */
+	@Param({"50", "500", "2500"})
+	private int entities;
+	@Param({"50", "500", "2500"})
+	private int platforms;
+	private EntityManager world;
+	private SpatialGrid grid;
+	private CollisionSystem collisions;
+	private CollisionSystem parallelCollisions;
+	private GameEventListener listener;
+	private int raised;
+
+	@Setup
+	public void setup() {
+		Worlds.silenceConsole();
+		this.world = Worlds.create(this.platforms, this.entities).getEntityManager();
+		this.grid = new SpatialGrid(GameEnvironment.COLLISION_CELL_SIZE);
+		this.grid.insertAll(this.world.getComponents(GameEntities.PLATFORM), 0);
+		this.collisions = new CollisionSystem(this.world, GameEnvironment.COLLISION_CELL_SIZE);
+		this.parallelCollisions = new CollisionSystem(this.world, GameEnvironment.COLLISION_CELL_SIZE);
+		this.parallelCollisions.setPool(ForkJoinPool.commonPool());
+		this.listener = e -> this.raised++;
+	}
+
+	@Benchmark
+	public EventBuffer playerPlatforms() {
+		final EventChecker checker = new CollisionEventChecker(this.world.getPlatforms(), List.of(this.world.getPlayer().get()));
+		checker.check();
+		return checker.getBuffer();
+	}
+
+	@Benchmark
+	public EventBuffer enemiesPlatforms() {
+		final EventChecker checker = new CollisionEventChecker(this.world.getPlatforms(), this.world.getEnemies());
+		checker.check();
+		return checker.getBuffer();
+	}
+
+	@Benchmark
+	public EventBuffer enemiesPlatformsComponents() {
+		final EventChecker checker = new CollisionEventChecker(this.world.getComponents(GameEntities.PLATFORM), 
+				this.world.getComponents(GameEntities.ENEMY));
+		checker.check();
+		return checker.getBuffer();
+	}
+
+	@Benchmark
+	public EventBuffer enemiesPlatformsGrid() {
+		final EventChecker checker = new CollisionEventChecker(this.grid, 
+				this.world.getComponents(GameEntities.PLATFORM), this.world.getComponents(GameEntities.ENEMY));
+		checker.check();
+		return checker.getBuffer();
+	}
+
+	/**
+	 * @return the number of events raised so far.
+	 */
+	@Benchmark
+	public int collisionStage() {
+		this.collisions.check(this.listener);
+		return this.raised;
+	}
+
+	/**
+	 * @return the number of events raised so far.
+	 */
+	@Benchmark
+	public int collisionStageParallel() {
+		this.parallelCollisions.check(this.listener);
+		return this.raised;
+	}
+}
@@ -0,0 +1,82 @@
+package it.unibo.pensilina14.bullet.ballet.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.pensilina14.bullet.ballet.common.EntityContainer;
+import it.unibo.pensilina14.bullet.ballet.common.EntityManager;
+import it.unibo.pensilina14.bullet.ballet.common.ImmutablePosition2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Enemy;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Platform;
+
+/**
+ * Getters and removal of {@link EntityContainer}, as called many times per tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityContainerBenchmark {
+
+	@Param({"100", "1000", "5000"})
+	private int entities;
+	private EntityManager world;
+	private Platform last;
+
+	@Setup
+	public void setup() {
+		Worlds.silenceConsole();
+		this.world = Worlds.create(this.entities).getEntityManager();
+		final List<Platform> platforms = this.world.getPlatforms();
+		this.last = platforms.get(platforms.size() - 1);
+	}
+
+	@Benchmark
+	public List<Enemy> getEnemies() {
+		return this.world.getEnemies();
+	}
+
+	@Benchmark
+	public List<Platform> getPlatforms() {
+		return this.world.getPlatforms();
+	}
+
+	/**
+	 * Deletes the last platform by position, the worst case of the lookup, 
+	 * then adds it back so that every invocation finds the same container.
+	 * 
+	 * @return whether the platform was deleted.
+	 */
+	@Benchmark
+	public boolean deleteEntity() {
+		final boolean deleted = this.world.deleteEntity(new ImmutablePosition2Dimpl(this.last.getPosition().get()));
+		this.world.addPlatform(this.last);
+		return deleted;
+	}
+
+	/**
+	 * Deletes the last platform by identifier, then adds it back.
+	 * 
+	 * @return whether the platform was deleted.
+	 */
+	@Benchmark
+	public boolean deleteById() {
+		final boolean deleted = this.world.deleteById(this.last.getId());
+		this.world.addPlatform(this.last);
+		return deleted;
+	}
+}
@@ -0,0 +1,56 @@
+package it.unibo.pensilina14.bullet.ballet.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
+
+/**
+ * One model tick, {@link Environment#updateState()}, as the number of entities grows.
+ * 
+ * The world is rebuilt before every iteration, since entities scroll away while it is updated.
+ * The default active window only simulates what is near the player, the widest one 
+ * simulates the whole level, as it was before entities could be dormant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvironmentBenchmark {
+
+	@Param({"100", "1000", "5000", "50000"})
+	private int entities;
+	@Param({"1500", "1000000000"})
+	private double window;
+	private Environment env;
+
+	@Setup(Level.Trial)
+	public void silence() {
+		Worlds.silenceConsole();
+	}
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		this.env = Worlds.create(this.entities);
+		this.env.setActiveWindow(this.window);
+	}
+
+	@Benchmark
+	public void updateState() {
+		this.env.updateState();
+	}
+}
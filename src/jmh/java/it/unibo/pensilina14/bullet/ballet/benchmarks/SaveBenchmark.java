@@ -0,0 +1,97 @@
+package it.unibo.pensilina14.bullet.ballet.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
+import it.unibo.pensilina14.bullet.ballet.model.environment.EnvironmentGenerator;
+import it.unibo.pensilina14.bullet.ballet.model.environment.GameEnvironment;
+import it.unibo.pensilina14.bullet.ballet.model.environment.LevelGenerator;
+import it.unibo.pensilina14.bullet.ballet.save.Save;
+import it.unibo.pensilina14.bullet.ballet.save.SecureData;
+
+/**
+ * Loading of levels and statistics: {@link SecureData} on a level sized message, 
+ * {@link Save#loadLevel(int)} and the creation of a level by {@link EnvironmentGenerator},
+ * both of the chunks shown in the first frame and of the whole level.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveBenchmark {
+
+	/*
+	 * Size of the environment of a game, refer to GameState.
+	 */
+	private static final double HEIGHT = 11;
+	private static final double WIDTH = 1882;
+
+	@Param({"0"})
+	private int level;
+	private byte[] clear;
+	private byte[] encrypted;
+
+	@Setup
+	public void setup() throws Exception {
+		Worlds.silenceConsole();
+		this.clear = String.join("\n", Save.loadLevel(this.level)).getBytes(StandardCharsets.UTF_8);
+		this.encrypted = SecureData.encrypt(this.clear, SecureData.PASSWORD);
+	}
+
+	@Benchmark
+	public byte[] encrypt() throws Exception {
+		return SecureData.encrypt(this.clear, SecureData.PASSWORD);
+	}
+
+	@Benchmark
+	public byte[] decrypt() throws Exception {
+		return SecureData.decrypt(this.encrypted, SecureData.PASSWORD);
+	}
+
+	@Benchmark
+	public String[] loadLevel() {
+		return Save.loadLevel(this.level);
+	}
+
+	/**
+	 * Loads a random level, as the game does, and instantiates the chunks in view before the first frame.
+	 * 
+	 * @return the populated environment.
+	 */
+	@Benchmark
+	public Environment generate() {
+		final Environment env = new GameEnvironment(HEIGHT, WIDTH);
+		final LevelGenerator generator = new EnvironmentGenerator(env);
+		generator.generate();
+		return env;
+	}
+
+	/**
+	 * Loads a random level and streams in all of its chunks, as if it was scrolled to its end at once.
+	 * 
+	 * @return the populated environment.
+	 */
+	@Benchmark
+	public Environment generateWhole() {
+		final Environment env = new GameEnvironment(HEIGHT, WIDTH);
+		final LevelGenerator generator = new EnvironmentGenerator(env);
+		generator.generate();
+		generator.stream(generator.getLevelWidth() * generator.getPlatformSize());
+		return env;
+	}
+}
@@ -0,0 +1,82 @@
+package it.unibo.pensilina14.bullet.ballet.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2D;
+import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2DImpl;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
+
+/**
+ * Moves of a {@link SpeedVector2DImpl} and of an entity, done for every entity on every tick.
+ * They should not allocate: gc.alloc.rate.norm is expected to be about 0 B/op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorBenchmark {
+
+	private static final double STEP = 1.0;
+	private static final double SPEED = 1.5;
+	private static final int ENTITIES = 100;
+	private SpeedVector2D vector;
+	private Player player;
+
+	@Setup
+	public void setup() {
+		Worlds.silenceConsole();
+		this.vector = new SpeedVector2DImpl(new MutablePosition2Dimpl(0, 0), SPEED);
+		this.player = Worlds.create(ENTITIES).getEntityManager().getPlayer().get();
+	}
+
+	/**
+	 * Moves forth and back, so that every invocation starts from the same position.
+	 *
+	 * @return the x coordinate reached.
+	 */
+	@Benchmark
+	public double vectorSum() {
+		this.vector.vectorSum(STEP, STEP);
+		this.vector.vectorSum(-STEP, -STEP);
+		return this.vector.getPosition().get().getX();
+	}
+
+	/**
+	 * Moves forth and back, so that every invocation starts from the same position.
+	 *
+	 * @return the x coordinate reached.
+	 */
+	@Benchmark
+	public double noSpeedVectorSum() {
+		this.vector.noSpeedVectorSum(STEP, STEP);
+		this.vector.noSpeedVectorSum(-STEP, -STEP);
+		return this.vector.getPosition().get().getX();
+	}
+
+	/**
+	 * Moves the player, stored in a {@link it.unibo.pensilina14.bullet.ballet.model.entities.ComponentStore},
+	 * right and back after checking the bounds of the environment.
+	 *
+	 * @return whether the player could move right.
+	 */
+	@Benchmark
+	public boolean moveRight() {
+		final boolean moved = this.player.moveRight(STEP);
+		this.player.getSpeedVector().get().noSpeedVectorSum(-STEP * this.player.getSpeedVector().get().getSpeed(), 0);
+		return moved;
+	}
+}
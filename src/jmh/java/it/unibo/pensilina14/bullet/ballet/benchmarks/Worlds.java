@@ -0,0 +1,93 @@
+package it.unibo.pensilina14.bullet.ballet.benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import it.unibo.pensilina14.bullet.ballet.common.Dimension2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.common.EntityContainer;
+import it.unibo.pensilina14.bullet.ballet.common.EntityManager;
+import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2D;
+import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2DImpl;
+import it.unibo.pensilina14.bullet.ballet.model.characters.EntityList;
+import it.unibo.pensilina14.bullet.ballet.model.characters.FactoryCharacters;
+import it.unibo.pensilina14.bullet.ballet.model.characters.FactoryCharactersImpl;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
+import it.unibo.pensilina14.bullet.ballet.model.environment.EnvironmentGenerator;
+import it.unibo.pensilina14.bullet.ballet.model.environment.GameEnvironment;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Platform;
+import it.unibo.pensilina14.bullet.ballet.model.obstacle.ObstacleFactory;
+import it.unibo.pensilina14.bullet.ballet.model.obstacle.ObstacleFactoryImpl;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.ItemFactory;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.ItemFactoryImpl;
+
+/**
+ * Builds the synthetic worlds the benchmarks run on.
+ * 
+ * Worlds are laid out like a level: a floor of platforms, one tile apart, 
+ * with enemies, items and obstacles standing on it and the player at its start. 
+ * Unless told otherwise, half of the entities are platforms, the rest is split evenly among the other types.
+ */
+final class Worlds {
+	private static final int TILE_SIZE = EnvironmentGenerator.TILE_SIZE;
+	private static final int FLOOR = TILE_SIZE * 8;
+	private static final double PLATFORM_MASS = 200.0;
+	private static final int OTHER_TYPES = 3;
+
+	private Worlds() {
+	}
+
+	/**
+	 * @param entities the number of entities besides the player.
+	 * @return a new environment holding the given number of entities, whose events are discarded.
+	 */
+	static Environment create(final int entities) {
+		return create(entities / 2, entities - entities / 2);
+	}
+
+	/**
+	 * @param platforms the number of platforms.
+	 * @param others the number of entities besides the platforms and the player.
+	 * @return a new environment holding the given number of entities, whose events are discarded.
+	 */
+	static Environment create(final int platforms, final int others) {
+		final EntityManager container = new EntityContainer();
+		final Environment env = new GameEnvironment(Environment.GravityConstants.TEST.getValue(), 
+				FLOOR + TILE_SIZE, (Math.max(platforms, others) + 1) * TILE_SIZE, container, e -> { });
+		final FactoryCharacters characters = new FactoryCharactersImpl();
+		final ItemFactory items = new ItemFactoryImpl();
+		final ObstacleFactory obstacles = new ObstacleFactoryImpl();
+		container.setPlayer(characters.createPlayer(EntityList.Characters.Player.PLAYER1, vector(0, FLOOR - TILE_SIZE), env));
+		for (int i = 0; i < platforms; i++) {
+			container.addPlatform(new Platform(vector(i * TILE_SIZE, FLOOR), env, PLATFORM_MASS, 
+					new Dimension2Dimpl(TILE_SIZE, TILE_SIZE)));
+		}
+		for (int i = 0; i < others; i++) {
+			final SpeedVector2D onFloor = vector((i + 1) * TILE_SIZE, FLOOR - TILE_SIZE);
+			switch (i % OTHER_TYPES) {
+			case 0:
+				container.addEnemy(characters.createEnemy(EntityList.Characters.Enemy.ENEMY1, onFloor, env));
+				break;
+			case 1:
+				container.addItem(items.createCoinItem(env, onFloor));
+				break;
+			default:
+				container.addObstacle(obstacles.createStandardObstacle(env, onFloor));
+				break;
+			}
+		}
+		return env;
+	}
+
+	/**
+	 * The model logs to the console while updating, benchmarks would measure 
+	 * the terminal rather than the game: messages are still built, but discarded.
+	 */
+	static void silenceConsole() {
+		System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+	}
+
+	private static SpeedVector2D vector(final double x, final double y) {
+		return new SpeedVector2DImpl(new MutablePosition2Dimpl(x, y), 1.0);
+	}
+}
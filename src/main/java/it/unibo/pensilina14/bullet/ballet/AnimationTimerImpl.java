@@ -1,22 +1,93 @@
 package it.unibo.pensilina14.bullet.ballet;
 
+import it.unibo.pensilina14.bullet.ballet.core.AdaptiveRenderScheduler;
 import it.unibo.pensilina14.bullet.ballet.core.Engine;
+import it.unibo.pensilina14.bullet.ballet.core.FixedTimestepScheduler;
+import it.unibo.pensilina14.bullet.ballet.core.GameLoopScheduler;
+import it.unibo.pensilina14.bullet.ballet.core.RenderScheduler;
 import javafx.animation.AnimationTimer;
 
+/**
+ * Timer that drives the {@link Engine}: on every pulse it runs as many
+ * model ticks as the {@link GameLoopScheduler} asks for and then renders once,
+ * unless the {@link RenderScheduler} skips the frame because it is over budget.
+ * Keys are read on every pulse before the ticks, whether or not the frame is rendered.
+ */
 public class AnimationTimerImpl extends AnimationTimer {
-	
+
     private final Engine engine;
+    private final GameLoopScheduler scheduler;
+    private final RenderScheduler renderScheduler;
+    private boolean running;
 
 	public AnimationTimerImpl(final Engine gameEngine) {
+		this(gameEngine, new FixedTimestepScheduler());
+	}
+
+	public AnimationTimerImpl(final Engine gameEngine, final GameLoopScheduler scheduler) {
+		this(gameEngine, scheduler, AdaptiveRenderScheduler.fromSystemProperty(scheduler.getTickDuration()));
+	}
+
+	/**
+	 * @param gameEngine the engine driven by the timer.
+	 * @param scheduler decides how many ticks are run per pulse.
+	 * @param renderScheduler decides whether a pulse is rendered.
+	 */
+	public AnimationTimerImpl(final Engine gameEngine, final GameLoopScheduler scheduler, 
+			final RenderScheduler renderScheduler) {
 		this.engine = gameEngine;
+		this.scheduler = scheduler;
+		this.renderScheduler = renderScheduler;
+		this.running = false;
 		this.engine.setup();
 	}
 
+	@Override
+	public void start() {
+		this.scheduler.reset();
+		this.renderScheduler.reset();
+		this.running = true;
+		super.start();
+	}
+
+	@Override
+	public void stop() {
+		this.running = false;
+		super.stop();
+	}
+
 	@Override
 	public void handle(final long now) {
-		this.engine.processInput();
-		this.engine.updateGame();
-		this.engine.render();
+		this.engine.sampleInput();
+		final int ticks = this.scheduler.advance(now);
+		final long updateStart = System.nanoTime();
+		/*
+		 * The engine may stop the timer while updating (game over, pause),
+		 * in that case the remaining ticks of this pulse are discarded.
+		 */
+		for (int i = 0; i < ticks && this.running; i++) {
+			this.engine.processInput();
+			this.engine.updateGame();
+		}
+		if (this.running && this.renderScheduler.shouldRender(now, System.nanoTime() - updateStart)) {
+			final long renderStart = System.nanoTime();
+			this.engine.render(this.scheduler.getInterpolation());
+			this.renderScheduler.rendered(now, System.nanoTime() - renderStart);
+		}
+	}
+
+	/**
+	 * @return the scheduler deciding how many ticks are run per pulse.
+	 */
+	public final GameLoopScheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	/**
+	 * @return the scheduler deciding whether a pulse is rendered, it counts the frames skipped.
+	 */
+	public final RenderScheduler getRenderScheduler() {
+		return this.renderScheduler;
 	}
-	
+
 }
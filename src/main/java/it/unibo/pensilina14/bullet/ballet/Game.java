@@ -1,9 +1,14 @@
 package it.unibo.pensilina14.bullet.ballet;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Optional;
 
 import it.unibo.pensilina14.bullet.ballet.core.Engine;
 import it.unibo.pensilina14.bullet.ballet.core.GameEngine;
+import it.unibo.pensilina14.bullet.ballet.core.SimulationMode;
 import it.unibo.pensilina14.bullet.ballet.core.controller.ModelController;
 import it.unibo.pensilina14.bullet.ballet.core.controller.ModelControllerImpl;
 import it.unibo.pensilina14.bullet.ballet.core.controller.ViewController;
@@ -14,8 +19,13 @@ import it.unibo.pensilina14.bullet.ballet.logging.AppLogger;
 import it.unibo.pensilina14.bullet.ballet.menu.controller.Difficulties;
 import it.unibo.pensilina14.bullet.ballet.menu.controller.Resolutions;
 import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
+import it.unibo.pensilina14.bullet.ballet.replay.ReplayRecorder;
 
 public class Game {
+    /**
+     * System property holding the file the game is recorded to, refer to {@link ReplayRecorder}.
+     */
+    public static final String RECORD_PROPERTY = "bulletballet.record";
     private final ModelController model;
     private final ViewController view;
     private final Engine engine;
@@ -37,8 +47,9 @@ public class Game {
         this.view = new ViewControllerImpl(Optional.of(
         		new MapScene(this.model.getGameState().get())
         		));
-        this.engine = new GameEngine(this.view, this.model);
+        this.engine = new GameEngine(this.view, this.model, SimulationMode.fromSystemProperty());
         this.settings = new GameInfoImpl(Resolutions.FULLHD, Difficulties.EASY);
+        this.recordIfRequested();
     }
     
     public Game(final String playerName) {
@@ -46,8 +57,9 @@ public class Game {
         this.view = new ViewControllerImpl(Optional.of(
         		new MapScene(this.model.getGameState().get())
         		));
-        this.engine = new GameEngine(this.view, this.model);
+        this.engine = new GameEngine(this.view, this.model, SimulationMode.fromSystemProperty());
         this.settings = new GameInfoImpl(Resolutions.FULLHD, Difficulties.EASY);
+        this.recordIfRequested();
     }
     
 	public final void start() {
@@ -68,4 +80,18 @@ public class Game {
     	return this.settings;
     }
     
+    private void recordIfRequested() {
+    	final String file = System.getProperty(RECORD_PROPERTY);
+    	if (file == null || file.isBlank()) {
+    		return;
+    	}
+    	try {
+    		((GameEngine) this.engine).startRecording(new ReplayRecorder(
+    				new BufferedOutputStream(Files.newOutputStream(Paths.get(file))), this.getModel()));
+    		AppLogger.getAppLogger().info("Recording the game to " + file);
+    	} catch (IOException e) {
+    		AppLogger.getAppLogger().error("Could not record the game to " + file + ": " + e.getMessage());
+    	}
+    }
+    
 }
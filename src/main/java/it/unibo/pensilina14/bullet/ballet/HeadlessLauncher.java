@@ -0,0 +1,24 @@
+package it.unibo.pensilina14.bullet.ballet;
+
+import it.unibo.pensilina14.bullet.ballet.core.HeadlessEngine;
+
+/**
+ * Runs the first level without display and audio, 
+ * then prints how fast the model was ticked.
+ * 
+ * The only optional argument is the number of ticks to run.
+ */
+public final class HeadlessLauncher {
+
+	private static final long DEFAULT_TICKS = 10_000;
+
+	private HeadlessLauncher() {
+	}
+
+	public static void main(final String[] args) {
+		final long ticks = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_TICKS;
+		final HeadlessEngine engine = new HeadlessEngine();
+		engine.setup();
+		System.out.print(engine.run(ticks));
+	}
+}
@@ -0,0 +1,26 @@
+package it.unibo.pensilina14.bullet.ballet;
+
+import it.unibo.pensilina14.bullet.ballet.core.Engine;
+import it.unibo.pensilina14.bullet.ballet.core.SimulationMode;
+import javafx.animation.AnimationTimer;
+
+/**
+ * Timer that only renders the {@link Engine} on every pulse, used when 
+ * the model is updated by another thread, see {@link SimulationMode#DEDICATED_THREAD}.
+ */
+public class RenderTimer extends AnimationTimer {
+
+	private final Engine engine;
+
+	public RenderTimer(final Engine gameEngine) {
+		this.engine = gameEngine;
+		this.engine.setup();
+	}
+
+	@Override
+	public void handle(final long now) {
+		this.engine.sampleInput();
+		this.engine.render();
+	}
+
+}
@@ -0,0 +1,33 @@
+package it.unibo.pensilina14.bullet.ballet;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import it.unibo.pensilina14.bullet.ballet.replay.Replay;
+import it.unibo.pensilina14.bullet.ballet.replay.ReplayPlayer;
+
+/**
+ * Plays a recorded game back without display and audio, 
+ * then prints how fast the model was ticked.
+ * 
+ * The first argument is the replay file, the second optional one 
+ * is the tick the replay is started from.
+ */
+public final class ReplayLauncher {
+
+	private ReplayLauncher() {
+	}
+
+	public static void main(final String[] args) throws IOException {
+		if (args.length == 0) {
+			System.err.println("Usage: ReplayLauncher <replay file> [start tick]");
+			return;
+		}
+		final Replay replay = Replay.load(Paths.get(args[0]));
+		final ReplayPlayer player = new ReplayPlayer(replay);
+		if (args.length > 1) {
+			player.seek(Long.parseLong(args[1]));
+		}
+		System.out.print(player.play(replay.getTicks()));
+	}
+}
@@ -1,7 +1,7 @@
 package it.unibo.pensilina14.bullet.ballet.common;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -12,11 +12,12 @@ import it.unibo.pensilina14.bullet.ballet.logging.AppLogger;
 public abstract class AbstractContainer<X> implements Container<X> {
 	/**
 	 * Data structure that keeps track of every single element of the game.
+	 * Types are always visited in the order of {@link GameEntities}.
 	 */
 	private final Map<GameEntities, Optional<List<X>>> container;
 	
 	public AbstractContainer() {
-		this.container = new HashMap<>();
+		this.container = new EnumMap<>(GameEntities.class);
 		IntStream.iterate(0, x -> x + 1)
 		.limit(GameEntities.count())
 		.forEach(x -> this.container.put(GameEntities.getList().get(x), Optional.of(new ArrayList<>())));
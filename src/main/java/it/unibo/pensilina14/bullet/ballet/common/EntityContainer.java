@@ -1,16 +1,17 @@
 package it.unibo.pensilina14.bullet.ballet.common;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.NoSuchElementException;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import it.unibo.pensilina14.bullet.ballet.logging.AppLogger;
 import it.unibo.pensilina14.bullet.ballet.model.characters.Enemy;
 import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
+import it.unibo.pensilina14.bullet.ballet.model.entities.ComponentStore;
 import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
 import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
 import it.unibo.pensilina14.bullet.ballet.model.environment.Platform;
@@ -33,139 +34,130 @@ import it.unibo.pensilina14.bullet.ballet.model.weapon.WeaponImpl;
  *
  */
 public class EntityContainer extends AbstractContainer<GameEntity> implements EntityManager {
+	/*
+	 * Typed read-only views on the lists of the container, built once.
+	 * Entities are only added through the typed methods of this class,
+	 * so every element of a list has the type of its view.
+	 */
+	private final List<Player> player;
+	private final List<Enemy> enemies;
+	private final List<PickupItem> items;
+	private final List<ObstacleImpl> obstacles;
+	private final List<Weapon> weapons;
+	private final List<Bullet> bullets;
+	private final List<Platform> platforms;
+	/*
+	 * Index of every entity stored, by identifier: its type and its slot in the list of that type.
+	 */
+	private final Map<Integer, GameEntities> types;
+	private final Map<Integer, Integer> slots;
+	/*
+	 * Components of the entities of every type, the slot of an entity in its store 
+	 * is the same as in its list.
+	 */
+	private final Map<GameEntities, ComponentStore> components;
+	/*
+	 * Spawns and despawns queued during a tick, a spawn holds the entity and a despawn its identifier only.
+	 */
+	private final List<GameEntity> pendingSpawns;
+	private final List<Integer> pendingIds;
+	private final List<GameEntities> pendingTypes;
+
+	public EntityContainer() {
+		super();
+		this.player = this.view(GameEntities.PLAYER);
+		this.enemies = this.view(GameEntities.ENEMY);
+		this.items = this.view(GameEntities.PICKUP_ITEM);
+		this.obstacles = this.view(GameEntities.OBSTACLE);
+		this.weapons = this.view(GameEntities.WEAPON);
+		this.bullets = this.view(GameEntities.BULLET);
+		this.platforms = this.view(GameEntities.PLATFORM);
+		this.types = new HashMap<>();
+		this.slots = new HashMap<>();
+		this.components = new EnumMap<>(GameEntities.class);
+		for (final GameEntities type : GameEntities.values()) {
+			this.components.put(type, new ComponentStore());
+		}
+		this.pendingSpawns = new ArrayList<>();
+		this.pendingIds = new ArrayList<>();
+		this.pendingTypes = new ArrayList<>();
+	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public Optional<Player> getPlayer() {
-		final List<GameEntity> player = this.getContainer().get(GameEntities.PLAYER).get();
-		if (!player.isEmpty() && player.get(0) instanceof Player) {
-			return Optional.ofNullable((Player) player.get(0));
-		}
-		return Optional.empty();
+		return this.player.isEmpty() ? Optional.empty() : Optional.of(this.player.get(0));
 	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Optional<List<Enemy>> getEnemies() {
-		final List<GameEntity> enemies = this.getContainer().get(GameEntities.ENEMY).get();
-		if (!enemies.isEmpty() && enemies.get(0) instanceof Enemy) {
-			return Optional.ofNullable(enemies.stream()
-					.map(e -> (Enemy) e)
-					.collect(Collectors.toList()));
-		}
-		return Optional.empty();
+	public List<Enemy> getEnemies() {
+		return this.enemies;
 	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Optional<List<PickupItem>> getItems() {
-		final List<GameEntity> items = this.getContainer().get(GameEntities.PICKUP_ITEM).get();
-		if (!items.isEmpty() && items.get(0) instanceof PickupItem) {
-			return Optional.ofNullable(items.stream()
-					.map(e -> (PickupItem) e)
-					.collect(Collectors.toList()));
-		}
-		return Optional.empty();
+	public List<PickupItem> getItems() {
+		return this.items;
 	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Optional<List<ObstacleImpl>> getObstacles() {
-		final List<GameEntity> obstacles = this.getContainer().get(GameEntities.OBSTACLE).get();
-		if (!obstacles.isEmpty() && obstacles.get(0) instanceof ObstacleImpl) {
-			return Optional.ofNullable(obstacles.stream()
-					.map(e -> (ObstacleImpl) e)
-					.collect(Collectors.toList()));
-		}
-		return Optional.empty();
+	public List<ObstacleImpl> getObstacles() {
+		return this.obstacles;
 	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Optional<List<Weapon>> getWeapons() {
-		final List<GameEntity> weapons = this.getContainer().get(GameEntities.WEAPON).get();
-		if (!weapons.isEmpty() && weapons.get(0) instanceof Weapon) {
-			return Optional.ofNullable(weapons.stream()
-					.map(e -> (Weapon) e)
-					.collect(Collectors.toList()));
-		}
-		return Optional.empty();
+	public List<Weapon> getWeapons() {
+		return this.weapons;
 	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Optional<List<Bullet>> getBullets() {
-		final List<GameEntity> bullets = this.getContainer().get(GameEntities.BULLET).get();
-		if (!bullets.isEmpty() && bullets.get(0) instanceof Bullet) {
-			return Optional.ofNullable(bullets.stream()
-					.map(e -> (Bullet) e)
-					.collect(Collectors.toList()));
-		}
-		return Optional.empty();
+	public List<Bullet> getBullets() {
+		return this.bullets;
 	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Optional<List<Platform>> getPlatforms() {
-		final List<GameEntity> platforms = this.getContainer().get(GameEntities.PLATFORM).get();
-		if (!platforms.isEmpty() && platforms.get(0) instanceof Platform) {
-			return Optional.ofNullable(platforms.stream()
-					.map(e -> (Platform) e)
-					.collect(Collectors.toList()));
-		}
-		return Optional.empty();
+	public List<Platform> getPlatforms() {
+		return this.platforms;
 	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public void setPlayer(final Player player) {
-		this.getContainer().get(GameEntities.PLAYER).get().add(player);
+		this.insert(GameEntities.PLAYER, player);
 	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public boolean addEnemy(final Enemy enemy) {
-		if (this.getContainer().get(GameEntities.ENEMY).get().contains(enemy)) {
-			return false;
-		} else {
-			this.getContainer().get(GameEntities.ENEMY).get().add(enemy);
-			return true;
-		}
+		return this.insert(GameEntities.ENEMY, enemy);
 	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public boolean addItem(final Item item) {
-		final PickupItem pickupItem = (PickupItem) item;
-		if (this.getContainer().get(GameEntities.PICKUP_ITEM).get().contains(pickupItem)) {
-			return false;
-		} else {
-			this.getContainer().get(GameEntities.PICKUP_ITEM).get().add(pickupItem);
-			return true;
-		}
+		return this.insert(GameEntities.PICKUP_ITEM, (PickupItem) item);
 	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public boolean addObstacle(final Obstacle obstacle) {
-		final ObstacleImpl obstacleImpl = (ObstacleImpl) obstacle;
-		if (this.getContainer().get(GameEntities.OBSTACLE).get().contains(obstacleImpl)) {
-			return false;
-		} else {
-			this.getContainer().get(GameEntities.OBSTACLE).get().add(obstacleImpl);
-			return true;
-		}
+		return this.insert(GameEntities.OBSTACLE, (ObstacleImpl) obstacle);
 	}
 	/**
 	 * {@inheritDoc}
@@ -177,69 +169,196 @@ public class EntityContainer extends AbstractContainer<GameEntity> implements En
 		 * in order to match GameEntity type of elements 
 		 * in container.
 		 */
-		final WeaponImpl weaponImpl = (WeaponImpl) weapon;
-		if (this.getContainer().get(GameEntities.WEAPON).get().contains(weaponImpl)) {
-			return false;
-		} else {
-			this.getContainer().get(GameEntities.WEAPON).get().add(weaponImpl);
-			return true;
-		}
+		return this.insert(GameEntities.WEAPON, (WeaponImpl) weapon);
 	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public boolean addBullet(final Bullet bullet) {
-		final BulletImpl bulletImpl = (BulletImpl) bullet;
-		if (this.getContainer().get(GameEntities.BULLET).get().contains(bulletImpl)) {
-			return false;
-		} else {
-			this.getContainer().get(GameEntities.BULLET).get().add(bulletImpl);
-			return true;
-		}
+		return this.insert(GameEntities.BULLET, (BulletImpl) bullet);
 	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public boolean addPlatform(final Platform platform) {
-		if (this.getContainer().get(GameEntities.PLATFORM).get().contains(platform)) {
-			return false;
-		} else {
-			this.getContainer().get(GameEntities.PLATFORM).get().add(platform);
-			return true;
-		}
+		return this.insert(GameEntities.PLATFORM, platform);
 	}
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Optional<List<PhysicalObject>> getObjsList() {
-		final Optional<List<PhysicalObject>> mergedList = Optional.of(new ArrayList<>());
+	public List<PhysicalObject> getObjsList() {
+		final List<PhysicalObject> mergedList = new ArrayList<>();
 		for (final Optional<List<GameEntity>> entityList : this.getContainer().values()) {
-			entityList.ifPresent(e -> mergedList.get().addAll(List.copyOf(e)));
+			entityList.ifPresent(mergedList::addAll);
 		}
 		return mergedList;
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int count(final GameEntities type) {
+		return this.getContainer().get(type).map(List::size).orElse(0);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private <T> List<T> view(final GameEntities type) {
+		return Collections.unmodifiableList((List<T>) this.getContainer().get(type).get());
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
 	@Override
 	public final boolean deleteEntity(final ImmutablePosition2D pos) {
-		for (final Entry<GameEntities, Optional<List<GameEntity>>> entry : this.getContainer().entrySet()) {
-			if (entry.getValue().isPresent()) {
-				final Iterator<GameEntity> iter = entry.getValue().get().iterator();
-				while (iter.hasNext()) {
-					final GameEntity entity = iter.next();
-					if (entity.getPosition().get().equals(new MutablePosition2Dimpl(pos))) {
-						iter.remove();
-						return true;
-					}
+		for (final GameEntities type : GameEntities.values()) {
+			final List<GameEntity> entities = this.getContainer().get(type).get();
+			for (int i = 0; i < entities.size(); i++) {
+				final MutablePosition2D entityPos = entities.get(i).getPosition().get();
+				if (Double.compare(entityPos.getX(), pos.getX()) == 0 && Double.compare(entityPos.getY(), pos.getY()) == 0) {
+					this.remove(type, i);
+					return true;
 				}
-			} else {
-				throw new NoSuchElementException();
 			}
 		}
 		return false;
 	}
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final boolean deleteById(final int id) {
+		final GameEntities type = this.types.get(id);
+		if (type == null) {
+			return false;
+		}
+		this.remove(type, this.slots.get(id));
+		return true;
+	}
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final boolean contains(final int id) {
+		return this.types.containsKey(id);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final ComponentStore getComponents(final GameEntities type) {
+		return this.components.get(type);
+	}
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final void spawn(final PhysicalObject obj) {
+		this.pendingSpawns.add((GameEntity) obj);
+		this.pendingIds.add(obj.getId());
+		this.pendingTypes.add(obj.getKind());
+	}
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final void despawn(final int id) {
+		this.pendingSpawns.add(null);
+		this.pendingIds.add(id);
+		this.pendingTypes.add(null);
+	}
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final int applyChanges() {
+		int applied = 0;
+		for (int i = 0; i < this.pendingIds.size(); i++) {
+			final GameEntities type = this.pendingTypes.get(i);
+			final boolean changed = type == null 
+					? this.deleteById(this.pendingIds.get(i)) 
+					: this.insert(type, this.pendingSpawns.get(i));
+			if (changed) {
+				applied++;
+			}
+		}
+		this.pendingSpawns.clear();
+		this.pendingIds.clear();
+		this.pendingTypes.clear();
+		return applied;
+	}
+
+	@Override
+	public final int updateActivity(final double right) {
+		int woken = 0;
+		for (final GameEntities type : GameEntities.values()) {
+			final ComponentStore store = this.components.get(type);
+			if (type != GameEntities.PLAYER && type != GameEntities.BULLET) {
+				if (store.sleepPast(right)) {
+					this.resync(type);
+				}
+				woken += store.wakeUpTo(right);
+			}
+			store.advance();
+		}
+		return woken;
+	}
+
+	private boolean insert(final GameEntities type, final GameEntity entity) {
+		if (this.types.containsKey(entity.getId())) {
+			return false;
+		}
+		final List<GameEntity> entities = this.getContainer().get(type).get();
+		this.types.put(entity.getId(), type);
+		this.slots.put(entity.getId(), entities.size());
+		entities.add(entity);
+		this.components.get(type).attach(entity);
+		return true;
+	}
+
+	/*
+	 * Swap-remove: the last entity of the list takes the slot of the deleted one,
+	 * so nothing is shifted. The order of a list changes, but only as a function 
+	 * of the deletions made, which keeps ticks deterministic.
+	 */
+	private void remove(final GameEntities type, final int slot) {
+		final List<GameEntity> entities = this.getContainer().get(type).get();
+		final GameEntity deleted = entities.get(slot);
+		final ComponentStore store = this.components.get(type);
+		this.types.remove(deleted.getId());
+		this.slots.remove(deleted.getId());
+		if (slot < store.firstAwake()) {
+			// Dormant entities keep their order, refer to ComponentStore#detach.
+			store.detach(slot);
+			entities.remove(entities.size() - 1);
+			this.resync(type);
+			return;
+		}
+		final GameEntity last = entities.remove(entities.size() - 1);
+		if (last != deleted) {
+			entities.set(slot, last);
+			this.slots.put(last.getId(), slot);
+		}
+		store.detach(slot);
+	}
+
+	/*
+	 * Lays the list of a type out again as the slots of its store, after the store moved them.
+	 */
+	private void resync(final GameEntities type) {
+		final List<GameEntity> entities = this.getContainer().get(type).get();
+		final ComponentStore store = this.components.get(type);
+		for (int i = 0; i < store.size(); i++) {
+			final GameEntity entity = store.getEntity(i);
+			entities.set(i, entity);
+			this.slots.put(entity.getId(), i);
+		}
+	}
 	
 	/**
 	 * {@inheritDoc}
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import it.unibo.pensilina14.bullet.ballet.model.characters.Enemy;
 import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
+import it.unibo.pensilina14.bullet.ballet.model.entities.ComponentStore;
 import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
 import it.unibo.pensilina14.bullet.ballet.model.environment.Platform;
 import it.unibo.pensilina14.bullet.ballet.model.obstacle.Obstacle;
@@ -20,6 +21,14 @@ import it.unibo.pensilina14.bullet.ballet.model.weapon.Weapon;
  * 
  * This is a game-specific interface so it is supposed to 
  * give out all the different entities of the game.
+ * The lists handed out are views on the container itself: they cost 
+ * nothing to get, are never absent but can be empty, and they must not 
+ * be iterated while entities are added or deleted.
+ * 
+ * While a tick runs, entities are spawned and despawned through 
+ * {@link #spawn(PhysicalObject)} and {@link #despawn(int)}: the changes are 
+ * queued and only applied, in the order they were asked, by {@link #applyChanges()} 
+ * at the end of the tick, so the views never change under an iteration.
  */
 public interface EntityManager {
 	/**
@@ -31,39 +40,39 @@ public interface EntityManager {
 	/**
 	 * Enemies getter.
 	 * 
-	 * @return the enemies, refer to {@link Enemy}.
+	 * @return a read-only live view of the enemies, refer to {@link Enemy}.
 	 */
-	Optional<List<Enemy>> getEnemies();
+	List<Enemy> getEnemies();
 	/**
 	 * Pickup Items getter.
 	 * 
-	 * @return the PickupItem list, refer to {@link PickupItem}.
+	 * @return a read-only live view of the PickupItem list, refer to {@link PickupItem}.
 	 */
-	Optional<List<PickupItem>> getItems();
+	List<PickupItem> getItems();
 	/**
 	 * Obstacles getter.
 	 * 
-	 * @return the obstacles, refer to {@link ObstacleImpl}.
+	 * @return a read-only live view of the obstacles, refer to {@link ObstacleImpl}.
 	 */
-	Optional<List<ObstacleImpl>> getObstacles();
+	List<ObstacleImpl> getObstacles();
 	/**
 	 * Weapons getter.
 	 * 
-	 * @return the weapons, refer to {@link Weapon}.
+	 * @return a read-only live view of the weapons, refer to {@link Weapon}.
 	 */
-	Optional<List<Weapon>> getWeapons();
+	List<Weapon> getWeapons();
 	/**
 	 * Gets a {@link List} of {@link Bullet}(s).
 	 * 
-	 * @return the bullets in-game.
+	 * @return a read-only live view of the bullets in-game.
 	 */
-	Optional<List<Bullet>> getBullets();
+	List<Bullet> getBullets();
 	/**
 	 * Platforms getter.
 	 * 
-	 * @return the platforms, refer to {@link Platform}.
+	 * @return a read-only live view of the platforms, refer to {@link Platform}.
 	 */
-	Optional<List<Platform>> getPlatforms();
+	List<Platform> getPlatforms();
 	/**
 	 * Sets a given player({@link Player}).
 	 * 
@@ -117,14 +126,70 @@ public interface EntityManager {
 	 */
 	boolean addBullet(Bullet bullet);
 	/**
-	 * @return a {@link List<PhysicalObject>} that contains every object in the game.
+	 * @return a new {@link List<PhysicalObject>} that contains every object in the game.
+	 */
+	List<PhysicalObject> getObjsList();
+	/**
+	 * @param type the type of entity, refer to {@link GameEntities}.
+	 * @return the number of entities of the given type in the game.
 	 */
-	Optional<List<PhysicalObject>> getObjsList();
+	int count(GameEntities type);
 	/**
 	 * Deletes an entity from the container given its position.
+	 * Every entity is looked at and, if more than one sits at that position, 
+	 * only the first found is deleted: prefer {@link #deleteById(int)}.
 	 * @param pos {@link ImmutablePosition2D}
 	 * @return true if entity has been deleted successfully;
 	 * false if not.
 	 */
 	boolean deleteEntity(ImmutablePosition2D pos);
+	/**
+	 * Deletes an entity from the container given its identifier, in constant time.
+	 * The last entity of the same type takes the place of the deleted one.
+	 * 
+	 * @param id the identifier of the entity, refer to {@link PhysicalObject#getId()}.
+	 * @return true if entity has been deleted successfully;
+	 * false if there was no entity with that identifier.
+	 */
+	boolean deleteById(int id);
+	/**
+	 * @param id the identifier of an entity, refer to {@link PhysicalObject#getId()}.
+	 * @return whether the entity is in the container.
+	 */
+	boolean contains(int id);
+	/**
+	 * @param type the type of entity, refer to {@link GameEntities}.
+	 * @return the components of the entities of the given type, 
+	 * their slots are the indexes of the entities in the list of that type.
+	 */
+	ComponentStore getComponents(GameEntities type);
+	/**
+	 * Queues an entity to be added at the end of the tick.
+	 * 
+	 * @param obj the entity, its type is the one of the list it is added to.
+	 */
+	void spawn(PhysicalObject obj);
+	/**
+	 * Queues an entity to be deleted at the end of the tick, 
+	 * it is a no-op if it was already deleted by then.
+	 * 
+	 * @param id the identifier of the entity, refer to {@link PhysicalObject#getId()}.
+	 */
+	void despawn(int id);
+	/**
+	 * Applies every spawn and despawn queued since the last call.
+	 * 
+	 * @return the number of entities actually added or deleted.
+	 */
+	int applyChanges();
+	/**
+	 * Splits the entities of the level into awake and dormant ones: those whose left side 
+	 * is past the given coordinate are put to sleep, the others are woken. The player and 
+	 * the bullets are always awake. Dormant entities come first in their list, 
+	 * before {@link ComponentStore#firstAwake()}, and they are skipped by every update.
+	 * 
+	 * @param right the right edge of the window entities are awake in.
+	 * @return the number of entities woken.
+	 */
+	int updateActivity(double right);
 }
@@ -8,7 +8,8 @@ import org.apache.commons.lang3.tuple.MutablePair;
  */
 public interface MutablePosition2D {
   /*
-   * @return a {@link MutablePair} representing position.
+   * @return a {@link MutablePair} holding the coordinates of the position when called,
+   * changing it does not move the position.
    */
   MutablePair<Double, Double> getCoordinates();
   
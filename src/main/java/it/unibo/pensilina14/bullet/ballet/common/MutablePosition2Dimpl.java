@@ -1,46 +1,48 @@
 package it.unibo.pensilina14.bullet.ballet.common;
 
-import java.util.Optional;
 import org.apache.commons.lang3.tuple.MutablePair;
 
+/**
+ * Position kept in two primitive fields, it is moved in place without allocating.
+ */
 public class MutablePosition2Dimpl implements MutablePosition2D {
 
-    private Optional<MutablePair<Double, Double>> position;
+    private double x;
+    private double y;
 
     public MutablePosition2Dimpl(final double x, final double y) {
-        this.position = Optional.ofNullable(MutablePair.of(x, y));
+        this.x = x;
+        this.y = y;
     }
     
     public MutablePosition2Dimpl(final ImmutablePosition2D immutablePos) {
-        this.position = Optional.ofNullable(MutablePair.of(immutablePos.getX(), immutablePos.getY()));
+        this(immutablePos.getX(), immutablePos.getY());
     }
 
     @Override
     public MutablePair<Double, Double> getCoordinates() {
-        return this.position.get();
+        return MutablePair.of(this.x, this.y);
     }
 
     @Override
     public double getX() {
-        return this.position.get().getLeft();
+        return this.x;
     }
 
     @Override
     public double getY() {
-        return this.position.get().getRight();
+        return this.y;
     }
 
     @Override
     public void setPosition(final double x, final double y) {
-        this.position = Optional.ofNullable(MutablePair.of(x, y));
+        this.x = x;
+        this.y = y;
     }
 
 	@Override
 	public int hashCode() {
-		final int prime = 31;
-		int result = 1;
-		result = prime * result + ((position == null) ? 0 : position.hashCode());
-		return result;
+		return hashCode(this);
 	}
 	
 	@Override
@@ -48,18 +50,31 @@ public class MutablePosition2Dimpl implements MutablePosition2D {
 		if (this == obj) {
 			return true;
 		}
-		if (!(obj instanceof MutablePosition2Dimpl)) {
-			return false;
-		}
-		final MutablePosition2Dimpl other = (MutablePosition2Dimpl) obj;
-		if (position == null) {
-			if (other.position != null) {
-				return false;
-			}
-		} else if (!position.equals(other.position)) {
+		if (!(obj instanceof MutablePosition2D)) {
 			return false;
 		}
-		return true;
+		return samePosition(this, (MutablePosition2D) obj);
+	}
+
+	/**
+	 * Hash code shared by every {@link MutablePosition2D} implementation, 
+	 * positions with the same coordinates are equal whatever their class.
+	 * 
+	 * @param pos a position.
+	 * @return the hash code of its coordinates.
+	 */
+	public static int hashCode(final MutablePosition2D pos) {
+		final int prime = 31;
+		return prime + (Double.hashCode(pos.getX()) ^ Double.hashCode(pos.getY()));
+	}
+
+	/**
+	 * @param pos a position.
+	 * @param other another position.
+	 * @return whether the two positions have the same coordinates.
+	 */
+	public static boolean samePosition(final MutablePosition2D pos, final MutablePosition2D other) {
+		return Double.compare(pos.getX(), other.getX()) == 0 && Double.compare(pos.getY(), other.getY()) == 0;
 	}
 
 	@Override
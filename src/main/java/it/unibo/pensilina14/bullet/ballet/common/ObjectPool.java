@@ -0,0 +1,47 @@
+package it.unibo.pensilina14.bullet.ballet.common;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps objects that are no longer used, so that they can be handed out 
+ * again instead of building new ones, and counts how often that happens.
+ *
+ * @param <T> the type of the objects pooled.
+ */
+public interface ObjectPool<T> {
+	/**
+	 * Hands out an object released before, if there is one, or builds a new one.
+	 * 
+	 * @param factory builds a new object when the pool is empty.
+	 * @return the object, it is no longer in the pool.
+	 */
+	T acquire(Supplier<? extends T> factory);
+	/**
+	 * Gives an object back to the pool, it must no longer be used by the caller.
+	 * 
+	 * @param obj the object.
+	 * @return false if the object is already in the pool or the pool is full, 
+	 * in the latter case the object is left to the garbage collector.
+	 */
+	boolean release(T obj);
+	/**
+	 * @return the number of objects waiting in the pool.
+	 */
+	int getFree();
+	/**
+	 * @return the number of objects the pool can keep.
+	 */
+	int getCapacity();
+	/**
+	 * @return how many objects have been acquired.
+	 */
+	long getAcquired();
+	/**
+	 * @return how many of the objects acquired had been released before, instead of being built.
+	 */
+	long getHits();
+	/**
+	 * @return the share of the objects acquired that were reused, between 0 and 1.
+	 */
+	double getHitRate();
+}
@@ -0,0 +1,117 @@
+package it.unibo.pensilina14.bullet.ballet.common;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of {@link ObjectPool} with a fixed capacity.
+ * 
+ * {@inheritDoc}
+ *
+ * @param <T> the type of the objects pooled.
+ */
+public class ObjectPoolImpl<T> implements ObjectPool<T> {
+
+	private final int capacity;
+	private final Consumer<? super T> reset;
+	private final Deque<T> free;
+	/*
+	 * The same object may be released by more than one event, it is only pooled once.
+	 */
+	private final Set<T> pooled;
+	private long acquired;
+	private long hits;
+
+	/**
+	 * @param capacity the number of objects the pool can keep.
+	 * @param reset brings an object back to its initial state when it is released.
+	 */
+	public ObjectPoolImpl(final int capacity, final Consumer<? super T> reset) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Pool capacity must be positive.");
+		}
+		this.capacity = capacity;
+		this.reset = reset;
+		this.free = new ArrayDeque<>(capacity);
+		this.pooled = Collections.newSetFromMap(new IdentityHashMap<>(capacity));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T acquire(final Supplier<? extends T> factory) {
+		this.acquired++;
+		final T obj = this.free.pollFirst();
+		if (obj == null) {
+			return factory.get();
+		}
+		this.pooled.remove(obj);
+		this.hits++;
+		return obj;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean release(final T obj) {
+		if (this.free.size() >= this.capacity || !this.pooled.add(obj)) {
+			return false;
+		}
+		this.reset.accept(obj);
+		this.free.addFirst(obj);
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getFree() {
+		return this.free.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getAcquired() {
+		return this.acquired;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getHitRate() {
+		return this.acquired == 0 ? 0 : (double) this.hits / this.acquired;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d/%d free, %d acquired, %.1f%% reused", 
+				this.free.size(), this.capacity, this.acquired, this.getHitRate() * 100);
+	}
+}
@@ -0,0 +1,52 @@
+package it.unibo.pensilina14.bullet.ballet.common;
+
+/**
+ * How full an {@link ObjectPool} was and how well it was reused at some point, 
+ * it can be read by a thread other than the one using the pool.
+ */
+public final class PoolStatistics {
+
+	private final int free;
+	private final int capacity;
+	private final double hitRate;
+
+	/**
+	 * @param free the number of objects waiting in the pool.
+	 * @param capacity the number of objects the pool can keep.
+	 * @param hitRate the share of the objects acquired that were reused, between 0 and 1.
+	 */
+	public PoolStatistics(final int free, final int capacity, final double hitRate) {
+		this.free = free;
+		this.capacity = capacity;
+		this.hitRate = hitRate;
+	}
+
+	/**
+	 * @param pool the pool, it must be used by the calling thread.
+	 * @return the statistics of the pool as they are now.
+	 */
+	public static PoolStatistics of(final ObjectPool<?> pool) {
+		return new PoolStatistics(pool.getFree(), pool.getCapacity(), pool.getHitRate());
+	}
+
+	/**
+	 * @return the number of objects waiting in the pool.
+	 */
+	public int getFree() {
+		return this.free;
+	}
+
+	/**
+	 * @return the number of objects the pool can keep.
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * @return the share of the objects acquired that were reused, between 0 and 1.
+	 */
+	public double getHitRate() {
+		return this.hitRate;
+	}
+}
@@ -2,13 +2,21 @@ package it.unibo.pensilina14.bullet.ballet.common;
 
 import java.util.Optional;
 
+/**
+ * Moves its position in place, neither summing vectors nor reading the position allocates.
+ */
 public class SpeedVector2DImpl implements SpeedVector2D{
 
     private final MutablePosition2D position;
+    /*
+     * The position never changes, it is wrapped once.
+     */
+    private final Optional<MutablePosition2D> optionalPosition;
     private final double speed;
     
     public SpeedVector2DImpl(final MutablePosition2D position, final double speed) {
         this.position = position;
+        this.optionalPosition = Optional.of(position);
         this.speed = speed;
     }
 
@@ -25,12 +33,11 @@ public class SpeedVector2DImpl implements SpeedVector2D{
     @Override
     public void noSpeedVectorSum(final double x, final double y) {
         this.position.setPosition(this.position.getX() + x, this.position.getY() + y);
-        
     }
 
     @Override
     public Optional<MutablePosition2D> getPosition() {
-        return Optional.of(this.position);
+        return this.optionalPosition;
     }
 
 }
@@ -1,7 +1,8 @@
 package it.unibo.pensilina14.bullet.ballet.common;
 
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Map.Entry;
@@ -12,6 +13,19 @@ import it.unibo.pensilina14.bullet.ballet.graphics.sprite.PhysicalObjectSprite;
 
 public class SpriteContainer extends AbstractContainer<ImmutablePair<PhysicalObjectSprite, MutablePosition2D>> implements SpriteManager {
 
+	/*
+	 * Index of every sprite stored: its type and its slot in the list of that type. 
+	 * Sprites are nodes of the scene, they are told apart by identity.
+	 */
+	private final Map<PhysicalObjectSprite, GameEntities> types;
+	private final Map<PhysicalObjectSprite, Integer> slots;
+
+	public SpriteContainer() {
+		super();
+		this.types = new IdentityHashMap<>();
+		this.slots = new IdentityHashMap<>();
+	}
+
     @Override
     public final Optional<List<ImmutablePair<PhysicalObjectSprite, MutablePosition2D>>> getPlayerSprite() {
         return this.getSpritesFromContainer(GameEntities.PLAYER);
@@ -91,24 +105,23 @@ public class SpriteContainer extends AbstractContainer<ImmutablePair<PhysicalObj
 	}
 	
 	private boolean addSpriteToContainer(final GameEntities entityType, final PhysicalObjectSprite sprite, final MutablePosition2D spritePosition) {
-		final ImmutablePair<PhysicalObjectSprite, MutablePosition2D> spriteAndItsPosition = new ImmutablePair<>(sprite, spritePosition);
-		if (this.getContainer().get(entityType).get().contains(spriteAndItsPosition)) {
+		if (this.types.containsKey(sprite)) {
 			return false;
-		} else {
-			this.getContainer().get(entityType).get().add(spriteAndItsPosition);
-			return true;
 		}
+		final List<ImmutablePair<PhysicalObjectSprite, MutablePosition2D>> sprites = this.getContainer().get(entityType).get();
+		this.types.put(sprite, entityType);
+		this.slots.put(sprite, sprites.size());
+		sprites.add(new ImmutablePair<>(sprite, spritePosition));
+		return true;
 	}
 
 	@Override
 	public final Optional<PhysicalObjectSprite> deleteSprite(final MutablePosition2D targetPosition) {
 		for (final Entry<GameEntities, Optional<List<ImmutablePair<PhysicalObjectSprite, MutablePosition2D>>>> entry : this.getContainer().entrySet()) {
 			if (entry.getValue().isPresent()) {
-				final Iterator<ImmutablePair<PhysicalObjectSprite, MutablePosition2D>> iter = entry.getValue().get().iterator();
-				while (iter.hasNext()) {
-					final ImmutablePair<PhysicalObjectSprite, MutablePosition2D> spriteAndItsPosition = iter.next();
+				for (final ImmutablePair<PhysicalObjectSprite, MutablePosition2D> spriteAndItsPosition : entry.getValue().get()) {
 					if (spriteAndItsPosition.getRight().equals(targetPosition)) {
-						iter.remove();
+						this.deleteSprite(spriteAndItsPosition.getLeft());
 						return Optional.ofNullable(spriteAndItsPosition.getLeft());
 					}
 				}
@@ -118,4 +131,26 @@ public class SpriteContainer extends AbstractContainer<ImmutablePair<PhysicalObj
 		}
 		return Optional.empty();
 	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * The sprite is found through the index, without going through the sprites of any type.
+	 */
+	@Override
+	public final boolean deleteSprite(final PhysicalObjectSprite sprite) {
+		final GameEntities type = this.types.remove(sprite);
+		if (type == null) {
+			return false;
+		}
+		final int slot = this.slots.remove(sprite);
+		// Swap-remove: the last sprite of the list takes the slot of the deleted one, so nothing is shifted.
+		final List<ImmutablePair<PhysicalObjectSprite, MutablePosition2D>> sprites = this.getContainer().get(type).get();
+		final ImmutablePair<PhysicalObjectSprite, MutablePosition2D> last = sprites.remove(sprites.size() - 1);
+		if (last.getLeft() != sprite) {
+			sprites.set(slot, last);
+			this.slots.put(last.getLeft(), slot);
+		}
+		return true;
+	}
 }
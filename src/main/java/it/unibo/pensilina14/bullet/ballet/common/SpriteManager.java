@@ -26,4 +26,10 @@ public interface SpriteManager {
     boolean addBulletSprite(PhysicalObjectSprite bulletSprite, MutablePosition2D position);
 
     Optional<PhysicalObjectSprite> deleteSprite(MutablePosition2D targetPosition);
+    /**
+     * Deletes the given sprite, whatever the position it is stored with.
+     * @param sprite the sprite to delete.
+     * @return true if the sprite was stored.
+     */
+    boolean deleteSprite(PhysicalObjectSprite sprite);
 }
@@ -0,0 +1,108 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+/**
+ * {@link RenderScheduler} that skips frames whose render would not fit in the frame budget.
+ *
+ * The cost of a render is estimated with an exponential moving average of the 
+ * last renders. When the model update of a pulse plus that estimate exceeds 
+ * the budget the frame is skipped, but never so many in a row that the 
+ * display drops below the minimum frame rate.
+ */
+public class AdaptiveRenderScheduler implements RenderScheduler {
+	/**
+	 * Frames per second always rendered by default, no matter how expensive rendering is.
+	 */
+	public static final int DEFAULT_MIN_FPS = 20;
+	/**
+	 * Name of the system property used to choose the minimum frame rate, 
+	 * for instance {@code -Dbulletballet.minfps=30}.
+	 */
+	public static final String PROPERTY = "bulletballet.minfps";
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	/**
+	 * Weight of the last render in the estimate, as a power of two: 1/8.
+	 */
+	private static final int SMOOTHING_SHIFT = 3;
+
+	private final long frameBudget;
+	private final long maxFrameGap;
+	private long renderEstimate;
+	private long lastRender;
+	private boolean started;
+	private long skippedFrames;
+
+	public AdaptiveRenderScheduler() {
+		this(DEFAULT_MIN_FPS, NANOS_PER_SECOND / FixedTimestepScheduler.DEFAULT_TICK_RATE);
+	}
+
+	/**
+	 * @param minFps frames per second rendered even when over budget.
+	 * @param frameBudget time available to a pulse, model update and render together, in nanoseconds.
+	 */
+	public AdaptiveRenderScheduler(final int minFps, final long frameBudget) {
+		if (minFps <= 0 || frameBudget <= 0) {
+			throw new IllegalArgumentException("Minimum frame rate and frame budget must be positive.");
+		}
+		this.frameBudget = frameBudget;
+		this.maxFrameGap = NANOS_PER_SECOND / minFps;
+		this.reset();
+	}
+
+	/**
+	 * @return a scheduler with the minimum frame rate given by the {@link #PROPERTY} 
+	 * system property, {@link #DEFAULT_MIN_FPS} if it is missing or invalid, 
+	 * and a tick at {@link FixedTimestepScheduler#DEFAULT_TICK_RATE} as frame budget.
+	 */
+	public static AdaptiveRenderScheduler fromSystemProperty() {
+		return fromSystemProperty(NANOS_PER_SECOND / FixedTimestepScheduler.DEFAULT_TICK_RATE);
+	}
+
+	/**
+	 * @param frameBudget time available to a pulse, model update and render together, in nanoseconds:
+	 * usually the duration of a tick of the {@link GameLoopScheduler} driving the loop.
+	 * @return a scheduler with the minimum frame rate given by the {@link #PROPERTY} 
+	 * system property, {@link #DEFAULT_MIN_FPS} if it is missing or invalid.
+	 */
+	public static AdaptiveRenderScheduler fromSystemProperty(final long frameBudget) {
+		final int minFps = Integer.getInteger(PROPERTY, DEFAULT_MIN_FPS);
+		return new AdaptiveRenderScheduler(minFps > 0 ? minFps : DEFAULT_MIN_FPS, frameBudget);
+	}
+
+	@Override
+	public final boolean shouldRender(final long now, final long updateNanos) {
+		if (!this.started || now - this.lastRender >= this.maxFrameGap
+				|| updateNanos + this.renderEstimate <= this.frameBudget) {
+			return true;
+		}
+		this.skippedFrames++;
+		return false;
+	}
+
+	@Override
+	public final void rendered(final long now, final long renderNanos) {
+		if (this.renderEstimate == 0) {
+			this.renderEstimate = renderNanos;
+		} else {
+			this.renderEstimate += (renderNanos - this.renderEstimate) >> SMOOTHING_SHIFT;
+		}
+		this.lastRender = now;
+		this.started = true;
+	}
+
+	@Override
+	public final long getSkippedFrames() {
+		return this.skippedFrames;
+	}
+
+	/**
+	 * @return the estimated cost of a render, in nanoseconds.
+	 */
+	public final long getRenderEstimate() {
+		return this.renderEstimate;
+	}
+
+	@Override
+	public final void reset() {
+		this.started = false;
+	}
+}
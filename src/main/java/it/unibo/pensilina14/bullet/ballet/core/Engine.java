@@ -9,6 +9,11 @@ public interface Engine {
 	 * Engine mainLoop that follows this execution processInput, updateGame, render.
 	 */
 	void mainLoop();
+	/**
+	 * Reads the keys held, pressed and released since the last pulse and hands their commands 
+	 * to the engine. It is called on every pulse of the timer, whether or not a frame is rendered.
+	 */
+	void sampleInput();
 	/**
 	 * Processes input commands.
 	 */
@@ -21,6 +26,13 @@ public interface Engine {
 	 * Renders sprites and map in a GUI.
 	 */
 	void render();
+	/**
+	 * Renders sprites and map in a GUI, handing the view how far the clock went
+	 * past the last model tick.
+	 * 
+	 * @param interpolation fraction of a tick, in the range [0, 1), elapsed since the last update.
+	 */
+	void render(double interpolation);
 	/**
 	 * Starts the engine timer.
 	 */
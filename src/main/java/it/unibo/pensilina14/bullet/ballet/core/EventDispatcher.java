@@ -0,0 +1,44 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEventHandler;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvents;
+
+/**
+ * Contract for classes that queue {@link GameEvent}s and hand 
+ * each of them to the handler registered for its type.
+ */
+public interface EventDispatcher {
+	/**
+	 * Registers the handler for a type of event, replacing the previous one if any.
+	 * 
+	 * @param type the type of event.
+	 * @param handler the handler invoked for every event of that type.
+	 */
+	void register(GameEvents type, GameEventHandler handler);
+	/**
+	 * Queues an event, it will be handled on the next {@link #dispatch()}.
+	 * 
+	 * @param e the event.
+	 */
+	void enqueue(GameEvent e);
+	/**
+	 * Hands every queued event to its handler, in the order events were queued, 
+	 * and then empties the queue. Events with no handler are discarded.
+	 */
+	void dispatch();
+	/**
+	 * @param type the type of event.
+	 * @return the number of events of the given type handled by the last {@link #dispatch()}.
+	 */
+	int getLastCount(GameEvents type);
+	/**
+	 * @param type the type of event.
+	 * @return the number of events of the given type handled since creation or the last {@link #resetCounts()}.
+	 */
+	long getTotalCount(GameEvents type);
+	/**
+	 * Sets every count back to zero.
+	 */
+	void resetCounts();
+}
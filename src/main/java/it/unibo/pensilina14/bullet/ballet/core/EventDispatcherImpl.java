@@ -0,0 +1,99 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+import java.util.Arrays;
+
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEventHandler;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvents;
+
+/**
+ * {@inheritDoc}
+ * 
+ * Handlers and counters are arrays indexed by {@link GameEvents#ordinal()}, 
+ * the queue is an array that grows when needed and is reused on every dispatch.
+ */
+public class EventDispatcherImpl implements EventDispatcher {
+	/**
+	 * Initial capacity of the queue.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final GameEventHandler[] handlers;
+	private final int[] lastCounts;
+	private final long[] totalCounts;
+	private GameEvent[] queue;
+	private int size;
+
+	public EventDispatcherImpl() {
+		final int types = GameEvents.values().length;
+		this.handlers = new GameEventHandler[types];
+		this.lastCounts = new int[types];
+		this.totalCounts = new long[types];
+		this.queue = new GameEvent[INITIAL_CAPACITY];
+		this.size = 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void register(final GameEvents type, final GameEventHandler handler) {
+		this.handlers[type.ordinal()] = handler;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void enqueue(final GameEvent e) {
+		if (this.size == this.queue.length) {
+			this.queue = Arrays.copyOf(this.queue, this.queue.length * 2);
+		}
+		this.queue[this.size++] = e;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispatch() {
+		Arrays.fill(this.lastCounts, 0);
+		// Events queued by a handler are dispatched within this same call.
+		for (int i = 0; i < this.size; i++) {
+			final GameEvent e = this.queue[i];
+			final int type = e.getType().ordinal();
+			this.lastCounts[type]++;
+			this.totalCounts[type]++;
+			if (this.handlers[type] != null) {
+				this.handlers[type].handle(e);
+			}
+		}
+		Arrays.fill(this.queue, 0, this.size, null);
+		this.size = 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getLastCount(final GameEvents type) {
+		return this.lastCounts[type.ordinal()];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getTotalCount(final GameEvents type) {
+		return this.totalCounts[type.ordinal()];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void resetCounts() {
+		Arrays.fill(this.lastCounts, 0);
+		Arrays.fill(this.totalCounts, 0);
+	}
+}
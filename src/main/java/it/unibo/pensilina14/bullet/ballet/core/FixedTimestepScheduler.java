@@ -0,0 +1,93 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+/**
+ * Accumulator based implementation of {@link GameLoopScheduler}.
+ *
+ * Elapsed time is collected in an accumulator and consumed in slices
+ * of exactly one tick, so the model always advances by the same step
+ * no matter how often the timer pulses. When the game stalls, at most
+ * {@link #getMaxStepsPerPulse()} ticks are run in a pulse and the
+ * rest of the backlog is dropped, so a slow frame cannot spiral.
+ */
+public class FixedTimestepScheduler implements GameLoopScheduler {
+	/**
+	 * Model ticks per second used by default, it matches the speeds entities were tuned for.
+	 */
+	public static final int DEFAULT_TICK_RATE = 60;
+	/**
+	 * Maximum number of ticks run in a single pulse by default.
+	 */
+	public static final int DEFAULT_MAX_STEPS = 5;
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private final long tickDuration;
+	private final int maxStepsPerPulse;
+	private long accumulator;
+	private long lastTime;
+	private boolean started;
+	private long droppedTicks;
+
+	public FixedTimestepScheduler() {
+		this(DEFAULT_TICK_RATE, DEFAULT_MAX_STEPS);
+	}
+
+	/**
+	 * @param tickRate number of model ticks per second.
+	 * @param maxStepsPerPulse cap on the ticks run in a single pulse when catching up.
+	 */
+	public FixedTimestepScheduler(final int tickRate, final int maxStepsPerPulse) {
+		if (tickRate <= 0 || maxStepsPerPulse <= 0) {
+			throw new IllegalArgumentException("Tick rate and max steps per pulse must be positive.");
+		}
+		this.tickDuration = NANOS_PER_SECOND / tickRate;
+		this.maxStepsPerPulse = maxStepsPerPulse;
+		this.reset();
+	}
+
+	@Override
+	public final int advance(final long now) {
+		if (!this.started) {
+			this.lastTime = now;
+			this.started = true;
+			return 0;
+		}
+		// A clock going backwards is treated as no time elapsed.
+		this.accumulator += Math.max(0, now - this.lastTime);
+		this.lastTime = now;
+		final int steps = (int) Math.min(this.accumulator / this.tickDuration, this.maxStepsPerPulse);
+		this.accumulator -= steps * this.tickDuration;
+		if (this.accumulator >= this.tickDuration) {
+			this.droppedTicks += this.accumulator / this.tickDuration;
+			this.accumulator %= this.tickDuration;
+		}
+		return steps;
+	}
+
+	@Override
+	public final double getInterpolation() {
+		return (double) this.accumulator / this.tickDuration;
+	}
+
+	@Override
+	public final long getTickDuration() {
+		return this.tickDuration;
+	}
+
+	@Override
+	public final long getDroppedTicks() {
+		return this.droppedTicks;
+	}
+
+	/**
+	 * @return the cap on the ticks run in a single pulse.
+	 */
+	public final int getMaxStepsPerPulse() {
+		return this.maxStepsPerPulse;
+	}
+
+	@Override
+	public final void reset() {
+		this.accumulator = 0;
+		this.started = false;
+	}
+}
@@ -2,18 +2,16 @@ package it.unibo.pensilina14.bullet.ballet.core;
 
 import java.io.IOException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
 
 import it.unibo.pensilina14.bullet.ballet.AnimationTimerImpl;
-import it.unibo.pensilina14.bullet.ballet.common.ImmutablePosition2Dimpl;
-import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2D;
-import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.RenderTimer;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.core.controller.ModelController;
 import it.unibo.pensilina14.bullet.ballet.core.controller.ModelControllerImpl;
 import it.unibo.pensilina14.bullet.ballet.core.controller.ViewController;
@@ -32,8 +30,11 @@ import it.unibo.pensilina14.bullet.ballet.model.environment.events.BulletHitsEne
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.BulletHitsObstacleEvent;
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.BulletHitsPlatformEvent;
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.EnemyHitsPlatformEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.EntityEntersWorldEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.EntityLeavesWorldEvent;
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvent;
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEventListener;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvents;
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameOverEvent;
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.PlayerHitsEnemyEvent;
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.PlayerHitsItemEvent;
@@ -41,13 +42,20 @@ import it.unibo.pensilina14.bullet.ballet.model.environment.events.PlayerHitsObs
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.PlayerHitsWeaponEvent;
 import it.unibo.pensilina14.bullet.ballet.save.Save;
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.PlayerHitsPlatformEvent;
 import it.unibo.pensilina14.bullet.ballet.model.obstacle.Obstacle;
 import it.unibo.pensilina14.bullet.ballet.model.obstacle.ObstacleImpl;
 import it.unibo.pensilina14.bullet.ballet.model.score.ScoreSystem;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.Bullet;
 import it.unibo.pensilina14.bullet.ballet.model.weapon.Item;
 import it.unibo.pensilina14.bullet.ballet.model.weapon.Items;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.PickupItem;
 import it.unibo.pensilina14.bullet.ballet.model.weapon.Weapon;
+import it.unibo.pensilina14.bullet.ballet.profiling.EnginePhases;
+import it.unibo.pensilina14.bullet.ballet.profiling.FrameProfiler;
+import it.unibo.pensilina14.bullet.ballet.profiling.FrameProfilerImpl;
+import it.unibo.pensilina14.bullet.ballet.replay.ReplayRecorder;
 import it.unibo.pensilina14.bullet.ballet.sounds.Sound;
 import it.unibo.pensilina14.bullet.ballet.sounds.Sounds;
 import it.unibo.pensilina14.bullet.ballet.sounds.SoundsFactory;
@@ -65,43 +73,116 @@ public class GameEngine implements InputController, GameEventListener, Engine {
      * Constant used to define command queue capacity.
      */
 	private static final int QUEUE_CAPACITY = 100;
+	/**
+	 * Name of the system property that has collisions checked on the common {@link ForkJoinPool}, 
+	 * for instance {@code -Dbulletballet.parallelCollisions=true}.
+	 */
+	public static final String PARALLEL_COLLISIONS = "bulletballet.parallelCollisions";
 
 	private Optional<ViewController> viewController;
 	private Optional<ModelController> modelController;
 	private final SoundsFactory soundsFactory;
 	private final Sound soundtrack;
-	private final BlockingQueue<Command> cmdQueue;
 	/**
-	 * Data structure, for instance a {@link List}, whose goal is to
-	 * store all the incoming events from the model and view. 
+	 * Collects the commands coming from the view until the next tick.
+	 */
+	private final InputStage input;
+	/**
+	 * Stores all the incoming events from the model and view 
+	 * and hands them to the handlers registered in {@link #registerEventHandlers()}.
 	 */
-	private final List<GameEvent> eventQueue;
+	private final EventDispatcher eventDispatcher;
 	/**
 	 * This is the timer that temporizes the program.
 	 */
 	private final Optional<AnimationTimer> timer;
+	private final SimulationMode simulationMode;
+	/**
+	 * Hands the state of the game from the simulation thread to the view, 
+	 * only used in {@link SimulationMode#DEDICATED_THREAD} mode.
+	 */
+	private final SnapshotBuffer snapshots;
+	private Optional<SimulationThread> simulation;
+	/**
+	 * Times every phase of the loop, refer to {@link EnginePhases}.
+	 */
+	private final FrameProfiler profiler;
+	private long lastRenderStart;
+	/**
+	 * Writes the game to a replay, refer to {@link #startRecording(ReplayRecorder)}.
+	 */
+	private Optional<ReplayRecorder> recorder;
+	/**
+	 * Runs saves and asset loading off the thread driving the loop.
+	 */
+	private final ServiceExecutor services;
+	/**
+	 * Bullets despawned in the current tick, they go back to the pool of the 
+	 * environment once they have been removed from it.
+	 */
+	private final List<Bullet> spentBullets;
 	
 	/*
 	 * CONSTRUCTORS
 	 */
 	public GameEngine() {
-		this.cmdQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
-		this.eventQueue = new LinkedList<>();
-		this.viewController = Optional.empty();
-		this.modelController = Optional.empty();
-		this.timer = Optional.of(new AnimationTimerImpl(this));
-		this.soundsFactory = new SoundsFactoryImpl();
-		this.soundtrack = this.soundsFactory.createRandomSoundtrack();
+		this(Optional.empty(), Optional.empty(), SimulationMode.FX_THREAD, new SoundsFactoryImpl(), new ServiceExecutorImpl(), true);
 	}
 	
 	public GameEngine(final ViewController view, final ModelController game) {
-		this.cmdQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
-		this.eventQueue = new LinkedList<>();
-		this.viewController = Optional.of(view);
-		this.modelController = Optional.of(game);
-		this.timer = Optional.of(new AnimationTimerImpl(this));
-		this.soundsFactory = new SoundsFactoryImpl();
+		this(view, game, SimulationMode.FX_THREAD);
+	}
+	
+	/**
+	 * @param view the view controller.
+	 * @param game the model controller.
+	 * @param mode where model updates are run, refer to {@link SimulationMode}.
+	 */
+	public GameEngine(final ViewController view, final ModelController game, final SimulationMode mode) {
+		this(Optional.of(view), Optional.of(game), mode, new SoundsFactoryImpl(), new ServiceExecutorImpl(), true);
+	}
+	
+	/**
+	 * Builds an engine that is not bound to an {@link AnimationTimer}, 
+	 * whoever owns it is in charge of calling {@link #setup()} and then the loop methods. 
+	 * Game statistics are not saved by such an engine.
+	 * 
+	 * @param view the view controller, it can be a stand-in that draws nothing.
+	 * @param game the model controller.
+	 * @param soundsFactory the factory used to create every sound played by the engine.
+	 */
+	public GameEngine(final ViewController view, final ModelController game, final SoundsFactory soundsFactory) {
+		this(Optional.of(view), Optional.of(game), SimulationMode.FX_THREAD, soundsFactory, 
+				new ServiceExecutorImpl(ServiceExecutorImpl.DEFAULT_WORKERS, Runnable::run), false);
+	}
+	
+	/**
+	 * @param timed whether the engine is driven by its own {@link AnimationTimer}, 
+	 * one that suits the simulation mode.
+	 */
+	private GameEngine(final Optional<ViewController> view, final Optional<ModelController> game, final SimulationMode mode,
+			final SoundsFactory soundsFactory, final ServiceExecutor services, final boolean timed) {
+		this.input = new InputStage(QUEUE_CAPACITY);
+		this.eventDispatcher = new EventDispatcherImpl();
+		this.viewController = view;
+		this.modelController = game;
+		this.simulationMode = mode;
+		this.snapshots = new SnapshotBuffer();
+		this.simulation = Optional.empty();
+		this.recorder = Optional.empty();
+		this.spentBullets = new ArrayList<>();
+		this.services = services;
+		this.profiler = new FrameProfilerImpl();
+		this.soundsFactory = soundsFactory;
+		if (!timed) {
+			this.timer = Optional.empty();
+		} else if (mode == SimulationMode.DEDICATED_THREAD) {
+			this.timer = Optional.of(new RenderTimer(this));
+		} else {
+			this.timer = Optional.of(new AnimationTimerImpl(this));
+		}
 		this.soundtrack = this.soundsFactory.createRandomSoundtrack();
+		this.registerEventHandlers();
 	}
 	
 	@Override
@@ -126,6 +207,11 @@ public class GameEngine implements InputController, GameEventListener, Engine {
 			this.modelController.get().setEventListener(this);
 			AppLogger.getAppLogger().debug("Game state present, event listener set only.");
 		}
+		this.getEnvironment().setProfiler(this.profiler);
+		if (Boolean.getBoolean(PARALLEL_COLLISIONS)) {
+			this.getEnvironment().setCollisionPool(ForkJoinPool.commonPool());
+		}
+		this.soundsFactory.preload(this.services);
 	}
 	
 	@Override
@@ -141,78 +227,177 @@ public class GameEngine implements InputController, GameEventListener, Engine {
 		// GAME OVER
 	}
 	
+	@Override
+	public final void sampleInput() {
+		this.viewController.ifPresent(ViewController::sampleInput);
+	}
+
 	@Override
 	public final void processInput() {
-		final Command cmd = this.cmdQueue.poll();
-		if (cmd != null) {
-			cmd.execute(this.modelController.get().getGameState().get());
-		}
+		final long start = System.nanoTime();
+		this.input.drain(this.modelController.get().getGameState().get());
+		this.profiler.record(EnginePhases.INPUT, System.nanoTime() - start);
 	}
 	
 	@Override
 	public final void updateGame() {
 		if (this.modelController.get().getGameState().get().isGameOver()) {
-			this.timer.get().stop();
+			this.stopTimer();
 		}
-		if (!this.soundtrack.getAudioClip().isPlaying()) {
+		if (!this.soundtrack.isPlaying()) {
 			this.soundtrack.play();
 		}
 		this.modelController.get().update();
 		this.checkEvents();
+		this.modelController.get().getGameEnvironment().getEntityManager().applyChanges();
+		this.releaseSpentBullets();
+		if (this.recorder.isPresent()) {
+			this.recorder.get().endTick(this.modelController.get().getGameState().get());
+		}
 	}
 	
 
 	@Override
 	public final void render() {
-		this.viewController.get().render();
+		final long start = this.startFrame();
+		if (this.simulationMode == SimulationMode.DEDICATED_THREAD) {
+			this.viewController.get().render(this.snapshots.acquire());
+		} else {
+			this.viewController.get().render();
+		}
+		this.endFrame(start);
+	}
+
+	@Override
+	public final void render(final double interpolation) {
+		final long start = this.startFrame();
+		this.viewController.get().render(interpolation);
+		this.endFrame(start);
 	}
 	
 	@Override
 	public final void notifyCommand(final Command cmd) {
-        this.cmdQueue.add(cmd);
+		if (!this.input.push(cmd)) {
+			AppLogger.getAppLogger().warn("Command queue full, " + cmd.getClass().getSimpleName() + " dropped.");
+		}
+	}
+
+	@Override
+	public final void holdCommand(final Command cmd) {
+		this.input.hold(cmd);
+	}
+
+	@Override
+	public final void releaseCommand(final Command cmd) {
+		this.input.release(cmd);
 	}
 
 	@Override
 	public final void notifyEvent(final GameEvent e) {
-		this.eventQueue.add(e);
+		this.eventDispatcher.enqueue(e);
 	}
 	
-	private void checkEvents() {
-		final Environment env = this.modelController.get().getGameEnvironment();
-		AppLogger.getAppLogger().debug(this.eventQueue.toString());
-		this.eventQueue.stream().forEach(e -> {
-			if (e instanceof PlayerHitsItemEvent) {
-				try {
-					playerHitsPickUpObjEventHandler(env, e);
-				} catch (IOException e1) {
-					// TODO Auto-generated catch block
-					e1.printStackTrace();
-				}
-			} else if (e instanceof PlayerHitsEnemyEvent) {
-				playerHitsEnemyEventHandler(e);
-			} else if (e instanceof PlayerHitsObstacleEvent) {
-				playerHitsObstacleEventHandler(e);
-			} else if (e instanceof PlayerHitsWeaponEvent) {
-				playerHitsWeaponEventHandler(env, e);
-			} else if (e instanceof BulletHitsEnemyEvent) {
-				bulletHitsEnemyEventHandler(env, e);
-			} else if (e instanceof PlayerHitsPlatformEvent) {
-				playerHitsPlatformEventHandler(env, e);
-			} else if (e instanceof EnemyHitsPlatformEvent) {
-				enemyHitsPlatformEventHandler(env, e);
-			} else if (e instanceof BulletHitsPlatformEvent) {
-				bulletHitsPlatformEventHandler(env, e);
-			} else if (e instanceof GameOverEvent) {
-				try {
-					gameOverEventHandler(e);
-				} catch (IOException e1) {
-					e1.printStackTrace();
-				}
-			} else if (e instanceof BulletHitsObstacleEvent) {
-				bulletHitsObstacleEventHandler(env, e);
+	/**
+	 * Handles, and then discards, every event notified since the last call.
+	 */
+	final void checkEvents() {
+		final long start = System.nanoTime();
+		this.eventDispatcher.dispatch();
+		this.profiler.record(EnginePhases.EVENTS, System.nanoTime() - start);
+	}
+	
+	/**
+	 * @return the dispatcher of the events notified to this engine, it keeps count of them by type.
+	 */
+	public final EventDispatcher getEventDispatcher() {
+		return this.eventDispatcher;
+	}
+	
+	/**
+	 * Records the game from the next tick on, until it is over or {@link #stopRecording()} is called.
+	 * 
+	 * @param replayRecorder the recorder, it must have been built on the game state of this engine.
+	 */
+	public final void startRecording(final ReplayRecorder replayRecorder) {
+		this.stopRecording();
+		this.recorder = Optional.of(replayRecorder);
+		this.input.setRecorder(this.recorder);
+	}
+	
+	/**
+	 * Ends the recording of the game, if any, and closes the replay.
+	 */
+	public final void stopRecording() {
+		if (this.recorder.isPresent()) {
+			this.input.setRecorder(Optional.empty());
+			this.recorder.get().close();
+			this.recorder = Optional.empty();
+		}
+	}
+	
+	/**
+	 * @return the executor running the background work of this engine.
+	 */
+	public final ServiceExecutor getServices() {
+		return this.services;
+	}
+	
+	/**
+	 * @return the profiler timing the phases of the loop run by this engine.
+	 */
+	public final FrameProfiler getProfiler() {
+		return this.profiler;
+	}
+	
+	private long startFrame() {
+		final long start = System.nanoTime();
+		if (this.lastRenderStart != 0) {
+			this.profiler.record(EnginePhases.FRAME, start - this.lastRenderStart);
+		}
+		this.lastRenderStart = start;
+		return start;
+	}
+	
+	private void endFrame(final long start) {
+		this.profiler.record(EnginePhases.RENDER, System.nanoTime() - start);
+		this.profiler.endFrame();
+	}
+	
+	private void registerEventHandlers() {
+		this.eventDispatcher.register(GameEvents.PLAYER_HITS_ITEM, e -> {
+			try {
+				playerHitsPickUpObjEventHandler(this.getEnvironment(), e);
+			} catch (IOException e1) {
+				e1.printStackTrace();
+			}
+		});
+		this.eventDispatcher.register(GameEvents.PLAYER_HITS_ENEMY, this::playerHitsEnemyEventHandler);
+		this.eventDispatcher.register(GameEvents.PLAYER_HITS_OBSTACLE, this::playerHitsObstacleEventHandler);
+		this.eventDispatcher.register(GameEvents.PLAYER_HITS_WEAPON, e -> playerHitsWeaponEventHandler(this.getEnvironment(), e));
+		this.eventDispatcher.register(GameEvents.BULLET_HITS_ENEMY, e -> bulletHitsEnemyEventHandler(this.getEnvironment(), e));
+		this.eventDispatcher.register(GameEvents.PLAYER_HITS_PLATFORM, e -> playerHitsPlatformEventHandler(this.getEnvironment(), e));
+		this.eventDispatcher.register(GameEvents.ENEMY_HITS_PLATFORM, e -> enemyHitsPlatformEventHandler(this.getEnvironment(), e));
+		this.eventDispatcher.register(GameEvents.BULLET_HITS_PLATFORM, e -> bulletHitsPlatformEventHandler(this.getEnvironment(), e));
+		this.eventDispatcher.register(GameEvents.GAME_OVER, e -> {
+			try {
+				gameOverEventHandler(e);
+			} catch (IOException e1) {
+				e1.printStackTrace();
 			}
 		});
-		this.eventQueue.clear();
+		this.eventDispatcher.register(GameEvents.BULLET_HITS_OBSTACLE, e -> bulletHitsObstacleEventHandler(this.getEnvironment(), e));
+		this.eventDispatcher.register(GameEvents.ENTITY_ENTERS_WORLD, e -> {
+			try {
+				entityEntersWorldEventHandler(e);
+			} catch (IOException e1) {
+				e1.printStackTrace();
+			}
+		});
+		this.eventDispatcher.register(GameEvents.ENTITY_LEAVES_WORLD, this::entityLeavesWorldEventHandler);
+	}
+	
+	private Environment getEnvironment() {
+		return this.modelController.get().getGameEnvironment();
 	}
 	
 	private void enemyHitsPlatformEventHandler(final Environment env, final GameEvent e) {
@@ -222,10 +407,18 @@ public class GameEngine implements InputController, GameEventListener, Engine {
 	}
 	
 	private void playerHitsPlatformEventHandler(final Environment env, final GameEvent e) {
-		final Player player = ((PlayerHitsPlatformEvent) e).getPlayer();
-		final CollisionSides side = ((PlayerHitsPlatformEvent) e).getCollisionSide();
+		final PlayerHitsPlatformEvent hit = (PlayerHitsPlatformEvent) e;
+		final Player player = hit.getPlayer();
+		final CollisionSides side = hit.getCollisionSide();
 		if (side == CollisionSides.WEST) {
 			player.blockX();
+		} else if (side == CollisionSides.NORTH && hit.isSwept()) {
+			/*
+			 * Jumped through the platform within the tick: the player is stopped under it and keeps falling,
+			 * landing on it would let the player jump again in mid-air.
+			 */
+			player.getPosition().get().setPosition(player.getPosition().get().getX(), 
+					hit.getPlatform().getPosition().get().getY() + hit.getPlatform().getDimension().get().getHeight());
 		} else {
 			if (player.hasBlockedX()) {
 				player.unblockX();
@@ -247,8 +440,7 @@ public class GameEngine implements InputController, GameEventListener, Engine {
 		final Enemy enemy = ((PlayerHitsEnemyEvent) e).getEnemy();
 		player.setHealth(player.getHealth() - 1);
 		if (!enemy.isAlive()) {
-			this.viewController.get().getGameView().deleteEnemySpriteImage(new MutablePosition2Dimpl(enemy.getPosition().get().getX(),
-					enemy.getPosition().get().getY()));	
+			this.viewController.get().getGameView().deleteEnemySpriteImage(enemy.getId());
 		}
 	}
 
@@ -268,11 +460,9 @@ public class GameEngine implements InputController, GameEventListener, Engine {
 			this.viewController.get().getGameView().autoKill();
 			this.viewController.get().changeScene(Frames.HOMEPAGE);
 			this.soundsFactory.createSound(Sounds.WIN).play();
-			final SimpleDateFormat formatter = new SimpleDateFormat("dd/MM/yyyy HH:mm:ss", Locale.getDefault());
 			final double multiplier = 0.15;
-		    final Date date = new Date();
-			Save.saveGameStatistics(this.modelController.flatMap(ModelController::getGameState).get().getPlayerName(),
-					player.getCurrentScore().showScore() + player.getCurrentScore().showScore() * multiplier, formatter.format(date)); 
+			this.saveStatistics(player.getCurrentScore().showScore() + player.getCurrentScore().showScore() * multiplier); 
+			this.stopRecording();
 			this.stop();
 		} else {
 			this.soundsFactory.createSound(Sounds.DAMAGE).play();
@@ -282,9 +472,9 @@ public class GameEngine implements InputController, GameEventListener, Engine {
 			.getEffect()
 			.applyEffect(player);
 		// Update environment
-		final MutablePosition2D pickupPos = ((PlayerHitsItemEvent) e).getItem().getPosition().get();
-		env.deleteObjByPosition(new ImmutablePosition2Dimpl(pickupPos.getX(), pickupPos.getY()));
-		this.viewController.get().getGameView().deleteItemSprite(pickupPos);
+		final PickupItem pickup = ((PlayerHitsItemEvent) e).getItem();
+		env.getEntityManager().despawn(pickup.getId());
+		this.viewController.get().getGameView().deleteItemSprite(pickup.getId());
 	}
 	
 	private void playerHitsWeaponEventHandler(final Environment env, final GameEvent e) {
@@ -296,15 +486,13 @@ public class GameEngine implements InputController, GameEventListener, Engine {
 				final Weapon actualWeapon = player.getWeapon().get();
 				if (player.getWeapon().get().getTypeOfWeapon().equals(weapon.getTypeOfWeapon())) {
 					player.getWeapon().get().recharge();
-					env.deleteObjByPosition(new ImmutablePosition2Dimpl(weapon.getPosition().get().getX(),
-							weapon.getPosition().get().getY()));	
-					this.viewController.get().getGameView().deleteWeaponSpriteImage(weapon.getPosition().get());
+					env.getEntityManager().despawn(weapon.getId());
+					this.viewController.get().getGameView().deleteWeaponSpriteImage(weapon.getId());
 				} else {
 					player.getWeapon().get().setOff();
 					player.removeWeapon();
-					env.deleteObjByPosition(new ImmutablePosition2Dimpl(actualWeapon.getPosition().get().getX(),
-							actualWeapon.getPosition().get().getY()));
-					this.viewController.get().getGameView().deleteWeaponSpriteImage(actualWeapon.getPosition().get());
+					env.getEntityManager().despawn(actualWeapon.getId());
+					this.viewController.get().getGameView().deleteWeaponSpriteImage(actualWeapon.getId());
 					AppLogger.getAppLogger().debug("Delete weapon");
 					weapon.setOn();
 					player.setWeapon(weapon);
@@ -322,33 +510,68 @@ public class GameEngine implements InputController, GameEventListener, Engine {
 		((BulletHitsEnemyEvent) e).getBullet()
 			.getEffect()
 			.applyEffect(enemy);
-		final MutablePosition2D bulletPos = ((BulletHitsEnemyEvent) e).getBullet().getPosition().get();
-		env.deleteObjByPosition(new ImmutablePosition2Dimpl(bulletPos.getX(), bulletPos.getY()));
-		this.viewController.get().getGameView().deleteBulletSpriteImage(bulletPos);
-		env.deleteObjByPosition(new ImmutablePosition2Dimpl(enemy.getPosition().get().getX(),
-				enemy.getPosition().get().getY()));
-		this.viewController.get().getGameView().deleteEnemySpriteImage(enemy.getPosition().get());
+		this.despawnBullet(env, ((BulletHitsEnemyEvent) e).getBullet());
+		env.getEntityManager().despawn(enemy.getId());
+		this.viewController.get().getGameView().deleteEnemySpriteImage(enemy.getId());
 		this.modelController.get().getGameEnvironment().getEntityManager().getPlayer().get().getCurrentScore().increase(ScoreSystem.ScoreBonus.KILL_ENEMY.getBonus());
 	}
 	
 	private void bulletHitsObstacleEventHandler(final Environment env, final GameEvent e) {
 		final Obstacle obstacle = ((BulletHitsObstacleEvent) e).getObstacle();
-		final MutablePosition2D bulletPos = ((BulletHitsObstacleEvent) e).getBullet().getPosition().get();
-		env.deleteObjByPosition(new ImmutablePosition2Dimpl(bulletPos.getX(), bulletPos.getY()));
-		this.viewController.get().getGameView().deleteBulletSpriteImage(bulletPos);
-		env.deleteObjByPosition(new ImmutablePosition2Dimpl(obstacle.getPosition().get().getX(),
-				obstacle.getPosition().get().getY()));
-		this.viewController.get().getGameView().deleteObstacleSpriteImage(obstacle.getPosition().get());
+		this.despawnBullet(env, ((BulletHitsObstacleEvent) e).getBullet());
+		env.getEntityManager().despawn(obstacle.getId());
+		this.viewController.get().getGameView().deleteObstacleSpriteImage(obstacle.getId());
 		this.modelController.get().getGameEnvironment().getEntityManager().getPlayer().get().getCurrentScore().increase(ScoreSystem.ScoreBonus.DESTROY_OBSTACLE.getBonus());
 		AppLogger.getAppLogger().collision("Bullet hits obstacle");
 	}
 	
 	private void bulletHitsPlatformEventHandler(final Environment env, final GameEvent e) {
-		final MutablePosition2D bulletPos = ((BulletHitsPlatformEvent) e).getBullet().getPosition().get();
-		env.deleteObjByPosition(new ImmutablePosition2Dimpl(bulletPos.getX(), bulletPos.getY()));
-		this.viewController.get().getGameView().deleteBulletSpriteImage(bulletPos);
+		this.despawnBullet(env, ((BulletHitsPlatformEvent) e).getBullet());
 		AppLogger.getAppLogger().collision("Bullet hits platform");
 	}
+
+	/*
+	 * The entity was streamed in with its chunk of the level, it needs a sprite.
+	 */
+	private void entityEntersWorldEventHandler(final GameEvent e) throws IOException {
+		final EntityEntersWorldEvent event = (EntityEntersWorldEvent) e;
+		this.viewController.get().getGameView().generateSprite(event.getKind(), event.getEntity());
+	}
+
+	/*
+	 * The model already despawned the entity, only its sprite is left, bullets go back to the pool.
+	 */
+	private void entityLeavesWorldEventHandler(final GameEvent e) {
+		final EntityLeavesWorldEvent event = (EntityLeavesWorldEvent) e;
+		if (event.getKind() == GameEntities.BULLET) {
+			this.viewController.get().getGameView().deleteBulletSpriteImage(event.getEntity().getId());
+			this.spentBullets.add((Bullet) event.getEntity());
+		} else {
+			this.viewController.get().getGameView().deleteSprite(event.getEntity().getId());
+		}
+	}
+
+	private void despawnBullet(final Environment env, final Bullet bullet) {
+		env.getEntityManager().despawn(bullet.getId());
+		this.viewController.get().getGameView().deleteBulletSpriteImage(bullet.getId());
+		this.spentBullets.add(bullet);
+	}
+
+	/*
+	 * A bullet hitting two things in the same tick is listed twice, the pool only takes it once.
+	 */
+	private void releaseSpentBullets() {
+		if (this.spentBullets.isEmpty()) {
+			return;
+		}
+		final Environment env = this.modelController.get().getGameEnvironment();
+		for (final Bullet bullet : this.spentBullets) {
+			if (!env.getEntityManager().contains(bullet.getId())) {
+				env.getBulletPool().release(bullet);
+			}
+		}
+		this.spentBullets.clear();
+	}
 	
 	private void gameOverEventHandler(final GameEvent e) throws IOException {
 		final Player player = ((GameOverEvent) e).getPlayer();
@@ -356,22 +579,69 @@ public class GameEngine implements InputController, GameEventListener, Engine {
 		this.viewController.get().getGameView().autoKill();
 		this.viewController.get().changeScene(Frames.HOMEPAGE);
 		this.soundsFactory.createSound(Sounds.DIE).play();
+		this.saveStatistics(player.getCurrentScore().showScore());
+		this.stopRecording();
+		this.stop();
+	}
+	
+	private void saveStatistics(final double score) {
+		// Runs without a timer are simulations, they must not end up in the statistics.
+		if (this.timer.isEmpty()) {
+			return;
+		}
         final SimpleDateFormat formatter = new SimpleDateFormat("dd/MM/yyyy HH:mm:ss", Locale.getDefault());
 	    final Date date = new Date();
-		Save.saveGameStatistics(this.modelController.flatMap(ModelController::getGameState).get().getPlayerName(),
-				player.getCurrentScore().showScore(), formatter.format(date));
-		this.stop();
+	    final String playerName = this.modelController.flatMap(ModelController::getGameState).get().getPlayerName();
+	    // Encrypting the save file takes long, the last frames of the game must not wait for it.
+	    this.services.run(() -> Save.saveGameStatistics(playerName, score, formatter.format(date)),
+	    		() -> AppLogger.getAppLogger().info("Statistics of " + playerName + " saved."));
 	}
 	
 	@Override
 	public final void start() {
 		this.soundtrack.play();
-		this.timer.get().start();
+		this.timer.ifPresent(AnimationTimer::start);
+		if (this.simulationMode == SimulationMode.DEDICATED_THREAD) {
+			this.startSimulation();
+		}
 	}
 	
 	@Override
 	public final void stop() {
 		this.soundtrack.stop();
-		this.timer.get().stop();
+		this.stopTimer();
+		this.simulation.ifPresent(SimulationThread::shutdown);
+		this.recorder.ifPresent(ReplayRecorder::flush);
+	}
+	
+	/**
+	 * @return where model updates are run.
+	 */
+	public final SimulationMode getSimulationMode() {
+		return this.simulationMode;
+	}
+	
+	private void startSimulation() {
+		// A thread stopped by a pause could still be finishing its last tick.
+		if (this.simulation.isPresent() && this.simulation.get() != Thread.currentThread()) {
+			try {
+				this.simulation.get().join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		final SimulationThread thread = new SimulationThread(this, 
+				this.modelController.get().getGameEnvironment(), this.snapshots);
+		this.simulation = Optional.of(thread);
+		thread.start();
+	}
+	
+	private void stopTimer() {
+		// The timer belongs to the JavaFX Application Thread, the simulation thread has to hand it over.
+		if (this.simulationMode == SimulationMode.DEDICATED_THREAD && !Platform.isFxApplicationThread()) {
+			Platform.runLater(() -> this.timer.ifPresent(AnimationTimer::stop));
+		} else {
+			this.timer.ifPresent(AnimationTimer::stop);
+		}
 	}
 }
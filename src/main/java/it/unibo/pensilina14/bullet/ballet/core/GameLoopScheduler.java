@@ -0,0 +1,37 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+/**
+ * Contract for classes that decide how many model ticks
+ * have to be run on every pulse of the game timer.
+ *
+ * This decouples the simulation speed from the frame rate
+ * of the display the game is running on.
+ */
+public interface GameLoopScheduler {
+	/**
+	 * Advances the scheduler clock up to the given timestamp.
+	 *
+	 * @param now the current time in nanoseconds, as given by the timer pulse.
+	 * @return the number of model ticks to run before rendering.
+	 */
+	int advance(long now);
+	/**
+	 * Returns how far, as a fraction of a tick, the clock went
+	 * beyond the last model tick. The view can use it to blend positions.
+	 *
+	 * @return interpolation factor in the range [0, 1).
+	 */
+	double getInterpolation();
+	/**
+	 * @return the duration of a single model tick in nanoseconds.
+	 */
+	long getTickDuration();
+	/**
+	 * @return the number of ticks dropped because the catch-up cap was reached.
+	 */
+	long getDroppedTicks();
+	/**
+	 * Forgets any accumulated time, for instance when the game is resumed after a pause.
+	 */
+	void reset();
+}
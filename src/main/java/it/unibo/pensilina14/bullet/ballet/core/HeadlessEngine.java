@@ -0,0 +1,129 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+import it.unibo.pensilina14.bullet.ballet.core.controller.HeadlessViewController;
+import it.unibo.pensilina14.bullet.ballet.core.controller.ModelController;
+import it.unibo.pensilina14.bullet.ballet.core.controller.ModelControllerImpl;
+import it.unibo.pensilina14.bullet.ballet.input.InputController;
+import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
+import it.unibo.pensilina14.bullet.ballet.profiling.FrameProfiler;
+import it.unibo.pensilina14.bullet.ballet.sounds.MuteSoundsFactory;
+
+/**
+ * {@link Engine} that runs the game model as fast as it can, without 
+ * display, audio or timer. Every phase of the loop is timed by the 
+ * {@link FrameProfiler} of the engine so that levels can be load-tested, 
+ * see {@link #run(long)}.
+ */
+public class HeadlessEngine implements Engine {
+
+	private final ModelController model;
+	private final GameEngine engine;
+	private long ticks;
+	private boolean running;
+
+	public HeadlessEngine() {
+		this(new ModelControllerImpl(new GameState()));
+	}
+
+	/**
+	 * @param model the model controller to simulate.
+	 */
+	public HeadlessEngine(final ModelController model) {
+		this.model = model;
+		this.engine = new GameEngine(new HeadlessViewController(), model, new MuteSoundsFactory());
+	}
+
+	@Override
+	public final void setup() {
+		this.engine.setup();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Loops until the game is over or {@link #stop()} is called.
+	 */
+	@Override
+	public final void mainLoop() {
+		this.running = true;
+		while (this.running && !this.model.isGameOver()) {
+			this.tick();
+		}
+		this.running = false;
+	}
+
+	/**
+	 * Runs the model for the given number of ticks, stopping earlier if the game is over.
+	 * The engine has to be {@link #setup() set up} first.
+	 * 
+	 * @param maxTicks the maximum number of ticks to run.
+	 * @return the report of the run.
+	 */
+	public final HeadlessReport run(final long maxTicks) {
+		this.ticks = 0;
+		this.engine.getProfiler().reset();
+		this.engine.getEventDispatcher().resetCounts();
+		this.running = true;
+		final long start = System.nanoTime();
+		while (this.running && this.ticks < maxTicks && !this.model.isGameOver()) {
+			this.tick();
+		}
+		final long elapsed = System.nanoTime() - start;
+		this.running = false;
+		return HeadlessReport.of(this.engine, this.model.getGameEnvironment(), this.ticks, elapsed);
+	}
+
+	@Override
+	public final void processInput() {
+		this.engine.processInput();
+	}
+
+	@Override
+	public final void updateGame() {
+		this.engine.updateGame();
+	}
+
+	@Override
+	public final void sampleInput() {
+		this.engine.sampleInput();
+	}
+
+	@Override
+	public final void render() {
+		this.engine.render();
+	}
+
+	@Override
+	public final void render(final double interpolation) {
+		this.render();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * The loop runs on the calling thread, this method returns once it is over.
+	 */
+	@Override
+	public final void start() {
+		this.mainLoop();
+	}
+
+	@Override
+	public final void stop() {
+		this.running = false;
+	}
+
+	/**
+	 * @return the controller commands can be sent to, as the keyboard would do.
+	 */
+	public final InputController getInputController() {
+		return this.engine;
+	}
+
+	private void tick() {
+		this.processInput();
+		this.updateGame();
+		this.render();
+		this.ticks++;
+	}
+}
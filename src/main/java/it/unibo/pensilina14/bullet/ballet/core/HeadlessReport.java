@@ -0,0 +1,172 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import it.unibo.pensilina14.bullet.ballet.common.EntityManager;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.common.ObjectPool;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.Bullet;
+import it.unibo.pensilina14.bullet.ballet.profiling.EnginePhases;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvents;
+
+/**
+ * Outcome of a run of the {@link HeadlessEngine}, or of any run of a {@link GameEngine} without timer.
+ */
+public final class HeadlessReport {
+
+	private final long ticks;
+	private final long elapsedNanos;
+	private final Map<EnginePhases, Long> phaseNanos;
+	private final Map<GameEntities, Integer> entityCounts;
+	private final Map<GameEvents, Long> eventCounts;
+	private final Map<GameEntities, Long> despawnCounts;
+	private final long bulletsAcquired;
+	private final long bulletsReused;
+
+	/**
+	 * @param ticks number of model ticks run.
+	 * @param elapsedNanos wall clock time the run took, in nanoseconds.
+	 * @param phaseNanos time spent in every phase of the loop, in nanoseconds.
+	 * @param entityCounts number of entities of every type at the end of the run.
+	 * @param eventCounts number of events of every type handled during the run.
+	 * @param despawnCounts number of entities of every type despawned for leaving the world, since the game started.
+	 * @param bulletsAcquired number of bullets taken from the bullet pool, since the game started.
+	 * @param bulletsReused number of those bullets that were reused instead of being built.
+	 */
+	public HeadlessReport(final long ticks, final long elapsedNanos, final Map<EnginePhases, Long> phaseNanos,
+			final Map<GameEntities, Integer> entityCounts, final Map<GameEvents, Long> eventCounts,
+			final Map<GameEntities, Long> despawnCounts, final long bulletsAcquired, final long bulletsReused) {
+		this.ticks = ticks;
+		this.elapsedNanos = elapsedNanos;
+		this.phaseNanos = Collections.unmodifiableMap(new EnumMap<>(phaseNanos));
+		this.entityCounts = Collections.unmodifiableMap(new EnumMap<>(entityCounts));
+		this.eventCounts = Collections.unmodifiableMap(new EnumMap<>(eventCounts));
+		this.despawnCounts = Collections.unmodifiableMap(new EnumMap<>(despawnCounts));
+		this.bulletsAcquired = bulletsAcquired;
+		this.bulletsReused = bulletsReused;
+	}
+
+	/**
+	 * Collects the report of a run from the engine that ran it, its profiler 
+	 * and event counts have to be reset when the run starts.
+	 * 
+	 * @param engine the engine that ran the model.
+	 * @param world the model at the end of the run.
+	 * @param ticks number of model ticks run.
+	 * @param elapsedNanos wall clock time the run took, in nanoseconds.
+	 * @return the report of the run.
+	 */
+	public static HeadlessReport of(final GameEngine engine, final Environment world, 
+			final long ticks, final long elapsedNanos) {
+		final EntityManager entities = world.getEntityManager();
+		final Map<EnginePhases, Long> phases = new EnumMap<>(EnginePhases.class);
+		for (final EnginePhases phase : EnginePhases.values()) {
+			phases.put(phase, engine.getProfiler().getTotal(phase));
+		}
+		final Map<GameEntities, Integer> counts = new EnumMap<>(GameEntities.class);
+		final Map<GameEntities, Long> despawned = new EnumMap<>(GameEntities.class);
+		for (final GameEntities type : GameEntities.values()) {
+			counts.put(type, entities.count(type));
+			despawned.put(type, world.getDespawnCount(type));
+		}
+		final Map<GameEvents, Long> events = new EnumMap<>(GameEvents.class);
+		for (final GameEvents type : GameEvents.values()) {
+			events.put(type, engine.getEventDispatcher().getTotalCount(type));
+		}
+		final ObjectPool<Bullet> bullets = world.getBulletPool();
+		return new HeadlessReport(ticks, elapsedNanos, phases, counts, events, despawned, bullets.getAcquired(), bullets.getHits());
+	}
+
+	/**
+	 * @return number of model ticks run.
+	 */
+	public long getTicks() {
+		return this.ticks;
+	}
+
+	/**
+	 * @return wall clock time the run took, in nanoseconds.
+	 */
+	public long getElapsedNanos() {
+		return this.elapsedNanos;
+	}
+
+	/**
+	 * @return model ticks run per second of wall clock time.
+	 */
+	public double getTicksPerSecond() {
+		return this.elapsedNanos == 0 ? 0 : this.ticks * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+	}
+
+	/**
+	 * @param phase the loop phase.
+	 * @return time spent in the given phase, in nanoseconds.
+	 */
+	public long getPhaseNanos(final EnginePhases phase) {
+		return this.phaseNanos.getOrDefault(phase, 0L);
+	}
+
+	/**
+	 * @param type the entity type.
+	 * @return number of entities of the given type at the end of the run.
+	 */
+	public int getEntityCount(final GameEntities type) {
+		return this.entityCounts.getOrDefault(type, 0);
+	}
+
+	/**
+	 * @param type the event type.
+	 * @return number of events of the given type handled during the run.
+	 */
+	public long getEventCount(final GameEvents type) {
+		return this.eventCounts.getOrDefault(type, 0L);
+	}
+
+	/**
+	 * @param type the entity type.
+	 * @return number of entities of the given type despawned for leaving the world.
+	 */
+	public long getDespawnCount(final GameEntities type) {
+		return this.despawnCounts.getOrDefault(type, 0L);
+	}
+
+	/**
+	 * @return number of bullets taken from the bullet pool, that is shot.
+	 */
+	public long getBulletsAcquired() {
+		return this.bulletsAcquired;
+	}
+
+	/**
+	 * @return number of bullets shot that were reused instead of being built.
+	 */
+	public long getBulletsReused() {
+		return this.bulletsReused;
+	}
+
+	/**
+	 * @return share of the bullets shot that were reused, between 0 and 1.
+	 */
+	public double getBulletPoolHitRate() {
+		return this.bulletsAcquired == 0 ? 0 : this.bulletsReused / (double) this.bulletsAcquired;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append(String.format("ticks: %d in %.3f ms (%.1f ticks/s)%n", this.ticks,
+				this.elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1), this.getTicksPerSecond()));
+		this.phaseNanos.forEach((phase, nanos) -> builder.append(String.format("%s: %.3f us/tick%n", phase,
+				this.ticks == 0 ? 0 : nanos / (double) TimeUnit.MICROSECONDS.toNanos(1) / this.ticks)));
+		this.entityCounts.forEach((type, count) -> builder.append(String.format("%s: %d%n", type, count)));
+		this.eventCounts.forEach((type, count) -> builder.append(String.format("%s: %d%n", type, count)));
+		this.despawnCounts.forEach((type, count) -> builder.append(String.format("%s despawned: %d%n", type, count)));
+		builder.append(String.format("bullet pool: %d reused of %d shot (%.1f%%)%n", this.bulletsReused,
+				this.bulletsAcquired, this.getBulletPoolHitRate() * 100));
+		return builder.toString();
+	}
+}
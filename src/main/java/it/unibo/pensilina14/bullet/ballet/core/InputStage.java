@@ -0,0 +1,145 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import it.unibo.pensilina14.bullet.ballet.input.Command;
+import it.unibo.pensilina14.bullet.ballet.input.MovementCommand;
+import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
+import it.unibo.pensilina14.bullet.ballet.replay.ReplayRecorder;
+
+/**
+ * Collects the commands coming from the view and executes them once per tick.
+ * 
+ * Held commands, those bound to keys being held down, are sampled at the 
+ * start of every tick and executed once. Then every queued command is drained, 
+ * movement commands already executed in the tick are skipped. 
+ * Commands can be held, released and queued from any thread.
+ */
+public class InputStage {
+
+	private final BlockingQueue<Command> queue;
+	/**
+	 * Replaced as a whole on every change, so that it can be read without locking.
+	 */
+	private volatile Command[] held;
+	private final List<Command> pending;
+	private final List<Class<?>> executedMovements;
+	private final AtomicLong dropped;
+	/**
+	 * Told every command executed, only while the game is recorded.
+	 */
+	private Optional<ReplayRecorder> recorder;
+
+	/**
+	 * @param capacity maximum number of commands waiting for the next tick.
+	 */
+	public InputStage(final int capacity) {
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.held = new Command[0];
+		this.pending = new ArrayList<>(capacity);
+		this.executedMovements = new ArrayList<>();
+		this.dropped = new AtomicLong();
+		this.recorder = Optional.empty();
+	}
+
+	/**
+	 * Queues a command for the next tick. If the queue is full the command is dropped.
+	 * 
+	 * @param cmd the command.
+	 * @return true if the command was queued.
+	 */
+	public boolean push(final Command cmd) {
+		final boolean queued = this.queue.offer(cmd);
+		if (!queued) {
+			this.dropped.incrementAndGet();
+		}
+		return queued;
+	}
+
+	/**
+	 * @param cmd the command to execute on every tick until it is released.
+	 */
+	public void hold(final Command cmd) {
+		if (!this.isHeld(cmd)) {
+			synchronized (this) {
+				if (!this.isHeld(cmd)) {
+					final Command[] next = Arrays.copyOf(this.held, this.held.length + 1);
+					next[this.held.length] = cmd;
+					this.held = next;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param cmd the command to stop executing.
+	 */
+	public void release(final Command cmd) {
+		if (this.isHeld(cmd)) {
+			synchronized (this) {
+				this.held = Arrays.stream(this.held).filter(c -> c != cmd).toArray(Command[]::new);
+			}
+		}
+	}
+
+	/**
+	 * Executes the held commands and then every queued one.
+	 * 
+	 * @param state the game state the commands act on.
+	 */
+	public void drain(final GameState state) {
+		this.executedMovements.clear();
+		final Command[] current = this.held;
+		for (final Command cmd : current) {
+			this.execute(cmd, state);
+		}
+		this.queue.drainTo(this.pending);
+		for (int i = 0; i < this.pending.size(); i++) {
+			this.execute(this.pending.get(i), state);
+		}
+		this.pending.clear();
+	}
+
+	/**
+	 * @return the number of commands dropped because the queue was full.
+	 */
+	public long getDroppedCommands() {
+		return this.dropped.get();
+	}
+
+	/**
+	 * @param recorder the recorder every executed command is written to, empty to stop recording.
+	 */
+	public void setRecorder(final Optional<ReplayRecorder> recorder) {
+		this.recorder = recorder;
+	}
+
+	private boolean isHeld(final Command cmd) {
+		final Command[] current = this.held;
+		for (final Command c : current) {
+			if (c == cmd) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void execute(final Command cmd, final GameState state) {
+		if (cmd instanceof MovementCommand) {
+			if (this.executedMovements.contains(cmd.getClass())) {
+				return;
+			}
+			this.executedMovements.add(cmd.getClass());
+		}
+		if (this.recorder.isPresent()) {
+			this.recorder.get().record(cmd);
+		}
+		cmd.execute(state);
+	}
+}
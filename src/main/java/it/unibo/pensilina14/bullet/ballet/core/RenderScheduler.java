@@ -0,0 +1,32 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+/**
+ * Contract for classes that decide whether the view has to be 
+ * rendered on a pulse of the game timer.
+ *
+ * Skipping a frame leaves the model ticks of the pulse untouched, 
+ * so an expensive view slows down what is shown, not the game.
+ */
+public interface RenderScheduler {
+	/**
+	 * @param now the current time in nanoseconds, as given by the timer pulse.
+	 * @param updateNanos the time spent updating the model in this pulse, in nanoseconds.
+	 * @return true if the view has to be rendered in this pulse, false if the frame is skipped.
+	 */
+	boolean shouldRender(long now, long updateNanos);
+	/**
+	 * Tells the scheduler how long a render took, it must be called after every render.
+	 * 
+	 * @param now the time the render started, in nanoseconds.
+	 * @param renderNanos the time the render took, in nanoseconds.
+	 */
+	void rendered(long now, long renderNanos);
+	/**
+	 * @return the number of frames skipped so far.
+	 */
+	long getSkippedFrames();
+	/**
+	 * Forgets when the last frame was rendered, for instance when the game is resumed after a pause.
+	 */
+	void reset();
+}
@@ -0,0 +1,209 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+import java.util.Arrays;
+
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.common.ObjectPool;
+import it.unibo.pensilina14.bullet.ballet.common.PoolStatistics;
+
+/**
+ * State of the game after a model tick, as much as it is needed to draw it: 
+ * identifier, kind, position and state flags of every entity plus the camera, the hud values
+ * and the statistics of the bullet pool shown by the profiler.
+ * 
+ * Snapshots are filled by the simulation thread and handed to the view through 
+ * a {@link SnapshotBuffer}, which never lets the two threads touch the same one. 
+ * To the view a snapshot is read-only, its storage is reused for later ticks 
+ * only once the view has moved on to a newer snapshot.
+ */
+public final class RenderSnapshot {
+	/**
+	 * Flag set for the weapon the player is holding.
+	 */
+	public static final int EQUIPPED = 1;
+	/**
+	 * Flag set for characters whose health dropped to zero.
+	 */
+	public static final int DEAD = 1 << 1;
+	private static final int INITIAL_CAPACITY = 512;
+
+	private long tick;
+	private int size;
+	private int[] ids;
+	private GameEntities[] kinds;
+	private double[] xs;
+	private double[] ys;
+	private int[] flags;
+	private double cameraX;
+	private double health;
+	private double score;
+	private int ammo;
+	private int bulletsFree;
+	private int bulletsCapacity;
+	private double bulletsHitRate;
+
+	public RenderSnapshot() {
+		this.ids = new int[INITIAL_CAPACITY];
+		this.kinds = new GameEntities[INITIAL_CAPACITY];
+		this.xs = new double[INITIAL_CAPACITY];
+		this.ys = new double[INITIAL_CAPACITY];
+		this.flags = new int[INITIAL_CAPACITY];
+		this.ammo = -1;
+	}
+
+	/**
+	 * Forgets the entities of the previous tick.
+	 * 
+	 * @param tick the tick the snapshot is about.
+	 */
+	public void clear(final long tick) {
+		this.tick = tick;
+		Arrays.fill(this.kinds, 0, this.size, null);
+		this.size = 0;
+	}
+
+	/**
+	 * Appends an entity to the snapshot.
+	 * 
+	 * @param id the identifier of the entity.
+	 * @param kind the kind of the entity.
+	 * @param x the x coordinate of the entity.
+	 * @param y the y coordinate of the entity.
+	 * @param state the flags of the entity, combined with a bitwise or.
+	 */
+	public void add(final int id, final GameEntities kind, final double x, final double y, final int state) {
+		if (this.size == this.ids.length) {
+			final int capacity = this.size * 2;
+			this.ids = Arrays.copyOf(this.ids, capacity);
+			this.kinds = Arrays.copyOf(this.kinds, capacity);
+			this.xs = Arrays.copyOf(this.xs, capacity);
+			this.ys = Arrays.copyOf(this.ys, capacity);
+			this.flags = Arrays.copyOf(this.flags, capacity);
+		}
+		this.ids[this.size] = id;
+		this.kinds[this.size] = kind;
+		this.xs[this.size] = x;
+		this.ys[this.size] = y;
+		this.flags[this.size] = state;
+		this.size++;
+	}
+
+	/**
+	 * @param x the x coordinate of the left edge of the view on the world.
+	 */
+	public void setCameraX(final double x) {
+		this.cameraX = x;
+	}
+
+	/**
+	 * @param health the health of the player.
+	 * @param score the score of the player.
+	 * @param ammo the ammo left in the weapon of the player, -1 if the player has no weapon.
+	 */
+	public void setHud(final double health, final double score, final int ammo) {
+		this.health = health;
+		this.score = score;
+		this.ammo = ammo;
+	}
+
+	/**
+	 * Copies the statistics of the bullet pool, which is only used by the simulation thread.
+	 * 
+	 * @param bullets the pool of the bullets.
+	 */
+	public void setBulletPool(final ObjectPool<?> bullets) {
+		this.bulletsFree = bullets.getFree();
+		this.bulletsCapacity = bullets.getCapacity();
+		this.bulletsHitRate = bullets.getHitRate();
+	}
+
+	/**
+	 * @return the tick the snapshot is about.
+	 */
+	public long getTick() {
+		return this.tick;
+	}
+
+	/**
+	 * @return the number of entities in the snapshot.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @param i index of the entity, lower than {@link #size()}.
+	 * @return the identifier of the entity.
+	 */
+	public int getId(final int i) {
+		return this.ids[i];
+	}
+
+	/**
+	 * @param i index of the entity, lower than {@link #size()}.
+	 * @return the kind of the entity.
+	 */
+	public GameEntities getKind(final int i) {
+		return this.kinds[i];
+	}
+
+	/**
+	 * @param i index of the entity, lower than {@link #size()}.
+	 * @return the x coordinate of the entity.
+	 */
+	public double getX(final int i) {
+		return this.xs[i];
+	}
+
+	/**
+	 * @param i index of the entity, lower than {@link #size()}.
+	 * @return the y coordinate of the entity.
+	 */
+	public double getY(final int i) {
+		return this.ys[i];
+	}
+
+	/**
+	 * @param i index of the entity, lower than {@link #size()}.
+	 * @param flag one of the flags of this class.
+	 * @return true if the entity has the given flag set.
+	 */
+	public boolean hasFlag(final int i, final int flag) {
+		return (this.flags[i] & flag) != 0;
+	}
+
+	/**
+	 * @return the x coordinate of the left edge of the view on the world.
+	 */
+	public double getCameraX() {
+		return this.cameraX;
+	}
+
+	/**
+	 * @return the health of the player.
+	 */
+	public double getHealth() {
+		return this.health;
+	}
+
+	/**
+	 * @return the score of the player.
+	 */
+	public double getScore() {
+		return this.score;
+	}
+
+	/**
+	 * @return the ammo left in the weapon of the player, -1 if the player has no weapon.
+	 */
+	public int getAmmo() {
+		return this.ammo;
+	}
+
+	/**
+	 * @return the statistics of the bullet pool at the end of the tick.
+	 */
+	public PoolStatistics getBulletPool() {
+		return new PoolStatistics(this.bulletsFree, this.bulletsCapacity, this.bulletsHitRate);
+	}
+}
@@ -0,0 +1,37 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs the slow work of the game, such as saving statistics and loading
+ * assets, away from the thread that drives the game loop.
+ *
+ * Completion callbacks are handed back to the thread the view lives on,
+ * so they can safely touch the scene.
+ */
+public interface ServiceExecutor extends Executor {
+	/**
+	 * Runs a task in the background.
+	 * 
+	 * @param <T> the type of the result.
+	 * @param task the task.
+	 * @param onDone called with the result on the thread of the view, it is not called if the task fails.
+	 * @return the result of the task, the failure of the task is logged.
+	 */
+	<T> CompletableFuture<T> submit(Supplier<T> task, Consumer<? super T> onDone);
+	/**
+	 * Runs a task in the background.
+	 * 
+	 * @param task the task.
+	 * @param onDone called on the thread of the view once the task is over, it is not called if the task fails.
+	 * @return the completion of the task, the failure of the task is logged.
+	 */
+	CompletableFuture<Void> run(Runnable task, Runnable onDone);
+	/**
+	 * Stops accepting tasks, the ones already submitted are still run to completion.
+	 */
+	void shutdown();
+}
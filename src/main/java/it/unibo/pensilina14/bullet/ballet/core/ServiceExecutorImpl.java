@@ -0,0 +1,91 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import it.unibo.pensilina14.bullet.ballet.logging.AppLogger;
+import javafx.application.Platform;
+
+/**
+ * {@link ServiceExecutor} backed by a small pool of worker threads.
+ *
+ * Workers die after {@link #KEEP_ALIVE_SECONDS} seconds without work, so the
+ * pool costs nothing while the game is played and does not keep the
+ * application alive once it is closed. Workers are not daemons: a save in
+ * progress when the window is closed is still written to disk.
+ */
+public class ServiceExecutorImpl implements ServiceExecutor {
+	/**
+	 * Number of worker threads used by default.
+	 */
+	public static final int DEFAULT_WORKERS = 2;
+	/**
+	 * Seconds an idle worker waits for a new task before it ends.
+	 */
+	public static final long KEEP_ALIVE_SECONDS = 1;
+	private static final AtomicInteger POOLS = new AtomicInteger();
+
+	private final ThreadPoolExecutor workers;
+	private final Executor callbacks;
+
+	/**
+	 * Builds an executor whose callbacks run on the JavaFX Application Thread.
+	 */
+	public ServiceExecutorImpl() {
+		this(DEFAULT_WORKERS, Platform::runLater);
+	}
+
+	/**
+	 * @param workers number of worker threads.
+	 * @param callbacks runs the completion callbacks, for instance {@code Runnable::run} 
+	 * to run them on the worker when there is no view thread.
+	 */
+	public ServiceExecutorImpl(final int workers, final Executor callbacks) {
+		if (workers <= 0) {
+			throw new IllegalArgumentException("There must be at least one worker.");
+		}
+		final int pool = POOLS.incrementAndGet();
+		final AtomicInteger count = new AtomicInteger();
+		this.workers = new ThreadPoolExecutor(workers, workers, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, 
+				new LinkedBlockingQueue<>(), r -> new Thread(r, "services-" + pool + "-" + count.incrementAndGet()));
+		this.workers.allowCoreThreadTimeOut(true);
+		this.callbacks = callbacks;
+	}
+
+	@Override
+	public final void execute(final Runnable command) {
+		this.workers.execute(command);
+	}
+
+	@Override
+	public final <T> CompletableFuture<T> submit(final Supplier<T> task, final Consumer<? super T> onDone) {
+		final CompletableFuture<T> result = CompletableFuture.supplyAsync(task, this.workers);
+		result.whenComplete((value, error) -> {
+			if (error != null) {
+				AppLogger.getAppLogger().error("Background task failed: " + error);
+			} else {
+				this.callbacks.execute(() -> onDone.accept(value));
+			}
+		});
+		return result;
+	}
+
+	@Override
+	public final CompletableFuture<Void> run(final Runnable task, final Runnable onDone) {
+		return this.submit(() -> {
+			task.run();
+			return null;
+		}, v -> onDone.run());
+	}
+
+	@Override
+	public final void shutdown() {
+		this.workers.shutdown();
+	}
+}
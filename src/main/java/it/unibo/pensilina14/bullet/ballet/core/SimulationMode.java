@@ -0,0 +1,37 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+import java.util.Arrays;
+
+/**
+ * Where the {@link GameEngine} runs model updates.
+ */
+public enum SimulationMode {
+	/**
+	 * Model and view are both updated on the JavaFX Application Thread, 
+	 * within the same timer pulse.
+	 */
+	FX_THREAD,
+	/**
+	 * The model is updated on its own thread, the JavaFX Application Thread 
+	 * only draws the latest {@link RenderSnapshot} published by it.
+	 */
+	DEDICATED_THREAD;
+
+	/**
+	 * Name of the system property used to choose the mode, for instance 
+	 * {@code -Dbulletballet.simulation=DEDICATED_THREAD}.
+	 */
+	public static final String PROPERTY = "bulletballet.simulation";
+
+	/**
+	 * @return the mode named by the {@link #PROPERTY} system property, 
+	 * {@link #FX_THREAD} if it is missing or unknown.
+	 */
+	public static SimulationMode fromSystemProperty() {
+		final String value = System.getProperty(PROPERTY, FX_THREAD.name());
+		return Arrays.stream(values())
+				.filter(m -> m.name().equalsIgnoreCase(value))
+				.findFirst()
+				.orElse(FX_THREAD);
+	}
+}
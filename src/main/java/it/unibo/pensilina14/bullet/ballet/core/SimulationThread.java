@@ -0,0 +1,101 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+
+import it.unibo.pensilina14.bullet.ballet.common.EntityManager;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.logging.AppLogger;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
+import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.Weapon;
+
+/**
+ * Thread that runs the model of a {@link GameEngine} at a fixed tick rate, 
+ * used in {@link SimulationMode#DEDICATED_THREAD} mode. 
+ * After every tick the state of the game is published to a {@link SnapshotBuffer}.
+ */
+public class SimulationThread extends Thread {
+
+	private final Engine engine;
+	private final Environment environment;
+	private final EntityManager entities;
+	private final SnapshotBuffer snapshots;
+	private final GameLoopScheduler scheduler;
+	private volatile boolean running;
+	private long ticks;
+
+	/**
+	 * @param engine the engine whose input and update phases are run.
+	 * @param environment the environment of the game being simulated.
+	 * @param snapshots where the state of the game is published after every tick.
+	 */
+	public SimulationThread(final Engine engine, final Environment environment, final SnapshotBuffer snapshots) {
+		super("simulation");
+		this.setDaemon(true);
+		this.engine = engine;
+		this.environment = environment;
+		this.entities = environment.getEntityManager();
+		this.snapshots = snapshots;
+		this.scheduler = new FixedTimestepScheduler();
+		this.running = true;
+	}
+
+	@Override
+	public final void run() {
+		AppLogger.getAppLogger().debug("Simulation thread started.");
+		this.scheduler.reset();
+		while (this.running) {
+			final int steps = this.scheduler.advance(System.nanoTime());
+			for (int i = 0; i < steps && this.running; i++) {
+				this.engine.processInput();
+				this.engine.updateGame();
+				this.ticks++;
+				this.capture(this.snapshots.getBack());
+				this.snapshots.publish();
+			}
+			// Sleeps until the next tick is due.
+			final double left = 1 - this.scheduler.getInterpolation();
+			LockSupport.parkNanos((long) (left * this.scheduler.getTickDuration()));
+		}
+		AppLogger.getAppLogger().debug("Simulation thread stopped.");
+	}
+
+	/**
+	 * Asks the thread to stop once the tick it is running is over.
+	 */
+	public final void shutdown() {
+		this.running = false;
+		LockSupport.unpark(this);
+	}
+
+	private void capture(final RenderSnapshot snapshot) {
+		snapshot.clear(this.ticks);
+		final Optional<Player> player = this.entities.getPlayer();
+		player.ifPresent(p -> this.add(snapshot, GameEntities.PLAYER, p, p.isAlive() ? 0 : RenderSnapshot.DEAD));
+		this.entities.getEnemies().forEach(e -> 
+			this.add(snapshot, GameEntities.ENEMY, e, e.isAlive() ? 0 : RenderSnapshot.DEAD));
+		this.addAll(snapshot, GameEntities.OBSTACLE, this.entities.getObstacles());
+		this.entities.getWeapons().forEach(w -> 
+			this.add(snapshot, GameEntities.WEAPON, w, w.isOn() ? RenderSnapshot.EQUIPPED : 0));
+		this.addAll(snapshot, GameEntities.BULLET, this.entities.getBullets());
+		// Items and platforms never move in the world, their sprites stay where they were built.
+		snapshot.setCameraX(this.environment.getCameraX());
+		snapshot.setBulletPool(this.environment.getBulletPool());
+		player.ifPresent(p -> snapshot.setHud(p.getHealth(), p.getCurrentScore().showScore(), 
+				p.getWeapon().map(Weapon::getAmmoLeft).orElse(-1)));
+	}
+
+	private void addAll(final RenderSnapshot snapshot, final GameEntities kind, 
+			final List<? extends PhysicalObject> objs) {
+		for (final PhysicalObject o : objs) {
+			this.add(snapshot, kind, o, 0);
+		}
+	}
+
+	private void add(final RenderSnapshot snapshot, final GameEntities kind, final PhysicalObject obj, final int flags) {
+		snapshot.add(obj.getId(), kind, obj.getPosition().get().getX(), obj.getPosition().get().getY(), flags);
+	}
+}
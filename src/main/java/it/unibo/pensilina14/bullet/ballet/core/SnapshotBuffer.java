@@ -0,0 +1,60 @@
+package it.unibo.pensilina14.bullet.ballet.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple buffer of {@link RenderSnapshot}s shared by a single writer, 
+ * the simulation thread, and a single reader, the JavaFX Application Thread.
+ * 
+ * The writer fills the back snapshot and publishes it, the reader takes the 
+ * latest published one. Neither of them ever waits for the other and 
+ * no snapshot is allocated after construction.
+ */
+public final class SnapshotBuffer {
+
+	private static final int INDEX_MASK = 0b11;
+	/**
+	 * Set alongside the index of the middle snapshot when the reader has not taken it yet.
+	 */
+	private static final int FRESH = 0b100;
+
+	private final RenderSnapshot[] snapshots;
+	private final AtomicInteger middle;
+	private int back;
+	private int front;
+
+	public SnapshotBuffer() {
+		this.snapshots = new RenderSnapshot[] {new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()};
+		this.back = 0;
+		this.middle = new AtomicInteger(1);
+		this.front = 2;
+	}
+
+	/**
+	 * Writer side.
+	 * 
+	 * @return the snapshot to be filled with the state of the current tick.
+	 */
+	public RenderSnapshot getBack() {
+		return this.snapshots[this.back];
+	}
+
+	/**
+	 * Writer side, makes the back snapshot the latest one available to the reader.
+	 */
+	public void publish() {
+		this.back = this.middle.getAndSet(this.back | FRESH) & INDEX_MASK;
+	}
+
+	/**
+	 * Reader side. The returned snapshot stays untouched until the next call.
+	 * 
+	 * @return the latest published snapshot, the same as the previous call if nothing new was published.
+	 */
+	public RenderSnapshot acquire() {
+		if ((this.middle.get() & FRESH) != 0) {
+			this.front = this.middle.getAndSet(this.front) & INDEX_MASK;
+		}
+		return this.snapshots[this.front];
+	}
+}
@@ -0,0 +1,72 @@
+package it.unibo.pensilina14.bullet.ballet.core.controller;
+
+import it.unibo.pensilina14.bullet.ballet.core.RenderSnapshot;
+import it.unibo.pensilina14.bullet.ballet.graphics.scenes.GameView;
+import it.unibo.pensilina14.bullet.ballet.graphics.scenes.HeadlessView;
+import it.unibo.pensilina14.bullet.ballet.menu.controller.Frames;
+
+/**
+ * {@link ViewController} backed by a {@link HeadlessView}, 
+ * rendering and scene changes are ignored.
+ */
+public class HeadlessViewController implements ViewController {
+	/**
+	 * Main field of this class.
+	 */
+	private final GameView gameView;
+
+	public HeadlessViewController() {
+		this.gameView = new HeadlessView();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void render() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void render(final double interpolation) {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void sampleInput() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void render(final RenderSnapshot snapshot) {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public GameView getGameView() {
+		return this.gameView;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void stopPlayerAnimation() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void changeScene(final Frames frame) {
+	}
+
+}
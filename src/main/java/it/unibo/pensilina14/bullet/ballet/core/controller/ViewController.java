@@ -2,6 +2,7 @@ package it.unibo.pensilina14.bullet.ballet.core.controller;
 
 import java.io.IOException;
 
+import it.unibo.pensilina14.bullet.ballet.core.RenderSnapshot;
 import it.unibo.pensilina14.bullet.ballet.graphics.scenes.GameView;
 import it.unibo.pensilina14.bullet.ballet.menu.controller.Frames;
 
@@ -20,6 +21,24 @@ public interface ViewController {
 	 * inside {@link GameView} class.
 	 */
 	void render(); 
+	/**
+	 * Has the view read the state of the keys, refer to {@link GameView#sampleInput()}.
+	 */
+	void sampleInput();
+	/**
+	 * Hands the interpolation factor to the view and then renders it.
+	 * 
+	 * @param interpolation fraction of a model tick, in the range [0, 1), 
+	 * elapsed since the last update.
+	 */
+	void render(double interpolation);
+	/**
+	 * Hands the latest state of the game to the view and then renders it, 
+	 * the view will not read the model anymore.
+	 * 
+	 * @param snapshot the state of the game published by the simulation thread.
+	 */
+	void render(RenderSnapshot snapshot);
 	/**
 	 * Simple getters that returns a {@link GameView}.
 	 * 
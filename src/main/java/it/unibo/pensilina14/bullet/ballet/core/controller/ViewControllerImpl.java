@@ -3,10 +3,12 @@ package it.unibo.pensilina14.bullet.ballet.core.controller;
 import java.io.IOException;
 import java.util.Optional;
 
+import it.unibo.pensilina14.bullet.ballet.core.RenderSnapshot;
 import it.unibo.pensilina14.bullet.ballet.graphics.scenes.GameView;
 import it.unibo.pensilina14.bullet.ballet.menu.controller.Frames;
 import it.unibo.pensilina14.bullet.ballet.menu.controller.PageLoader;
 import it.unibo.pensilina14.bullet.ballet.menu.controller.PageLoaderImpl;
+import javafx.application.Platform;
 
 /**
  * {@inheritDoc}
@@ -38,6 +40,32 @@ public class ViewControllerImpl implements ViewController {
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void sampleInput() {
+		this.gameView.get().sampleInput();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void render(final double interpolation) {
+		this.gameView.get().setInterpolation(interpolation);
+		this.render();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void render(final RenderSnapshot snapshot) {
+		this.gameView.get().setSnapshot(snapshot);
+		this.render();
+	}
+
 	/**
 	 * {@InheritDoc}
 	 */
@@ -54,7 +82,17 @@ public class ViewControllerImpl implements ViewController {
 	@Override
 	public final void changeScene(final Frames frame) throws IOException {
 		final PageLoader pageLoader = new PageLoaderImpl();
-		pageLoader.goToSelectedPageOnInput(Frames.HOMEPAGE);
+		if (Platform.isFxApplicationThread()) {
+			pageLoader.goToSelectedPageOnInput(Frames.HOMEPAGE);
+		} else {
+			Platform.runLater(() -> {
+				try {
+					pageLoader.goToSelectedPageOnInput(Frames.HOMEPAGE);
+				} catch (IOException e) {
+					e.printStackTrace();
+				}
+			});
+		}
 	}
 	
 }
@@ -1,10 +1,10 @@
 package it.unibo.pensilina14.bullet.ballet.graphics.scenes;
 
 import java.io.IOException;
-import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2D;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.core.GameEngine;
+import it.unibo.pensilina14.bullet.ballet.core.RenderSnapshot;
 import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
-import javafx.scene.layout.Pane;
 
 /**
  * Describes a contract for every game view
@@ -18,21 +18,56 @@ public interface GameView {
 	 */
 	void setup(GameEngine controller);
 	void draw() throws IOException;
+	/**
+	 * Reads the keys held, pressed and released and hands their commands to the controller.
+	 * It does not depend on frames: it is called on every pulse, even when the frame is skipped,
+	 * so that no key is missed and held keys take effect on the next tick.
+	 */
+	void sampleInput();
+	/**
+	 * Sets how far, as a fraction of a model tick, the clock went past the last update.
+	 * Scrolling sprites are drawn ahead by this amount so motion stays smooth 
+	 * when the display refresh rate differs from the tick rate.
+	 * 
+	 * @param interpolation factor in the range [0, 1).
+	 */
+	void setInterpolation(double interpolation);
+	/**
+	 * Sets the state of the game to draw. Once a snapshot is set the view 
+	 * draws entities and hud from the latest one and never reads the model, 
+	 * which is being updated by another thread.
+	 * 
+	 * @param snapshot the state of the game published by the simulation thread.
+	 */
+	void setSnapshot(RenderSnapshot snapshot);
 	void setInputController(GameEngine controller);
-	Pane getAppPane();
-	Pane getGamePane();
-	Pane getUiPane();	
 	/**
 	 * Generates a bullet sprite based on the position of parameter bullet({@link Bullet}).
 	 * @param bullet is the model component to render in the view.
 	 * @throws IOException if file is not available.
 	 */
 	void generateBullet(PhysicalObject bullet) throws IOException;
-	void deleteEnemySpriteImage(MutablePosition2D position);
-	void deleteBulletSpriteImage(MutablePosition2D position);
-	void deleteWeaponSpriteImage(MutablePosition2D position);
-	void deleteObstacleSpriteImage(MutablePosition2D position);
-	void deleteItemSprite(MutablePosition2D position);
+	/**
+	 * Generates the sprite of an entity streamed into the world after the view was set up.
+	 * @param kind the type of the entity.
+	 * @param entity is the model component to render in the view.
+	 * @throws IOException if file is not available.
+	 */
+	void generateSprite(GameEntities kind, PhysicalObject entity) throws IOException;
+	/*
+	 * Sprites are deleted by the id of their entity: positions are not unique, 
+	 * and a pooled bullet may already be somewhere else when the view gets the call.
+	 */
+	void deleteEnemySpriteImage(int id);
+	void deleteBulletSpriteImage(int id);
+	void deleteWeaponSpriteImage(int id);
+	void deleteObstacleSpriteImage(int id);
+	void deleteItemSprite(int id);
+	/**
+	 * Deletes the sprite of an entity of any type, for instance one that left the world.
+	 * @param id the id of the entity.
+	 */
+	void deleteSprite(int id);
 	void startPlayerAnimation();
 	void stopPlayerAnimation();
 	void autoKill();
@@ -0,0 +1,82 @@
+package it.unibo.pensilina14.bullet.ballet.graphics.scenes;
+
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.core.GameEngine;
+import it.unibo.pensilina14.bullet.ballet.core.RenderSnapshot;
+import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
+
+/**
+ * {@link GameView} that draws nothing, it lets the engine 
+ * run the model where no display is available.
+ */
+public class HeadlessView implements GameView {
+
+	@Override
+	public void setup(final GameEngine controller) {
+	}
+
+	@Override
+	public void draw() {
+	}
+
+	@Override
+	public void sampleInput() {
+	}
+
+	@Override
+	public void setInterpolation(final double interpolation) {
+	}
+
+	@Override
+	public void setSnapshot(final RenderSnapshot snapshot) {
+	}
+
+	@Override
+	public void setInputController(final GameEngine controller) {
+	}
+
+	@Override
+	public void generateBullet(final PhysicalObject bullet) {
+	}
+
+	@Override
+	public void generateSprite(final GameEntities kind, final PhysicalObject entity) {
+	}
+
+	@Override
+	public void deleteEnemySpriteImage(final int id) {
+	}
+
+	@Override
+	public void deleteBulletSpriteImage(final int id) {
+	}
+
+	@Override
+	public void deleteWeaponSpriteImage(final int id) {
+	}
+
+	@Override
+	public void deleteObstacleSpriteImage(final int id) {
+	}
+
+	@Override
+	public void deleteItemSprite(final int id) {
+	}
+
+	@Override
+	public void deleteSprite(final int id) {
+	}
+
+	@Override
+	public void startPlayerAnimation() {
+	}
+
+	@Override
+	public void stopPlayerAnimation() {
+	}
+
+	@Override
+	public void autoKill() {
+	}
+
+}
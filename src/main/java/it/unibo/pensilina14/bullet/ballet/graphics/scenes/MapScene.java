@@ -1,9 +1,14 @@
 package it.unibo.pensilina14.bullet.ballet.graphics.scenes;
 
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2D;
+import it.unibo.pensilina14.bullet.ballet.common.ObjectPool;
+import it.unibo.pensilina14.bullet.ballet.common.ObjectPoolImpl;
+import it.unibo.pensilina14.bullet.ballet.common.PoolStatistics;
 import it.unibo.pensilina14.bullet.ballet.common.SpriteContainer;
 import it.unibo.pensilina14.bullet.ballet.common.SpriteManager;
 import it.unibo.pensilina14.bullet.ballet.core.GameEngine;
+import it.unibo.pensilina14.bullet.ballet.core.RenderSnapshot;
 import it.unibo.pensilina14.bullet.ballet.graphics.map.BackgroundMap;
 import it.unibo.pensilina14.bullet.ballet.graphics.map.GameMap;
 import it.unibo.pensilina14.bullet.ballet.graphics.map.Maps;
@@ -11,6 +16,7 @@ import it.unibo.pensilina14.bullet.ballet.graphics.sprite.PhysicalObjectSprite;
 import it.unibo.pensilina14.bullet.ballet.graphics.sprite.PhysicalObjectSpriteFactory;
 import it.unibo.pensilina14.bullet.ballet.graphics.sprite.PhysicalObjectSpriteFactoryImpl;
 import it.unibo.pensilina14.bullet.ballet.graphics.sprite.PlayerSprite;
+import it.unibo.pensilina14.bullet.ballet.input.Command;
 import it.unibo.pensilina14.bullet.ballet.input.Left;
 import it.unibo.pensilina14.bullet.ballet.input.Right;
 import it.unibo.pensilina14.bullet.ballet.input.Space;
@@ -21,6 +27,8 @@ import it.unibo.pensilina14.bullet.ballet.menu.controller.PageLoader;
 import it.unibo.pensilina14.bullet.ballet.menu.controller.PageLoaderImpl;
 import it.unibo.pensilina14.bullet.ballet.model.characters.Enemy;
 import it.unibo.pensilina14.bullet.ballet.model.characters.EntityList;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
+import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
 import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
 import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
 import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
@@ -34,6 +42,8 @@ import it.unibo.pensilina14.bullet.ballet.sounds.SoundsFactory;
 import it.unibo.pensilina14.bullet.ballet.sounds.SoundsFactoryImpl;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
@@ -45,47 +55,81 @@ import javafx.stage.Window;
 import javafx.stage.WindowEvent;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.IntStream;
 
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.MutablePair;
 
 public class MapScene extends AbstractScene implements GameView {
 
+    /**
+     * Bullet sprites kept hidden in the scene at most.
+     */
+    private static final int BULLET_SPRITES_CAPACITY = 64;
     private final Pane appPane = new StackPane();
     private final Pane gamePane = new Pane();
     private final Pane uiPane = new StackPane(); 
     private ImageView backgroundView;
     private final GameMap map = new BackgroundMap();
     private final SpriteManager sprites;
+    private final Command jump;
+    private final Command shoot;
     private Optional<MutablePair<PhysicalObjectSprite, MutablePosition2D>> mainWeapon;
     private final GameState gameState;
     private Optional<GameEngine> controller;
     private List<Hud> hudList;
+    private Optional<ProfilerOverlay> profilerOverlay;
     private final SoundsFactory soundsFactory;
+    private double interpolation;
+    private Optional<RenderSnapshot> snapshot;
+    /**
+     * Sprites by identifier of their model entity, used to draw from a {@link RenderSnapshot}.
+     */
+    private final Map<Integer, PhysicalObjectSprite> spritesById;
+    /**
+     * Sprites of the bullets that hit something, hidden in the scene until a bullet is shot again.
+     */
+    private final ObjectPool<PhysicalObjectSprite> bulletSprites;
 
     public MapScene(final GameState gameState) {
         this.gameState = gameState;
         this.controller = Optional.empty();
+        this.profilerOverlay = Optional.empty();
         this.appPane.setMinWidth(AbstractScene.SCENE_WIDTH); // caso mai la mappa fosse più grande o anche più piccola.
         this.appPane.setMinHeight(AbstractScene.SCENE_HEIGHT);
         this.soundsFactory = new SoundsFactoryImpl();
         this.sprites = new SpriteContainer();
         this.mainWeapon = Optional.empty();
+        this.jump = new Up(this.soundsFactory);
+        this.shoot = new Space(this, this.soundsFactory);
+        this.snapshot = Optional.empty();
+        this.spritesById = new HashMap<>();
+        this.bulletSprites = new ObjectPoolImpl<>(BULLET_SPRITES_CAPACITY, sprite -> sprite.setVisible(false));
     }
 
     public MapScene(final GameState gameState, final GameEngine ctrlr) {
         this.gameState = gameState;
         this.controller = Optional.of(ctrlr);
+        this.profilerOverlay = Optional.empty();
         this.appPane.setMinWidth(AbstractScene.SCENE_WIDTH); // caso mai la mappa fosse più grande o anche più piccola.
         this.appPane.setMinHeight(AbstractScene.SCENE_HEIGHT);
         this.soundsFactory = new SoundsFactoryImpl();
         this.sprites = new SpriteContainer();
         this.mainWeapon = Optional.empty();
+        this.jump = new Up(this.soundsFactory);
+        this.shoot = new Space(this, this.soundsFactory);
+        this.snapshot = Optional.empty();
+        this.spritesById = new HashMap<>();
+        this.bulletSprites = new ObjectPoolImpl<>(BULLET_SPRITES_CAPACITY, sprite -> sprite.setVisible(false));
     }
 
     public final void setup(final GameEngine controller) {
@@ -113,6 +157,7 @@ public class MapScene extends AbstractScene implements GameView {
         final Hud ammoInfo = new Hud(HudLabels.AMMO, Pos.TOP_RIGHT, ContentDisplay.LEFT,
                 this.uiPane, new Insets(20, 150, 0, 0));
         this.hudList = List.of(healthInfo, scoreInfo, ammoInfo);
+        this.profilerOverlay = Optional.of(new ProfilerOverlay(this.uiPane, controller.getProfiler()));
     }
 
     private void initialize() throws IOException {
@@ -127,139 +172,177 @@ public class MapScene extends AbstractScene implements GameView {
     }
 
 	private void initializeWeapons(final Environment world, final PhysicalObjectSpriteFactory spriteFactory) throws IOException {
-		for (final Weapon x : world.getEntityManager().getWeapons().get()) {
-			final MutablePosition2D xPosition = x.getPosition().get();
-			if (x.getTypeOfWeapon().equals(EntityList.Weapons.GUN)) {
-				final PhysicalObjectSprite weaponSprite = spriteFactory.generateGunWeaponSprite(x);
-				this.sprites.addWeaponSprite(weaponSprite, xPosition);
-				this.gamePane.getChildren().add(weaponSprite);
-				AppLogger.getAppLogger().info("Gun rendered");
-			} else if (x.getTypeOfWeapon().equals(EntityList.Weapons.SHOTGUN)) {
-				final PhysicalObjectSprite weaponSprite = spriteFactory.generateShotgunWeaponSprite(x);
-				this.sprites.addWeaponSprite(weaponSprite, xPosition);
-				this.gamePane.getChildren().add(weaponSprite);
-				AppLogger.getAppLogger().info("Shotgun rendered");
-			} else if (x.getTypeOfWeapon().equals(EntityList.Weapons.AUTO)) {
-				final PhysicalObjectSprite weaponSprite = spriteFactory.generateAutogunWeaponSprite(x);
-				this.sprites.addWeaponSprite(weaponSprite, xPosition);
-				this.gamePane.getChildren().add(weaponSprite);
-				AppLogger.getAppLogger().info("Automatic weapon rendered");
-			}	
+		for (final Weapon x : world.getEntityManager().getWeapons()) {
+			this.initializeWeapon(x, spriteFactory);
 		}
 		AppLogger.getAppLogger().debug("Weapons rendered");
 	}
 
+	private void initializeWeapon(final Weapon x, final PhysicalObjectSpriteFactory spriteFactory) throws IOException {
+		final MutablePosition2D xPosition = x.getPosition().get();
+		if (x.getTypeOfWeapon().equals(EntityList.Weapons.GUN)) {
+			final PhysicalObjectSprite weaponSprite = spriteFactory.generateGunWeaponSprite(x);
+			this.sprites.addWeaponSprite(weaponSprite, xPosition);
+			this.addToScene(x, weaponSprite);
+			AppLogger.getAppLogger().info("Gun rendered");
+		} else if (x.getTypeOfWeapon().equals(EntityList.Weapons.SHOTGUN)) {
+			final PhysicalObjectSprite weaponSprite = spriteFactory.generateShotgunWeaponSprite(x);
+			this.sprites.addWeaponSprite(weaponSprite, xPosition);
+			this.addToScene(x, weaponSprite);
+			AppLogger.getAppLogger().info("Shotgun rendered");
+		} else if (x.getTypeOfWeapon().equals(EntityList.Weapons.AUTO)) {
+			final PhysicalObjectSprite weaponSprite = spriteFactory.generateAutogunWeaponSprite(x);
+			this.sprites.addWeaponSprite(weaponSprite, xPosition);
+			this.addToScene(x, weaponSprite);
+			AppLogger.getAppLogger().info("Automatic weapon rendered");
+		}	
+	}
+
 	private void initializeObstacles(final Environment world, final PhysicalObjectSpriteFactory spriteFactory)
 			throws IOException {
-		for (final PhysicalObject x : world.getEntityManager().getObstacles().get()) {
-    		final MutablePosition2D xPosition = x.getPosition().get();
-    		if (x instanceof Obstacle) {
-    			final PhysicalObjectSprite obstacleSprite = spriteFactory.generateBunnySprite(x);
-    			obstacleSprite.renderPosition(xPosition.getX(), xPosition.getY());
-    			this.sprites.addObstacleSprite(obstacleSprite, xPosition);
-    			this.gamePane.getChildren().add(obstacleSprite);
-    			AppLogger.getAppLogger().debug("Static Obstacle rendered");
-    		} 
+		for (final PhysicalObject x : world.getEntityManager().getObstacles()) {
+			this.initializeObstacle(x, spriteFactory);
     	}
 	}
 
+	private void initializeObstacle(final PhysicalObject x, final PhysicalObjectSpriteFactory spriteFactory) throws IOException {
+		final MutablePosition2D xPosition = x.getPosition().get();
+		if (x instanceof Obstacle) {
+			final PhysicalObjectSprite obstacleSprite = spriteFactory.generateBunnySprite(x);
+			obstacleSprite.renderPosition(xPosition.getX(), xPosition.getY());
+			this.sprites.addObstacleSprite(obstacleSprite, xPosition);
+			this.addToScene(x, obstacleSprite);
+			AppLogger.getAppLogger().debug("Static Obstacle rendered");
+		} 
+	}
+
 	private void initializeItems(final Environment world, final PhysicalObjectSpriteFactory spriteFactory)
 			throws IOException {
-		for (final Item x : world.getEntityManager().getItems().get()) {
-    	    final MutablePosition2D position = x.getPosition().get();
-    		if (x.getItemId().equals(Items.DAMAGE)) {
-    			final PhysicalObjectSprite itemSprite = spriteFactory.generateDamagingItemSprite(x);
-        	    itemSprite.renderPosition(position.getX(), position.getY());
-        	    this.sprites.addItemSprite(itemSprite, position);
-        	    this.gamePane.getChildren().add(itemSprite);
-    		} else if (x.getItemId().equals(Items.HEART)) {
-        	    final PhysicalObjectSprite itemSprite = spriteFactory.generateHealingItemSprite(x);
-        	    itemSprite.renderPosition(position.getX(), position.getY());
-        	    this.sprites.addItemSprite(itemSprite, position);
-        	    this.gamePane.getChildren().add(itemSprite);
-    		} else if (x.getItemId().equals(Items.POISON)) {
-    			final PhysicalObjectSprite itemSprite = spriteFactory.generatePoisoningItemSprite(x);
-        	    itemSprite.renderPosition(position.getX(), position.getY());
-        	    this.sprites.addItemSprite(itemSprite, position);
-        	    this.gamePane.getChildren().add(itemSprite);
-    		} else if (x.getItemId().equals(Items.COIN)) {
-    			final PhysicalObjectSprite itemSprite = spriteFactory.generateCoinItemSprite(this.map.getCoinType(), x);
-        	    itemSprite.renderPosition(position.getX(), position.getY());
-        	    this.sprites.addItemSprite(itemSprite, position);
-        	    this.gamePane.getChildren().add(itemSprite);
-    		} else if (x.getItemId().equals(Items.CHARGER)) {
-    			final PhysicalObjectSprite itemSprite = spriteFactory.generateAmmoSprite(x);
-    			this.sprites.addItemSprite(itemSprite, position);
-    			this.gamePane.getChildren().add(itemSprite);
-    		} else if (x.getItemId().equals(Items.FLAG)) {
-				final PhysicalObjectSprite itemSprite = spriteFactory.generateFlagSprite(x);
-				this.sprites.addItemSprite(itemSprite, position);
-				this.gamePane.getChildren().add(itemSprite);
-			}
+		for (final Item x : world.getEntityManager().getItems()) {
+			this.initializeItem(x, spriteFactory);
     	}
     	AppLogger.getAppLogger().debug("Items rendered.");
 	}
 
+	private void initializeItem(final Item x, final PhysicalObjectSpriteFactory spriteFactory) throws IOException {
+		final MutablePosition2D position = x.getPosition().get();
+		if (x.getItemId().equals(Items.DAMAGE)) {
+			final PhysicalObjectSprite itemSprite = spriteFactory.generateDamagingItemSprite(x);
+			itemSprite.renderPosition(position.getX(), position.getY());
+			this.sprites.addItemSprite(itemSprite, position);
+			this.addToScene(x, itemSprite);
+		} else if (x.getItemId().equals(Items.HEART)) {
+			final PhysicalObjectSprite itemSprite = spriteFactory.generateHealingItemSprite(x);
+			itemSprite.renderPosition(position.getX(), position.getY());
+			this.sprites.addItemSprite(itemSprite, position);
+			this.addToScene(x, itemSprite);
+		} else if (x.getItemId().equals(Items.POISON)) {
+			final PhysicalObjectSprite itemSprite = spriteFactory.generatePoisoningItemSprite(x);
+			itemSprite.renderPosition(position.getX(), position.getY());
+			this.sprites.addItemSprite(itemSprite, position);
+			this.addToScene(x, itemSprite);
+		} else if (x.getItemId().equals(Items.COIN)) {
+			final PhysicalObjectSprite itemSprite = spriteFactory.generateCoinItemSprite(this.map.getCoinType(), x);
+			itemSprite.renderPosition(position.getX(), position.getY());
+			this.sprites.addItemSprite(itemSprite, position);
+			this.addToScene(x, itemSprite);
+		} else if (x.getItemId().equals(Items.CHARGER)) {
+			final PhysicalObjectSprite itemSprite = spriteFactory.generateAmmoSprite(x);
+			this.sprites.addItemSprite(itemSprite, position);
+			this.addToScene(x, itemSprite);
+		} else if (x.getItemId().equals(Items.FLAG)) {
+			final PhysicalObjectSprite itemSprite = spriteFactory.generateFlagSprite(x);
+			this.sprites.addItemSprite(itemSprite, position);
+			this.addToScene(x, itemSprite);
+		}
+	}
+
 	private void initializeEnemies(final Environment world, final PhysicalObjectSpriteFactory spriteFactory) throws IOException {
-		for (final Enemy x : world.getEntityManager().getEnemies().get()) {
-    		final MutablePosition2D xPosition = x.getPosition().get();
-    		final PhysicalObjectSprite enemySprite = spriteFactory.generateEnemySprite(x);
-    		this.sprites.addEnemySprite(enemySprite, xPosition);
-    		this.gamePane.getChildren().add(enemySprite);
+		for (final Enemy x : world.getEntityManager().getEnemies()) {
+			this.initializeEnemy(x, spriteFactory);
     	}
     	AppLogger.getAppLogger().debug("Enemies rendered.");
 	}
 
+	private void initializeEnemy(final Enemy x, final PhysicalObjectSpriteFactory spriteFactory) throws IOException {
+		final MutablePosition2D xPosition = x.getPosition().get();
+		final PhysicalObjectSprite enemySprite = spriteFactory.generateEnemySprite(x);
+		this.sprites.addEnemySprite(enemySprite, xPosition);
+		this.addToScene(x, enemySprite);
+	}
+
 	private void initializePlatforms(final Environment world, final PhysicalObjectSpriteFactory spriteFactory) throws IOException {
-		for (final Platform x : world.getEntityManager().getPlatforms().get()) {
-    		final MutablePosition2D xPosition = x.getPosition().get();
-    		final PhysicalObjectSprite platformSprite = spriteFactory.generatePlatformSprite(this.map.getPlatformType(), x);
-    		this.sprites.addPlatformSprite(platformSprite, xPosition);
-    		this.gamePane.getChildren().add(platformSprite);
+		for (final Platform x : world.getEntityManager().getPlatforms()) {
+			this.initializePlatform(x, spriteFactory);
     	}
     	AppLogger.getAppLogger().debug("Platforms rendered.");
 	}
 
+	private void initializePlatform(final Platform x, final PhysicalObjectSpriteFactory spriteFactory) throws IOException {
+		final MutablePosition2D xPosition = x.getPosition().get();
+		final PhysicalObjectSprite platformSprite = spriteFactory.generatePlatformSprite(this.map.getPlatformType(), x);
+		this.sprites.addPlatformSprite(platformSprite, xPosition);
+		this.addToScene(x, platformSprite);
+	}
+
 	private void initializePlayer(final Environment world, final PhysicalObjectSpriteFactory spriteFactory) throws IOException {
 		if (world.getEntityManager().getPlayer().isPresent()) {
     		final MutablePosition2D playerPos = world.getEntityManager().getPlayer().get().getPosition().get();
     		final PhysicalObjectSprite playerSprite = spriteFactory.generatePlayerSprite(world.getEntityManager().getPlayer().get());
     		this.sprites.addPlayerSprite(playerSprite, playerPos);
-        	this.gamePane.getChildren().add(playerSprite);
+        	this.addToScene(world.getEntityManager().getPlayer().get(), playerSprite);
        		AppLogger.getAppLogger().debug(String.format("Player %s rendered.", world.getEntityManager().getPlayer().get()));
     	}
 	}
 
     @Override
     public final void draw() throws IOException {
-	    this.update();
 	    try {
 			this.render();
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
+	    this.renderProfiler();
+    }
+
+    @Override
+    public final void sampleInput() {
+    	try {
+    		this.update();
+    	} catch (IOException e) {
+    		e.printStackTrace();
+    	}
     }
 
     private void update() throws IOException {
     	this.startPlayerAnimation();
 
+        /*
+         * Held keys are only sampled here, the engine executes their commands once per tick.
+         */
         if (this.keysPressed.contains(KeyCode.UP)) { 
         	this.stopPlayerAnimation();
-            this.controller.get().notifyCommand(new Up());
+            this.controller.get().holdCommand(this.jump);
+        } else {
+        	this.controller.get().releaseCommand(this.jump);
         }
 
         if (this.keysPressed.contains(KeyCode.RIGHT)) {
         	this.startPlayerAnimation();
-            this.controller.get().notifyCommand(new Right());
+            this.controller.get().holdCommand(Right.getInstance());
+        } else {
+        	this.controller.get().releaseCommand(Right.getInstance());
         }
 
         if (this.keysPressed.contains(KeyCode.LEFT)) {
-            this.controller.get().notifyCommand(new Left());
+            this.controller.get().holdCommand(Left.getInstance());
+        } else {
+        	this.controller.get().releaseCommand(Left.getInstance());
         }
 
         if (this.keysReleased.contains(KeyCode.SPACE)) {
         	AppLogger.getAppLogger().info("Key 'SPACE' pressed.");
-        	this.controller.get().notifyCommand(new Space(this));
+        	this.controller.get().notifyCommand(this.shoot);
         }
 
         if (this.keysReleased.contains(KeyCode.ESCAPE)) {
@@ -295,17 +378,33 @@ public class MapScene extends AbstractScene implements GameView {
         	this.keysReleased.remove(KeyCode.ESCAPE);
         }
 
+        if (this.keysReleased.contains(KeyCode.F3)) {
+        	this.profilerOverlay.ifPresent(ProfilerOverlay::toggle);
+        	this.keysReleased.remove(KeyCode.F3);
+        }
+
     }
 
     private void render() throws IOException {
+    	if (this.snapshot.isPresent()) {
+    		this.renderSnapshot(this.snapshot.get());
+    		return;
+    	}
     	final Environment env = this.gameState.getGameEnvironment();
+    	/*
+    	 * Sprites are drawn at the coordinates of their entity in the world, the pane holding them 
+    	 * follows the camera instead, moved ahead by the fraction of tick elapsed since the last update.
+    	 * The player moves along with the camera, so it is moved ahead as much.
+    	 */
+    	final double ahead = this.interpolation * GameEntity.SCROLL_SPEED;
+    	this.gamePane.setTranslateX(-(env.getCameraX() + ahead));
 
     	if (this.sprites.getPlayerSprite().isPresent()) {
             this.sprites.getPlayerSprite().get().get(0).getRight().setPosition(
             		env.getEntityManager().getPlayer().get().getPosition().get().getX(),
             		env.getEntityManager().getPlayer().get().getPosition().get().getY());
             this.sprites.getPlayerSprite().get().get(0).getLeft().renderPosition(
-            		this.sprites.getPlayerSprite().get().get(0).getRight().getX(),
+            		this.sprites.getPlayerSprite().get().get(0).getRight().getX() + ahead,
             		this.sprites.getPlayerSprite().get().get(0).getRight().getY());
     	}
 
@@ -321,48 +420,125 @@ public class MapScene extends AbstractScene implements GameView {
     		} else {
     			final MutablePosition2D pos = this.sprites.getPlayerSprite().get().get(0).getRight();
     			if (this.mainWeapon.isPresent()) {
-    				this.mainWeapon.get().getLeft().renderPosition(pos.getX(), pos.getY());
+    				this.mainWeapon.get().getLeft().renderPosition(pos.getX() + ahead, pos.getY());
     			}
     		}
     	}
 
-    	if (this.sprites.getPlatformsSprites().isPresent()) {
-    		this.sprites.getPlatformsSprites().get().stream().forEach(p -> p.getLeft().renderMovingPosition());
-    	}
-
+    	/*
+    	 * Moving sprites follow their model position, several ticks may have run since the last render.
+    	 * Platforms, items and weapons on the ground never move in the world, they stay where they were built.
+    	 */
     	if (this.sprites.getEnemiesSprites().isPresent()) {
-    		this.sprites.getEnemiesSprites().get().stream().forEach(p -> p.getLeft().renderPosition(p.getRight().getX(), p.getRight().getY()));
-    	}
-
-    	if (this.sprites.getItemsSprites().isPresent()) {
-    		this.sprites.getItemsSprites().get().stream().forEach(p -> p.getLeft().renderMovingPosition());
+    		this.sprites.getEnemiesSprites().get().stream().forEach(this::renderModel);
     	}
 
     	if (this.sprites.getObstaclesSprites().isPresent()) {
-    	  	this.sprites.getObstaclesSprites().get().stream().forEach(p -> p.getLeft().renderPosition(p.getRight().getX(), p.getRight().getY()));
+    	  	this.sprites.getObstaclesSprites().get().stream().forEach(this::renderModel);
     	}
 
-    	if (this.sprites.getWeaponsSprites().isPresent()) {
-        	this.sprites.getWeaponsSprites().get().stream().forEach(p -> p.getLeft().renderPosition(p.getRight().getX(), p.getRight().getY()));
+
+    	if (this.sprites.getBulletsSprites().isPresent()) {
+    		this.sprites.getBulletsSprites().get().stream().forEach(this::renderModel);
     	}
 
+    	final Player player = env.getEntityManager().getPlayer().get();
+    	this.renderHud(player.getHealth(), player.getCurrentScore().showScore(), 
+    			player.hasWeapon() ? player.getWeapon().get().getAmmoLeft() : -1);
+    }
 
-    	if (this.sprites.getBulletsSprites().isPresent()) {
-    		this.sprites.getBulletsSprites().get().stream().forEach(p -> p.getLeft().renderPosition(p.getRight().getX(), p.getRight().getY()));
+    /**
+     * Draws every entity of the snapshot at its position, sprites whose entity 
+     * is not in the snapshot stay where they are until they are deleted.
+     * Dead characters are hidden until their sprite is deleted, the weapon the player holds is drawn on the player.
+     * 
+     * @param snapshot the latest state of the game.
+     */
+    private void renderSnapshot(final RenderSnapshot snapshot) {
+    	this.gamePane.setTranslateX(-snapshot.getCameraX());
+    	// The player comes first in the snapshot, before the weapons.
+    	double playerX = 0.0;
+    	double playerY = 0.0;
+    	for (int i = 0; i < snapshot.size(); i++) {
+    		if (snapshot.getKind(i) == GameEntities.PLAYER) {
+    			playerX = snapshot.getX(i);
+    			playerY = snapshot.getY(i);
+    		}
+    		final PhysicalObjectSprite sprite = this.spritesById.get(snapshot.getId(i));
+    		if (sprite == null) {
+    			continue;
+    		}
+    		if (snapshot.hasFlag(i, RenderSnapshot.DEAD)) {
+    			sprite.setVisible(false);
+    		} else if (snapshot.hasFlag(i, RenderSnapshot.EQUIPPED)) {
+    			sprite.renderPosition(playerX, playerY);
+    		} else {
+    			sprite.renderPosition(snapshot.getX(i), snapshot.getY(i));
+    		}
     	}
+    	this.renderHud(snapshot.getHealth(), snapshot.getScore(), snapshot.getAmmo());
+    }
 
+    private void renderHud(final double health, final double score, final int ammo) {
 		IntStream.range(0, this.hudList.size()).forEach(i -> {
 			final Label label = (Label) this.uiPane.getChildren().get(i);
 			if (this.checkChildrenById(i, HudLabels.HEALTH)) {
-				label.setText("Health: " + env.getEntityManager().getPlayer().get().getHealth());
+				label.setText("Health: " + health);
 			} else if (this.checkChildrenById(i, HudLabels.SCORE)) {
-				label.setText("Score: " + env.getEntityManager().getPlayer().get().getCurrentScore().showScore());
-			} else if (this.checkChildrenById(i, HudLabels.AMMO) && env.getEntityManager().getPlayer().get().hasWeapon()) {
-				label.setText("Ammo: " + env.getEntityManager().getPlayer().get().getWeapon().get().getAmmoLeft());
+				label.setText("Score: " + score);
+			} else if (this.checkChildrenById(i, HudLabels.AMMO) && ammo >= 0) {
+				label.setText("Ammo: " + ammo);
 			}
 		});
     }
 
+    /**
+     * Draws a sprite at the position of its model entity in the world.
+     * 
+     * @param p the sprite and the position of its model entity.
+     */
+    private void renderModel(final ImmutablePair<PhysicalObjectSprite, MutablePosition2D> p) {
+    	p.getLeft().renderPosition(p.getRight().getX(), p.getRight().getY());
+    }
+
+    /**
+     * Refreshes the profiler overlay, when it is shown and a refresh is due.
+     */
+    private void renderProfiler() {
+    	if (this.profilerOverlay.isEmpty() || !this.profilerOverlay.get().nextFrame()) {
+    		return;
+    	}
+    	final Map<GameEntities, Integer> entities = new EnumMap<>(GameEntities.class);
+    	if (this.snapshot.isPresent()) {
+    		final RenderSnapshot last = this.snapshot.get();
+    		for (int i = 0; i < last.size(); i++) {
+    			entities.merge(last.getKind(i), 1, Integer::sum);
+    		}
+    	} else {
+    		for (final GameEntities type : GameEntities.values()) {
+    			entities.put(type, this.gameState.getGameEnvironment().getEntityManager().count(type));
+    		}
+    	}
+    	final Map<String, PoolStatistics> pools = new LinkedHashMap<>();
+    	/*
+    	 * The bullet pool belongs to the thread running the model, on a dedicated thread its statistics come with the snapshot.
+    	 */
+    	pools.put("BULLETS", this.snapshot.isPresent() ? this.snapshot.get().getBulletPool()
+    			: PoolStatistics.of(this.gameState.getGameEnvironment().getBulletPool()));
+    	pools.put("BULLET SPRITES", PoolStatistics.of(this.bulletSprites));
+    	this.profilerOverlay.get().refresh(entities, pools, countNodes(this.appPane));
+    }
+
+    private static int countNodes(final Node node) {
+    	int count = 1;
+    	if (node instanceof Parent) {
+    		for (final Node child : ((Parent) node).getChildrenUnmodifiable()) {
+    			count += countNodes(child);
+    		}
+    	}
+    	return count;
+    }
+
     private boolean checkChildrenById(final int i, final HudLabels label) {
     	return this.uiPane.getChildren().get(i).getId().equals(label.toString());
     }
@@ -383,6 +559,16 @@ public class MapScene extends AbstractScene implements GameView {
     	return this.uiPane;
     }
 
+	@Override
+	public final void setInterpolation(final double interpolation) {
+		this.interpolation = interpolation;
+	}
+
+	@Override
+	public final void setSnapshot(final RenderSnapshot snapshot) {
+		this.snapshot = Optional.of(snapshot);
+	}
+
 	@Override
 	public final void setInputController(final GameEngine controller) {
 		this.controller = Optional.of(controller);
@@ -398,39 +584,128 @@ public class MapScene extends AbstractScene implements GameView {
 	}
 
 	@Override
-	public final void deleteEnemySpriteImage(final MutablePosition2D position) {
-		this.deleteFromScene(position);
+	public final void deleteEnemySpriteImage(final int id) {
+		this.deleteFromScene(id);
 	}
 
 	@Override
-	public final void deleteBulletSpriteImage(final MutablePosition2D position) {
-		this.deleteFromScene(position);
+	public final void deleteBulletSpriteImage(final int id) {
+		this.runOnFxThread(() -> {
+			final PhysicalObjectSprite deleted = this.spritesById.remove(id);
+			if (deleted != null) {
+				this.sprites.deleteSprite(deleted);
+				/*
+				 * The sprite stays in the scene, hidden, until the next bullet is shot.
+				 */
+				if (!this.bulletSprites.release(deleted)) {
+					this.gamePane.getChildren().remove(deleted);
+				}
+			}
+		});
 	}
 	
 	@Override
-	public final void deleteItemSprite(final MutablePosition2D position) {
-		this.deleteFromScene(position);
+	public final void deleteItemSprite(final int id) {
+		this.deleteFromScene(id);
 	}
 
 	@Override
-	public final void deleteWeaponSpriteImage(final MutablePosition2D position) {
-		this.deleteFromScene(position);
-		this.mainWeapon = Optional.empty();   
+	public final void deleteSprite(final int id) {
+		this.deleteFromScene(id);
+	}
+
+	@Override
+	public final void deleteWeaponSpriteImage(final int id) {
+		this.runOnFxThread(() -> {
+			this.removeFromScene(id);
+			this.mainWeapon = Optional.empty();
+		});
 	}
 	
-	private void deleteFromScene(final MutablePosition2D position) {
-		final Optional<PhysicalObjectSprite> deleted = this.sprites.deleteSprite(position);
-		if (deleted.isPresent()) {
-			this.gamePane.getChildren().remove(deleted.get());
+	private void deleteFromScene(final int id) {
+		this.runOnFxThread(() -> this.removeFromScene(id));
+	}
+
+	private void removeFromScene(final int id) {
+		final PhysicalObjectSprite deleted = this.spritesById.remove(id);
+		if (deleted != null) {
+			this.sprites.deleteSprite(deleted);
+			this.gamePane.getChildren().remove(deleted);
+		}
+	}
+
+	private void addToScene(final PhysicalObject obj, final PhysicalObjectSprite sprite) {
+		this.gamePane.getChildren().add(sprite);
+		this.spritesById.put(obj.getId(), sprite);
+	}
+
+	/**
+	 * Nodes of the scene can only be touched by the JavaFX Application Thread, 
+	 * calls coming from the simulation thread are handed over to it.
+	 * 
+	 * @param action the change to the scene.
+	 */
+	private void runOnFxThread(final Runnable action) {
+		if (javafx.application.Platform.isFxApplicationThread()) {
+			action.run();
+		} else {
+			javafx.application.Platform.runLater(action);
 		}
 	}
 
+	@Override
+	public final void generateSprite(final GameEntities kind, final PhysicalObject entity) throws IOException {
+		this.runOnFxThread(() -> {
+			final PhysicalObjectSpriteFactory spriteFactory = new PhysicalObjectSpriteFactoryImpl();
+			try {
+				switch (kind) {
+				case PLATFORM:
+					this.initializePlatform((Platform) entity, spriteFactory);
+					break;
+				case ENEMY:
+					this.initializeEnemy((Enemy) entity, spriteFactory);
+					break;
+				case PICKUP_ITEM:
+					this.initializeItem((Item) entity, spriteFactory);
+					break;
+				case OBSTACLE:
+					this.initializeObstacle(entity, spriteFactory);
+					break;
+				case WEAPON:
+					this.initializeWeapon((Weapon) entity, spriteFactory);
+					break;
+				default:
+					AppLogger.getAppLogger().warn(kind + " cannot be streamed into the scene.");
+					break;
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
 	@Override
 	public final void generateBullet(final PhysicalObject bullet) throws IOException {
-		final PhysicalObjectSpriteFactory factory = new PhysicalObjectSpriteFactoryImpl();
-		final PhysicalObjectSprite bulletSprite = factory.generateBulletSprite(bullet);
-		this.sprites.addBulletSprite(bulletSprite, bullet.getPosition().get());
-		this.gamePane.getChildren().add(bulletSprite);
+		this.runOnFxThread(() -> {
+			final MutablePosition2D position = bullet.getPosition().get();
+			try {
+				final PhysicalObjectSprite bulletSprite = this.bulletSprites.acquire(() -> {
+					try {
+						final PhysicalObjectSprite created = new PhysicalObjectSpriteFactoryImpl().generateBulletSprite(bullet);
+						this.gamePane.getChildren().add(created);
+						return created;
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				bulletSprite.renderPosition(position.getX(), position.getY());
+				bulletSprite.setVisible(true);
+				this.sprites.addBulletSprite(bulletSprite, position);
+				this.spritesById.put(bullet.getId(), bulletSprite);
+			} catch (UncheckedIOException e) {
+				e.printStackTrace();
+			}
+		});
 	}
 	
 	public final void startPlayerAnimation() {
@@ -444,23 +719,27 @@ public class MapScene extends AbstractScene implements GameView {
 	
 	@Override
 	public final void stopPlayerAnimation() {
-		try {
-			final PlayerSprite playerSprite = (PlayerSprite) this.sprites.getPlayerSprite().get().get(0).getLeft();
-			playerSprite.getSpriteAnimation().stop();
-		} catch (final ClassCastException e) {
-			e.printStackTrace();
-		}
+		this.runOnFxThread(() -> {
+			try {
+				final PlayerSprite playerSprite = (PlayerSprite) this.sprites.getPlayerSprite().get().get(0).getLeft();
+				playerSprite.getSpriteAnimation().stop();
+			} catch (final ClassCastException e) {
+				e.printStackTrace();
+			}
+		});
 	}
 	
 	@Override
 	public final void autoKill() {
-		final Window window = this.getWindow();
-		window.fireEvent(new WindowEvent(window, WindowEvent.WINDOW_CLOSE_REQUEST));
+		this.runOnFxThread(() -> {
+			final Window window = this.getWindow();
+			window.fireEvent(new WindowEvent(window, WindowEvent.WINDOW_CLOSE_REQUEST));
+		});
 	}
 
 	@Override
-	public final void deleteObstacleSpriteImage(final MutablePosition2D position) {
-		this.deleteFromScene(position);
+	public final void deleteObstacleSpriteImage(final int id) {
+		this.deleteFromScene(id);
 	}
 	
 }
@@ -0,0 +1,108 @@
+package it.unibo.pensilina14.bullet.ballet.graphics.scenes;
+
+import java.util.Map;
+
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.common.PoolStatistics;
+import it.unibo.pensilina14.bullet.ballet.profiling.EnginePhases;
+import it.unibo.pensilina14.bullet.ballet.profiling.FrameProfiler;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+/**
+ * Debug label showing the latencies of the {@link EnginePhases},
+ * how many entities are alive, how well the object pools are reused 
+ * and how big the scene graph is.
+ *
+ * It is hidden by default and its text is only rebuilt every
+ * {@link #REFRESH_FRAMES} frames, so it costs next to nothing when not shown.
+ */
+public class ProfilerOverlay {
+	/**
+	 * Frames between two refreshes of the text.
+	 */
+	public static final int REFRESH_FRAMES = 30;
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+	private static final int FONT_SIZE = 14;
+
+	private final FrameProfiler profiler;
+	private final Label label;
+	private int frames;
+
+	/**
+	 * @param pane the pane the overlay is added to.
+	 * @param profiler the profiler whose statistics are shown.
+	 */
+	public ProfilerOverlay(final Pane pane, final FrameProfiler profiler) {
+		this.profiler = profiler;
+		this.label = new Label();
+		this.label.setId("Profiler");
+		this.label.setTextFill(Color.LIME);
+		this.label.setFont(Font.font("Monospaced", FONT_SIZE));
+		this.label.setStyle("-fx-background-color: rgba(0, 0, 0, 0.6);");
+		this.label.setMouseTransparent(true);
+		this.label.setVisible(false);
+		pane.getChildren().add(this.label);
+		StackPane.setMargin(this.label, new Insets(0, 0, 20, 20));
+		StackPane.setAlignment(this.label, Pos.BOTTOM_LEFT);
+	}
+
+	/**
+	 * Shows the overlay if it is hidden, hides it otherwise.
+	 */
+	public void toggle() {
+		this.label.setVisible(!this.label.isVisible());
+		this.frames = REFRESH_FRAMES;
+	}
+
+	/**
+	 * @return whether the overlay is shown.
+	 */
+	public boolean isVisible() {
+		return this.label.isVisible();
+	}
+
+	/**
+	 * Counts a frame.
+	 *
+	 * @return true if the overlay is shown and its text is due for a refresh.
+	 */
+	public boolean nextFrame() {
+		if (!this.label.isVisible()) {
+			return false;
+		}
+		this.frames++;
+		if (this.frames >= REFRESH_FRAMES) {
+			this.frames = 0;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Rebuilds the text of the overlay.
+	 *
+	 * @param entities the number of entities alive by type.
+	 * @param pools the statistics of the object pools, by name.
+	 * @param nodes the number of nodes in the scene graph.
+	 */
+	public void refresh(final Map<GameEntities, Integer> entities, final Map<String, PoolStatistics> pools, final int nodes) {
+		final StringBuilder text = new StringBuilder(String.format("%-10s %8s %8s %8s%n", "phase", "p50 ms", "p99 ms", "max ms"));
+		for (final EnginePhases phase : EnginePhases.values()) {
+			text.append(String.format("%-10s %8.3f %8.3f %8.3f%n", phase,
+					this.profiler.getP50(phase) / NANOS_PER_MILLI,
+					this.profiler.getP99(phase) / NANOS_PER_MILLI,
+					this.profiler.getMax(phase) / NANOS_PER_MILLI));
+		}
+		entities.forEach((type, count) -> text.append(String.format("%-12s %6d%n", type, count)));
+		pools.forEach((name, pool) -> text.append(String.format("%-14s %4d/%d free %5.1f%% hit%n", name, 
+				pool.getFree(), pool.getCapacity(), pool.getHitRate() * 100)));
+		text.append(String.format("%-12s %6d", "NODES", nodes));
+		this.label.setText(text.toString());
+	}
+}
@@ -7,7 +7,6 @@ import java.nio.file.Paths;
 
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2D;
 import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2D;
-import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
 import it.unibo.pensilina14.bullet.ballet.logging.AppLogger;
 import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
 import javafx.geometry.Rectangle2D;
@@ -20,7 +19,6 @@ import javax.imageio.ImageIO;
 public class PhysicalObjectSprite extends Pane {
 
     private final ImageView imageView;
-    private MutablePosition2D position;
     private final Dimension2D physicalObjectDimension;
 
     public PhysicalObjectSprite(final Images img, final MutablePosition2D position,
@@ -30,7 +28,6 @@ public class PhysicalObjectSprite extends Pane {
         this.physicalObjectDimension = physicalObject.getDimension().get();
         final double physicalObjectWidth = physicalObject.getDimension().get().getWidth();
         final double physicalObjectHeight = physicalObject.getDimension().get().getHeight();
-        this.position = position;
         this.renderPosition(position.getX(), position.getY());
         this.imageView.setFitWidth(physicalObjectWidth);
         this.imageView.setFitHeight(physicalObjectHeight);
@@ -45,7 +42,6 @@ public class PhysicalObjectSprite extends Pane {
         this.physicalObjectDimension = physicalObject.getDimension().get();
         final double physicalObjectWidth = physicalObject.getDimension().get().getWidth();
         final double physicalObjectHeight = physicalObject.getDimension().get().getHeight();
-        this.position = position;
         this.renderPosition(position.getX(), position.getY());
         this.imageView.setFitWidth(physicalObjectWidth);
         this.imageView.setFitHeight(physicalObjectHeight);
@@ -60,7 +56,6 @@ public class PhysicalObjectSprite extends Pane {
         this.physicalObjectDimension = physicalObject.getDimension().get();
         final double physicalObjectWidth = physicalObject.getDimension().get().getWidth();
         final double physicalObjectHeight = physicalObject.getDimension().get().getHeight();
-        this.position = position;
         this.renderPosition(position.getX(), position.getY());
         this.imageView.setFitWidth(physicalObjectWidth);
         this.imageView.setFitHeight(physicalObjectHeight);
@@ -71,17 +66,6 @@ public class PhysicalObjectSprite extends Pane {
     public final void renderPosition(final double x, final double y) {
         this.setTranslateX(x);
         this.setTranslateY(y);
-        this.position = new MutablePosition2Dimpl(x, y);
-    }
-
-    /**
-     * Could be overwritten in subclasses that don't need to do this kind of movement 
-     * on the screen such as the player -> {@link PlayerSprite}.
-     */
-    public void renderMovingPosition() {
-        final double nextX = this.position.getX() - 1;
-        this.position.setPosition(nextX, this.position.getY());
-        this.setTranslateX(this.position.getX());
     }
 
     public final ImageView getImageView() {
@@ -31,12 +31,4 @@ public class PlayerSprite extends PhysicalObjectSprite {
 	public final SpriteAnimation getSpriteAnimation() {
         return this.animation;
     }
-	
-	@Override
-	public final void renderMovingPosition() {
-		extracted();
-	}
-
-	private void extracted() {
-	}
 }
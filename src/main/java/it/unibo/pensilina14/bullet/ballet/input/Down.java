@@ -3,15 +3,23 @@ package it.unibo.pensilina14.bullet.ballet.input;
 import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
 import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
 
-public class Down implements Command {
+public class Down implements MovementCommand {
 
 	/**
 	 * Factor every time Down command is executed
 	 * the player moves by.
 	 */
 	public static final double MOVEMENT_DELTA = 3;
+	private static final Down SINGLETON = new Down();
 	private final double movement;
 	
+	/**
+	 * @return the shared instance moving by {@link #MOVEMENT_DELTA}.
+	 */
+	public static Down getInstance() {
+		return SINGLETON;
+	}
+	
 	public Down() {
 		this.movement = MOVEMENT_DELTA;
 	}
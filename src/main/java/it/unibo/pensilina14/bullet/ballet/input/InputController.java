@@ -2,6 +2,26 @@ package it.unibo.pensilina14.bullet.ballet.input;
 
 public interface InputController {
 	
+	/**
+	 * Queues a command to be executed once, on the next tick.
+	 * 
+	 * @param cmd the command.
+	 */
 	void notifyCommand(Command cmd);
 	
+	/**
+	 * Executes the command once per tick, until it is released. 
+	 * Holding an already held command has no effect.
+	 * 
+	 * @param cmd the command, for instance the one bound to a key being held down.
+	 */
+	void holdCommand(Command cmd);
+	
+	/**
+	 * Stops executing a command previously held.
+	 * 
+	 * @param cmd the command.
+	 */
+	void releaseCommand(Command cmd);
+	
 }
@@ -3,13 +3,21 @@ package it.unibo.pensilina14.bullet.ballet.input;
 import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
 import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
 
-public class Left implements Command {
+public class Left implements MovementCommand {
 
 	/**
 	 * Factor every time Left command is executed
 	 * the player moves by.
 	 */
 	public static final double MOVEMENT_DELTA = 3;
+	private static final Left SINGLETON = new Left();
+	
+	/**
+	 * @return the shared instance, the command has no state.
+	 */
+	public static Left getInstance() {
+		return SINGLETON;
+	}
 	
 	@Override
 	public void execute(final GameState env) {
@@ -0,0 +1,9 @@
+package it.unibo.pensilina14.bullet.ballet.input;
+
+/**
+ * Command that only moves the player. Such commands stem from keys being held, 
+ * so several of the same type within a single tick are merged into one.
+ */
+public interface MovementCommand extends Command {
+
+}
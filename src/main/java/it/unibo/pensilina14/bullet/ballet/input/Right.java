@@ -3,18 +3,25 @@ package it.unibo.pensilina14.bullet.ballet.input;
 import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
 import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
 
-public class Right implements Command {
+public class Right implements MovementCommand {
 
 	/**
 	 * Factor every time Right command is executed
 	 * the player moves by.
 	 */
 	public static final double MOVEMENT_DELTA = 3;
+	private static final Right SINGLETON = new Right();
+	
+	/**
+	 * @return the shared instance, the command has no state.
+	 */
+	public static Right getInstance() {
+		return SINGLETON;
+	}
 	
 	@Override
 	public final void execute(final GameState env) {
 		final Player player = env.getGameEnvironment().getEntityManager().getPlayer().get();
-		System.out.println(player.getPosition().get().getCoordinates());
 		player.moveRight(Right.MOVEMENT_DELTA);
 
 	}
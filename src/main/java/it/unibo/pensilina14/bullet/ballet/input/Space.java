@@ -2,11 +2,14 @@ package it.unibo.pensilina14.bullet.ballet.input;
 
 import java.io.IOException;
 
+import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2D;
 import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
 import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2DImpl;
 import it.unibo.pensilina14.bullet.ballet.graphics.scenes.GameView;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
 import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
 import it.unibo.pensilina14.bullet.ballet.model.weapon.Bullet;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.BulletFactory;
 import it.unibo.pensilina14.bullet.ballet.model.weapon.BulletFactoryImpl;
 import it.unibo.pensilina14.bullet.ballet.model.weapon.Weapon;
 import it.unibo.pensilina14.bullet.ballet.sounds.Sounds;
@@ -16,9 +19,21 @@ import it.unibo.pensilina14.bullet.ballet.sounds.SoundsFactoryImpl;
 public class Space implements Command {
 	
 	private final GameView mapScene;
+	private final SoundsFactory soundsFactory;
+	private final BulletFactory bulletFactory;
 
 	public Space(final GameView mapScene) {
+		this(mapScene, new SoundsFactoryImpl());
+	}
+	
+	/**
+	 * @param mapScene the view the bullets shot are drawn on.
+	 * @param soundsFactory the factory of the shot sound.
+	 */
+	public Space(final GameView mapScene, final SoundsFactory soundsFactory) {
 		this.mapScene = mapScene;
+		this.soundsFactory = soundsFactory;
+		this.bulletFactory = new BulletFactoryImpl();
 	}
 	
 	@Override
@@ -26,12 +41,16 @@ public class Space implements Command {
 		if (env.getGameEnvironment().getEntityManager().getPlayer().get().hasWeapon()) {
 			final Weapon weapon = env.getGameEnvironment().getEntityManager().getPlayer().get().getWeapon().get();
     		if (weapon.hasAmmo()) {
-    			final SoundsFactory soundsFactory = new SoundsFactoryImpl();
-            	soundsFactory.createSound(Sounds.SHOT).play();
-    			final Bullet bullet = new BulletFactoryImpl().createClassicBullet(env.getGameEnvironment(),
-    					new SpeedVector2DImpl(new MutablePosition2Dimpl(weapon.getPosition().get().getX(), 
-    							weapon.getPosition().get().getY()), 1.0));
-    			env.getGameEnvironment().getEntityManager().addBullet(bullet);
+            	this.soundsFactory.createSound(Sounds.SHOT).play();
+    			final Environment world = env.getGameEnvironment();
+    			final MutablePosition2D muzzle = weapon.getPosition().get();
+    			/*
+    			 * Bullets that hit something are reused, only their position has to be set again.
+    			 */
+    			final Bullet bullet = world.getBulletPool().acquire(() -> this.bulletFactory.createClassicBullet(world,
+    					new SpeedVector2DImpl(new MutablePosition2Dimpl(muzzle.getX(), muzzle.getY()), 1.0)));
+    			bullet.getPosition().get().setPosition(muzzle.getX(), muzzle.getY());
+    			world.getEntityManager().spawn(bullet);
     			try {
 					this.mapScene.generateBullet(bullet);
 				} catch (IOException e) {
@@ -6,7 +6,7 @@ import it.unibo.pensilina14.bullet.ballet.sounds.Sounds;
 import it.unibo.pensilina14.bullet.ballet.sounds.SoundsFactory;
 import it.unibo.pensilina14.bullet.ballet.sounds.SoundsFactoryImpl;
 
-public class Up implements Command {
+public class Up implements MovementCommand {
 
 	/**
 	 * Factor every time Up command is executed
@@ -14,13 +14,37 @@ public class Up implements Command {
 	 */
 	public static final double MOVEMENT_DELTA = 70;
 	private final double movement;
+	private final SoundsFactory soundsFactory;
 	
 	public Up() {
-		this.movement = MOVEMENT_DELTA;
+		this(MOVEMENT_DELTA);
 	}
 	
 	public Up(final double movement) {
+		this(movement, new SoundsFactoryImpl());
+	}
+	
+	/**
+	 * @param soundsFactory the factory of the jump sound.
+	 */
+	public Up(final SoundsFactory soundsFactory) {
+		this(MOVEMENT_DELTA, soundsFactory);
+	}
+	
+	/**
+	 * @param movement how far the player jumps.
+	 * @param soundsFactory the factory of the jump sound.
+	 */
+	public Up(final double movement, final SoundsFactory soundsFactory) {
 		this.movement = movement;
+		this.soundsFactory = soundsFactory;
+	}
+	
+	/**
+	 * @return how far the player jumps.
+	 */
+	public final double getMovement() {
+		return this.movement;
 	}
 	
 	@Override
@@ -28,8 +52,7 @@ public class Up implements Command {
 		final Player player = env.getGameEnvironment().getEntityManager().getPlayer().get();
 		if (player.hasLanded()) {
 			player.moveUp(this.movement);
-			final SoundsFactory soundsFactory = new SoundsFactoryImpl();
-			soundsFactory.createSound(Sounds.JUMP).play();
+			this.soundsFactory.createSound(Sounds.JUMP).play();
 		}
 	}
 
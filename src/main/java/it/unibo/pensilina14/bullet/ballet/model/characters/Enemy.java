@@ -1,7 +1,7 @@
 package it.unibo.pensilina14.bullet.ballet.model.characters;
 
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2D;
-import it.unibo.pensilina14.bullet.ballet.common.ImmutablePosition2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2D;
 import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
 import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
@@ -20,18 +20,20 @@ public class Enemy extends GameEntity implements Characters{
 
     private EntityList.Characters.Enemy enemyType;
 
-    private final Random rand = new Random();
+    private final Random rand;
     private final static double MAX = 100.0;
     private boolean landed;
 
     private static final double MAX_RANGE = 7.0;
 
-    private final double enemyRange = getRandomRange();
+    private final double enemyRange;
 
     public Enemy(final String name, final double health, final Optional<Double> mana, final Dimension2D dimension, final SpeedVector2D vector, final Environment environment, final double mass){
 
         super(vector, environment, mass, dimension);
 
+        this.rand = new Random();
+        this.enemyRange = getRandomRange();
         this.name = name;
         this.health = health;
         this.mana = mana;
@@ -39,14 +41,28 @@ public class Enemy extends GameEntity implements Characters{
     }
 
     public Enemy(final EntityList.Characters.Enemy enemyType, final Dimension2D dimension, final SpeedVector2D vector, final Environment environment, final double mass){
+        this(enemyType, dimension, vector, environment, mass, new Random());
+    }
+
+    public Enemy(final EntityList.Characters.Enemy enemyType, final Dimension2D dimension, final SpeedVector2D vector, final Environment environment, final double mass
+    		, final Random rand){
         super(vector, environment, mass, dimension);
+        this.rand = rand;
+        this.enemyRange = getRandomRange();
         this.enemyType = enemyType;
         setEnemyType();
     }
 
     public Enemy(final Dimension2D dimension, final SpeedVector2D vector, final Environment environment, final double mass){
+        this(dimension, vector, environment, mass, new Random());
+    }
+
+    public Enemy(final Dimension2D dimension, final SpeedVector2D vector, final Environment environment, final double mass
+    		, final Random rand){
         super(vector, environment, mass, dimension);
 
+        this.rand = rand;
+        this.enemyRange = getRandomRange();
         setRandomEnemy();
         setEnemyType();
     }
@@ -166,8 +182,7 @@ public class Enemy extends GameEntity implements Characters{
     public void updateState() {
     	super.updateState();
     	if (!this.isAlive()) {
-			this.getGameEnvironment().get()
-			.deleteObjByPosition(new ImmutablePosition2Dimpl(this.getPosition().get()));
+			this.getGameEnvironment().get().getEntityManager().despawn(this.getId());
     	}
     }
     
@@ -195,8 +210,8 @@ public class Enemy extends GameEntity implements Characters{
         final double xPlayer = this.getGameEnvironment().get().getEntityManager().getPlayer().get().getPosition().get().getX();
         final double yPlayer = this.getGameEnvironment().get().getEntityManager().getPlayer().get().getPosition().get().getX();
 
-        final double xEnemy = this.getGameEnvironment().get().getEntityManager().getEnemies().get().get(enemyIndex).getPosition().get().getX();
-        final double yEnemy = this.getGameEnvironment().get().getEntityManager().getEnemies().get().get(enemyIndex).getPosition().get().getY();
+        final double xEnemy = this.getGameEnvironment().get().getEntityManager().getEnemies().get(enemyIndex).getPosition().get().getX();
+        final double yEnemy = this.getGameEnvironment().get().getEntityManager().getEnemies().get(enemyIndex).getPosition().get().getY();
 
         final double distance = Math.sqrt((xPlayer - xEnemy) + (yPlayer - yEnemy));
 
@@ -211,4 +226,8 @@ public class Enemy extends GameEntity implements Characters{
         return Enemy.MAX_RANGE;
     }
 
+    @Override
+    public final GameEntities getKind() {
+        return GameEntities.ENEMY;
+    }
 }
@@ -1,5 +1,7 @@
 package it.unibo.pensilina14.bullet.ballet.model.characters;
 
+import java.util.Random;
+
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2Dimpl;
 import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2D;
 import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
@@ -10,25 +12,38 @@ public class FactoryCharactersImpl implements FactoryCharacters{
     private static final int DEFAULT_MASS = 10;
 
     private final Dimension2Dimpl dimension = new Dimension2Dimpl(DEFAULT_DIM, DEFAULT_DIM);
+    private final Random rand;
+
+    public FactoryCharactersImpl() {
+        this(new Random());
+    }
+
+    /**
+     * @param rand the source of every random choice made on the characters created, 
+     * the same seed always yields the same characters.
+     */
+    public FactoryCharactersImpl(final Random rand) {
+        this.rand = rand;
+    }
 
     @Override
     public Player createPlayer(final EntityList.Characters.Player playerType, final SpeedVector2D vector, final Environment environment) {
-        return new Player(playerType, this.dimension, vector, environment, FactoryCharactersImpl.DEFAULT_MASS);
+        return new Player(playerType, this.dimension, vector, environment, FactoryCharactersImpl.DEFAULT_MASS, this.rand);
     }
 
     @Override
     public Player createRandomPlayer(final SpeedVector2D vector, final Environment environment) {
-        return new Player(this.dimension, vector, environment, FactoryCharactersImpl.DEFAULT_MASS);
+        return new Player(this.dimension, vector, environment, FactoryCharactersImpl.DEFAULT_MASS, this.rand);
     }
 
     @Override
     public Enemy createEnemy(final EntityList.Characters.Enemy enemyType, final SpeedVector2D vector, final Environment environment) {
-        return new Enemy(enemyType, this.dimension, vector, environment, FactoryCharactersImpl.DEFAULT_MASS);
+        return new Enemy(enemyType, this.dimension, vector, environment, FactoryCharactersImpl.DEFAULT_MASS, this.rand);
     }
 
     @Override
     public Enemy createRandomEnemy(final SpeedVector2D vector, final Environment environment) {
-        return new Enemy(this.dimension, vector, environment, FactoryCharactersImpl.DEFAULT_MASS);
+        return new Enemy(this.dimension, vector, environment, FactoryCharactersImpl.DEFAULT_MASS, this.rand);
     }
 
 }
@@ -4,6 +4,7 @@ import java.util.Optional;
 import java.util.Random;
 
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2D;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2D;
 import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
 import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
@@ -28,13 +29,14 @@ public class Player extends GameEntity implements Characters{
 
     private final ScoreSystem currentScore = new ScoreSystemImpl(0);
     
-    private final Random rand = new Random();
+    private final Random rand;
     private final static double MAX = 100.0;
 
     public Player(final String name, final Dimension2D dimension, final SpeedVector2D vector
     		, final Environment environment, final double mass){
         super(vector, environment, mass, dimension);
 
+        this.rand = new Random();
         this.name = name;
         this.health = 100.0;
         this.mana = Optional.of(100.0);
@@ -44,6 +46,7 @@ public class Player extends GameEntity implements Characters{
     public Player(final String name, final double health,final Optional<Double> mana, final Dimension2D dimension
     		, final SpeedVector2D vector, final Environment environment, final double mass){
         super(vector, environment, mass, dimension);
+        this.rand = new Random();
         this.name = name;
         this.health = health;
         this.mana = mana;
@@ -52,16 +55,28 @@ public class Player extends GameEntity implements Characters{
 
     public Player(final EntityList.Characters.Player playerType, final Dimension2D dimension
     		, final SpeedVector2D vector, final Environment environment, final double mass){
+        this(playerType, dimension, vector, environment, mass, new Random());
+    }
+
+    public Player(final EntityList.Characters.Player playerType, final Dimension2D dimension
+    		, final SpeedVector2D vector, final Environment environment, final double mass, final Random rand){
         super(vector, environment, mass, dimension);
 
+        this.rand = rand;
         this.playerType = playerType;
         
         setPlayerType();
     }
 
     public Player(final Dimension2D dimension, final SpeedVector2D vector, final Environment environment, final double mass){
+        this(dimension, vector, environment, mass, new Random());
+    }
+
+    public Player(final Dimension2D dimension, final SpeedVector2D vector, final Environment environment, final double mass
+    		, final Random rand){
         super(vector, environment, mass, dimension);
 
+        this.rand = rand;
         setRandomPlayer();
         setPlayerType();
 
@@ -190,6 +205,8 @@ public class Player extends GameEntity implements Characters{
 
     @Override
     public void updateState() {
+    	// The player keeps its place on the screen, moving along with the camera.
+    	this.getSpeedVector().get().noSpeedVectorSum(SCROLL_SPEED, 0);
     	if (!this.blockedX) {
     		this.moveRight(0);
     	} else {
@@ -226,4 +243,9 @@ public class Player extends GameEntity implements Characters{
     public boolean hasBlockedX() {
     	return this.blockedX;
     }
-} 
+
+    @Override
+    public final GameEntities getKind() {
+        return GameEntities.PLAYER;
+    }
+}
@@ -6,6 +6,16 @@ import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
 
 public final class Collision {
 	
+	/**
+	 * Part of the size of two objects they have to move by, one with respect to the other,
+	 * before their path is swept: moving less than that they cannot go through each other.
+	 */
+	public static final double SWEEP_FRACTION = 0.5;
+	/**
+	 * Time of impact of two objects that do not meet.
+	 */
+	public static final double NO_IMPACT = Double.POSITIVE_INFINITY;
+	
 	private Collision() { }
 	
 	/**
@@ -38,6 +48,99 @@ public final class Collision {
 		return Collision.checkAxisX(firstObject, otherObject) && Collision.checkAxisY(firstObject, otherObject);
 	}
 	
+	/**
+	 * @param dx how far an object moved along the x axis with respect to another one.
+	 * @param dy how far it moved along the y axis.
+	 * @param width the width of the narrower of the two objects.
+	 * @param height the height of the lower of the two objects.
+	 * @return true if the move is long enough for the two objects to go through each other
+	 * without their bounds ever overlapping at either end of it, refer to {@link #SWEEP_FRACTION}.
+	 */
+	public static boolean isFast(final double dx, final double dy, final double width, final double height) {
+		return Math.abs(dx) > width * SWEEP_FRACTION || Math.abs(dy) > height * SWEEP_FRACTION;
+	}
+	
+	/**
+	 * Sweeps the bounds of an object moving in a straight line against the bounds of a still one.
+	 * When both objects move, the move given is the one of the first with respect to the second.
+	 * 
+	 * @param x the left side of the moving object before the move.
+	 * @param y the top side of the moving object before the move.
+	 * @param width the width of the moving object.
+	 * @param height the height of the moving object.
+	 * @param dx how far the object moves along the x axis.
+	 * @param dy how far the object moves along the y axis.
+	 * @param otherX the left side of the still object.
+	 * @param otherY the top side of the still object.
+	 * @param otherWidth the width of the still object.
+	 * @param otherHeight the height of the still object.
+	 * @return the part of the move, between 0 and 1, done when the bounds of the two objects start 
+	 * to overlap: 0 if they already overlap before the move, {@link #NO_IMPACT} if they never do.
+	 */
+	public static double timeOfImpact(final double x, final double y, final double width, final double height,
+			final double dx, final double dy, 
+			final double otherX, final double otherY, final double otherWidth, final double otherHeight) {
+		final double entryX = entry(x, width, dx, otherX, otherWidth);
+		final double exitX = exit(x, width, dx, otherX, otherWidth);
+		final double entryY = entry(y, height, dy, otherY, otherHeight);
+		final double exitY = exit(y, height, dy, otherY, otherHeight);
+		final double entry = Math.max(entryX, entryY);
+		final double exit = Math.min(exitX, exitY);
+		if (entry >= exit || entry > 1 || exit <= 0) {
+			return NO_IMPACT;
+		}
+		return Math.max(entry, 0);
+	}
+	
+	/**
+	 * Like {@link #getCollisionSide(PhysicalObject, PhysicalObject)}, for a moving object that meets a still one
+	 * along its path: the side is the one it comes from on the axis along which their bounds start to overlap last.
+	 * The arguments are the ones of {@link #timeOfImpact}.
+	 * 
+	 * @return where the moving object is with respect to the still one when they meet, 
+	 * {@link CollisionSides#NOCOLL} if they do not meet or already overlap before the move.
+	 */
+	public static CollisionSides getImpactSide(final double x, final double y, final double width, final double height,
+			final double dx, final double dy, 
+			final double otherX, final double otherY, final double otherWidth, final double otherHeight) {
+		final double time = timeOfImpact(x, y, width, height, dx, dy, otherX, otherY, otherWidth, otherHeight);
+		if (time <= 0 || time > 1) {
+			return CollisionSides.NOCOLL;
+		}
+		if (entry(y, height, dy, otherY, otherHeight) >= entry(x, width, dx, otherX, otherWidth)) {
+			return dy > 0 ? CollisionSides.SOUTH : CollisionSides.NORTH;
+		}
+		return dx > 0 ? CollisionSides.WEST : CollisionSides.EAST;
+	}
+	
+	/*
+	 * Part of the move done when the two sides start to overlap along one axis: 
+	 * minus infinity if they always do, infinity if they never do.
+	 */
+	private static double entry(final double from, final double size, final double delta, 
+			final double otherFrom, final double otherSize) {
+		if (delta > 0) {
+			return (otherFrom - (from + size)) / delta;
+		} else if (delta < 0) {
+			return (otherFrom + otherSize - from) / delta;
+		}
+		return from < otherFrom + otherSize && from + size > otherFrom ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+	}
+	
+	/*
+	 * Part of the move done when the two sides stop overlapping along one axis: 
+	 * infinity if they always do, minus infinity if they never do.
+	 */
+	private static double exit(final double from, final double size, final double delta, 
+			final double otherFrom, final double otherSize) {
+		if (delta > 0) {
+			return (otherFrom + otherSize - from) / delta;
+		} else if (delta < 0) {
+			return (otherFrom - (from + size)) / delta;
+		}
+		return from < otherFrom + otherSize && from + size > otherFrom ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+	}
+	
 	private static boolean checkAxisX(final PhysicalObject firstObject, final PhysicalObject otherObject) {
 		return firstObject.getPosition().get().getX() 
 				< otherObject.getPosition().get().getX() + otherObject.getDimension().get().getWidth() 
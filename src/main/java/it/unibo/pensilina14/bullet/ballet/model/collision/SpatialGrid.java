@@ -0,0 +1,190 @@
+package it.unibo.pensilina14.bullet.ballet.model.collision;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import it.unibo.pensilina14.bullet.ballet.model.entities.ComponentStore;
+import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
+
+/**
+ * Uniform grid of square cells the entities of a {@link ComponentStore} are binned in,
+ * so that the entities near some bounds are found without a pass over the whole store.
+ *
+ * Every entity goes in the one cell holding its top left corner, a query looks in the
+ * cells its bounds cover, widened by the largest entity binned, so each entity is found
+ * at most once. Cells are kept in an open addressing table keyed by their column and row,
+ * they are emptied but not dropped by {@link #clear()}: binning again in the same area
+ * allocates nothing.
+ */
+public final class SpatialGrid {
+
+	private static final int INITIAL_CAPACITY = 64;
+	/*
+	 * Rounding tolerance on the bounds of a query.
+	 */
+	private static final double MARGIN = 1.0;
+	private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+	private final double cellSize;
+	private final List<Cell> filled;
+	private Cell[] table;
+	private int cells;
+	private double maxWidth;
+	private double maxHeight;
+
+	/**
+	 * @param cellSize the side of a cell, better if about the size of the entities binned.
+	 */
+	public SpatialGrid(final double cellSize) {
+		this.cellSize = cellSize;
+		this.filled = new ArrayList<>();
+		this.table = new Cell[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Removes every entity binned.
+	 */
+	public void clear() {
+		for (int i = 0; i < this.filled.size(); i++) {
+			this.filled.get(i).entities.clear();
+		}
+		this.filled.clear();
+		this.maxWidth = 0;
+		this.maxHeight = 0;
+	}
+
+	/**
+	 * Bins the entities of a store at their current position.
+	 *
+	 * @param store the store.
+	 * @param from the slot of the first entity binned, the ones before it are left out.
+	 */
+	public void insertAll(final ComponentStore store, final int from) {
+		final int size = store.size();
+		for (int i = from; i < size; i++) {
+			this.insert(store.getEntity(i), store.getX(i), store.getY(i), store.getWidth(i), store.getHeight(i));
+		}
+	}
+
+	/**
+	 * Bins an entity.
+	 *
+	 * @param entity the entity.
+	 * @param x the left side of the entity.
+	 * @param y the top side of the entity.
+	 * @param width the width of the entity.
+	 * @param height the height of the entity.
+	 */
+	public void insert(final GameEntity entity, final double x, final double y, final double width, final double height) {
+		final Cell cell = this.cell(key(this.index(x), this.index(y)));
+		if (cell.entities.isEmpty()) {
+			this.filled.add(cell);
+		}
+		cell.entities.add(entity);
+		this.maxWidth = Math.max(this.maxWidth, width);
+		this.maxHeight = Math.max(this.maxHeight, height);
+	}
+
+	/**
+	 * Finds the entities binned that may overlap the given bounds:
+	 * every one that does is found, along with some near ones that do not.
+	 *
+	 * @param x the left side of the bounds.
+	 * @param y the top side of the bounds.
+	 * @param width the width of the bounds.
+	 * @param height the height of the bounds.
+	 * @param out where the entities found are added, in the order of the cells then of binning.
+	 */
+	public void query(final double x, final double y, final double width, final double height, final List<GameEntity> out) {
+		if (this.filled.isEmpty()) {
+			return;
+		}
+		final int firstColumn = this.index(x - this.maxWidth - MARGIN);
+		final int lastColumn = this.index(x + width + MARGIN);
+		final int firstRow = this.index(y - this.maxHeight - MARGIN);
+		final int lastRow = this.index(y + height + MARGIN);
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				final Cell cell = this.find(key(column, row));
+				if (cell != null) {
+					final List<GameEntity> entities = cell.entities;
+					for (int i = 0; i < entities.size(); i++) {
+						out.add(entities.get(i));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the number of cells holding at least one entity.
+	 */
+	public int getFilledCells() {
+		return this.filled.size();
+	}
+
+	private int index(final double coordinate) {
+		return (int) Math.floor(coordinate / this.cellSize);
+	}
+
+	private static long key(final int column, final int row) {
+		return (long) column << Integer.SIZE | row & 0xFFFFFFFFL;
+	}
+
+	private int slot(final long key) {
+		return (int) ((key * GOLDEN) >>> Integer.SIZE) & (this.table.length - 1);
+	}
+
+	private Cell find(final long key) {
+		int i = this.slot(key);
+		while (this.table[i] != null) {
+			if (this.table[i].key == key) {
+				return this.table[i];
+			}
+			i = (i + 1) & (this.table.length - 1);
+		}
+		return null;
+	}
+
+	private Cell cell(final long key) {
+		final Cell found = this.find(key);
+		if (found != null) {
+			return found;
+		}
+		if (2 * (this.cells + 1) > this.table.length) {
+			this.grow();
+		}
+		final Cell cell = new Cell(key);
+		this.put(cell);
+		this.cells++;
+		return cell;
+	}
+
+	private void put(final Cell cell) {
+		int i = this.slot(cell.key);
+		while (this.table[i] != null) {
+			i = (i + 1) & (this.table.length - 1);
+		}
+		this.table[i] = cell;
+	}
+
+	private void grow() {
+		final Cell[] old = this.table;
+		this.table = new Cell[old.length * 2];
+		for (final Cell cell : old) {
+			if (cell != null) {
+				this.put(cell);
+			}
+		}
+	}
+
+	private static final class Cell {
+		private final long key;
+		private final List<GameEntity> entities;
+
+		Cell(final long key) {
+			this.key = key;
+			this.entities = new ArrayList<>();
+		}
+	}
+}
@@ -0,0 +1,465 @@
+package it.unibo.pensilina14.bullet.ballet.model.entities;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Position, velocity, bounds and state flags of a set of entities,
+ * kept in parallel primitive arrays indexed by the slot of each entity.
+ *
+ * A {@link GameEntity} stored here is only a handle: its getters and setters
+ * read and write the arrays, so that a pass over every entity of a store,
+ * like {@link #integrate()} or the collision checks, walks a few contiguous
+ * arrays instead of following several references per entity.
+ * Slots are dense: when an entity is detached the last one takes its slot.
+ *
+ * The first {@link #firstAwake()} slots hold dormant entities, sorted from the
+ * farthest to the nearest, which the passes over the store skip. A dormant entity
+ * still moves by its velocity, lazily: its position is worked out from the ticks
+ * elapsed, refer to {@link #advance()}, when it is read or when it wakes.
+ *
+ * The position every awake entity had at the last {@link #mark()} is kept too,
+ * so that the collision checks can tell how far an entity moved since then
+ * and sweep the path of the ones moving farther than their size.
+ */
+public final class ComponentStore {
+	/**
+	 * Flag set for the entities standing on something.
+	 */
+	public static final int LANDED = 1;
+	private static final int INITIAL_CAPACITY = 64;
+
+	private int size;
+	private int dormant;
+	private int version;
+	private long clock;
+	private GameEntity[] entities;
+	private double[] xs;
+	private double[] ys;
+	private double[] lastXs;
+	private double[] lastYs;
+	private double[] vxs;
+	private double[] vys;
+	private double[] widths;
+	private double[] heights;
+	private int[] flags;
+	/*
+	 * Tick of the clock the position of every dormant entity was last worked out at.
+	 */
+	private long[] since;
+	/*
+	 * Scratch arrays of the capacity of the store, reused whenever the slots are reordered.
+	 */
+	private int[] order;
+	private GameEntity[] entityScratch;
+	private double[] doubleScratch;
+	private int[] intScratch;
+
+	public ComponentStore() {
+		this.entities = new GameEntity[INITIAL_CAPACITY];
+		this.xs = new double[INITIAL_CAPACITY];
+		this.ys = new double[INITIAL_CAPACITY];
+		this.lastXs = new double[INITIAL_CAPACITY];
+		this.lastYs = new double[INITIAL_CAPACITY];
+		this.vxs = new double[INITIAL_CAPACITY];
+		this.vys = new double[INITIAL_CAPACITY];
+		this.widths = new double[INITIAL_CAPACITY];
+		this.heights = new double[INITIAL_CAPACITY];
+		this.flags = new int[INITIAL_CAPACITY];
+		this.since = new long[INITIAL_CAPACITY];
+		this.order = new int[INITIAL_CAPACITY];
+		this.entityScratch = new GameEntity[INITIAL_CAPACITY];
+		this.doubleScratch = new double[INITIAL_CAPACITY];
+		this.intScratch = new int[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Moves the components of an entity into the store, the entity reads them from here from now on.
+	 *
+	 * @param entity the entity, it must not be stored anywhere else.
+	 * @return the slot of the entity.
+	 */
+	public int attach(final GameEntity entity) {
+		if (entity.isAttached()) {
+			throw new IllegalStateException("Entity " + entity.getId() + " is already stored.");
+		}
+		if (this.size == this.xs.length) {
+			this.grow();
+		}
+		final int slot = this.size;
+		this.entities[slot] = entity;
+		this.xs[slot] = entity.getX();
+		this.ys[slot] = entity.getY();
+		this.lastXs[slot] = this.xs[slot];
+		this.lastYs[slot] = this.ys[slot];
+		this.vxs[slot] = entity.getVelocityX();
+		this.vys[slot] = entity.getVelocityY();
+		this.widths[slot] = entity.getDimension().get().getWidth();
+		this.heights[slot] = entity.getDimension().get().getHeight();
+		this.flags[slot] = entity.getFlags();
+		this.size++;
+		this.version++;
+		entity.attached(this, slot);
+		return slot;
+	}
+
+	/**
+	 * Hands its components back to the entity in the given slot, the last entity of the store takes the slot.
+	 *
+	 * @param slot the slot of the entity.
+	 * @return the entity detached.
+	 */
+	public GameEntity detach(final int slot) {
+		final GameEntity entity = this.entities[slot];
+		this.settle(slot);
+		entity.detached(this.xs[slot], this.ys[slot], this.vxs[slot], this.vys[slot], this.flags[slot]);
+		int hole = slot;
+		if (slot < this.dormant) {
+			/*
+			 * The dormant entities after it move back to keep their order,
+			 * the slot left free is the first of the awake ones.
+			 */
+			for (int i = slot + 1; i < this.dormant; i++) {
+				this.move(i, i - 1);
+			}
+			this.dormant--;
+			hole = this.dormant;
+		}
+		final int last = this.size - 1;
+		if (hole != last) {
+			this.move(last, hole);
+		}
+		this.entities[last] = null;
+		this.size--;
+		this.version++;
+		return entity;
+	}
+
+	/**
+	 * Puts to sleep the awake entities whose left side is past the given coordinate,
+	 * they are sorted in among the dormant ones.
+	 *
+	 * @param right the coordinate.
+	 * @return whether any entity was put to sleep, in which case slots have changed.
+	 */
+	public boolean sleepPast(final double right) {
+		int sleepers = 0;
+		for (int i = this.dormant; i < this.size; i++) {
+			if (this.xs[i] > right) {
+				sleepers++;
+			}
+		}
+		if (sleepers == 0) {
+			return false;
+		}
+		final int asleep = this.dormant + sleepers;
+		int next = 0;
+		int awake = asleep;
+		for (int i = 0; i < this.size; i++) {
+			this.settle(i);
+			if (i < this.dormant || this.xs[i] > right) {
+				this.order[next++] = i;
+			} else {
+				this.order[awake++] = i;
+			}
+		}
+		/*
+		 * Insertion sort, farthest first: the dormant entities are in order already but for the ones 
+		 * falling asleep and the drift of their velocities, so it takes about one pass.
+		 * The sort is stable, so the slots only depend on the positions and 
+		 * on the order the entities had, not on when they fell asleep.
+		 */
+		for (int i = 1; i < asleep; i++) {
+			final int slot = this.order[i];
+			final double x = this.xs[slot];
+			int j = i - 1;
+			while (j >= 0 && this.xs[this.order[j]] < x) {
+				this.order[j + 1] = this.order[j];
+				j--;
+			}
+			this.order[j + 1] = slot;
+		}
+		this.reorder();
+		this.dormant = asleep;
+		return true;
+	}
+
+	/**
+	 * Wakes the dormant entities whose left side is at the given coordinate or before it,
+	 * the nearest first. Slots do not change.
+	 *
+	 * @param right the coordinate.
+	 * @return the number of entities woken.
+	 */
+	public int wakeUpTo(final double right) {
+		int woken = 0;
+		while (this.dormant > 0 && this.getX(this.dormant - 1) <= right) {
+			this.settle(this.dormant - 1);
+			this.dormant--;
+			this.lastXs[this.dormant] = this.xs[this.dormant];
+			this.lastYs[this.dormant] = this.ys[this.dormant];
+			woken++;
+		}
+		return woken;
+	}
+
+	/**
+	 * Counts a tick for the dormant entities, which move by their velocity without being touched.
+	 */
+	public void advance() {
+		this.clock++;
+	}
+
+	/**
+	 * @return the slot of the first awake entity, the ones before it are dormant.
+	 */
+	public int firstAwake() {
+		return this.dormant;
+	}
+
+	/**
+	 * Moves every awake entity by its velocity.
+	 */
+	public void integrate() {
+		for (int i = this.dormant; i < this.size; i++) {
+			this.xs[i] += this.vxs[i];
+			this.ys[i] += this.vys[i];
+		}
+	}
+
+	/**
+	 * Remembers the position of every awake entity, refer to {@link #getLastX(int)}.
+	 */
+	public void mark() {
+		System.arraycopy(this.xs, this.dormant, this.lastXs, this.dormant, this.size - this.dormant);
+		System.arraycopy(this.ys, this.dormant, this.lastYs, this.dormant, this.size - this.dormant);
+	}
+
+	/**
+	 * Finds the awake entities that left the horizontal span of the world: those whose right side
+	 * is past the left edge and those moving right whose left side is past the right edge.
+	 * Entities past the right edge and still, or moving left, are the ones yet to scroll in.
+	 *
+	 * @param left the left edge.
+	 * @param right the right edge.
+	 * @param out where the entities found are added.
+	 */
+	public void collectOutside(final double left, final double right, final List<GameEntity> out) {
+		for (int i = this.dormant; i < this.size; i++) {
+			if (this.xs[i] + this.widths[i] < left || this.vxs[i] > 0 && this.xs[i] > right) {
+				out.add(this.entities[i]);
+			}
+		}
+	}
+
+	/**
+	 * @param slot the slot of an awake entity of this store.
+	 * @param other a store.
+	 * @param otherSlot the slot of an awake entity of the other store.
+	 * @return whether the bounds of the two entities overlap.
+	 */
+	public boolean overlaps(final int slot, final ComponentStore other, final int otherSlot) {
+		return this.xs[slot] < other.xs[otherSlot] + other.widths[otherSlot]
+				&& this.xs[slot] + this.widths[slot] > other.xs[otherSlot]
+				&& this.ys[slot] < other.ys[otherSlot] + other.heights[otherSlot]
+				&& this.ys[slot] + this.heights[slot] > other.ys[otherSlot];
+	}
+
+	/**
+	 * @return the number of entities stored.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @param slot the slot of an entity, lower than {@link #size()}.
+	 * @return the entity.
+	 */
+	public GameEntity getEntity(final int slot) {
+		return this.entities[slot];
+	}
+
+	/**
+	 * @return a number that changes whenever an entity is attached or detached,
+	 * not when entities move or change slot.
+	 */
+	public int getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * @param slot the slot of an entity, lower than {@link #size()}.
+	 * @return the left side of the entity.
+	 */
+	public double getX(final int slot) {
+		return slot < this.dormant ? this.xs[slot] + this.vxs[slot] * (this.clock - this.since[slot]) : this.xs[slot];
+	}
+
+	/**
+	 * @param slot the slot of an entity, lower than {@link #size()}.
+	 * @return the top side of the entity.
+	 */
+	public double getY(final int slot) {
+		return slot < this.dormant ? this.ys[slot] + this.vys[slot] * (this.clock - this.since[slot]) : this.ys[slot];
+	}
+
+	/**
+	 * @param slot the slot of an entity, lower than {@link #size()}.
+	 * @return the left side of the entity at the last {@link #mark()}, 
+	 * or where it was attached or woken if that came later; the current one if it is dormant.
+	 */
+	public double getLastX(final int slot) {
+		return slot < this.dormant ? this.getX(slot) : this.lastXs[slot];
+	}
+
+	/**
+	 * @param slot the slot of an entity, lower than {@link #size()}.
+	 * @return the top side of the entity at the last {@link #mark()}, 
+	 * or where it was attached or woken if that came later; the current one if it is dormant.
+	 */
+	public double getLastY(final int slot) {
+		return slot < this.dormant ? this.getY(slot) : this.lastYs[slot];
+	}
+
+	/**
+	 * Sets where an entity was at the last {@link #mark()}, as when a saved game is restored.
+	 *
+	 * @param slot the slot of an awake entity.
+	 * @param x the left side of the entity.
+	 * @param y the top side of the entity.
+	 */
+	public void setLastPosition(final int slot, final double x, final double y) {
+		this.lastXs[slot] = x;
+		this.lastYs[slot] = y;
+	}
+
+	/**
+	 * @param slot the slot of an entity, lower than {@link #size()}.
+	 * @return the width of the entity.
+	 */
+	public double getWidth(final int slot) {
+		return this.widths[slot];
+	}
+
+	/**
+	 * @param slot the slot of an entity, lower than {@link #size()}.
+	 * @return the height of the entity.
+	 */
+	public double getHeight(final int slot) {
+		return this.heights[slot];
+	}
+
+	void setPosition(final int slot, final double x, final double y) {
+		this.since[slot] = this.clock;
+		this.xs[slot] = x;
+		this.ys[slot] = y;
+	}
+
+	void translate(final int slot, final double dx, final double dy) {
+		this.settle(slot);
+		this.xs[slot] += dx;
+		this.ys[slot] += dy;
+	}
+
+	double getVelocityX(final int slot) {
+		return this.vxs[slot];
+	}
+
+	double getVelocityY(final int slot) {
+		return this.vys[slot];
+	}
+
+	void setVelocity(final int slot, final double vx, final double vy) {
+		this.settle(slot);
+		this.vxs[slot] = vx;
+		this.vys[slot] = vy;
+	}
+
+	int getFlags(final int slot) {
+		return this.flags[slot];
+	}
+
+	void setFlags(final int slot, final int state) {
+		this.flags[slot] = state;
+	}
+
+	/*
+	 * Works out the position of a dormant entity up to the current tick.
+	 */
+	private void settle(final int slot) {
+		if (slot < this.dormant) {
+			final long elapsed = this.clock - this.since[slot];
+			this.xs[slot] += this.vxs[slot] * elapsed;
+			this.ys[slot] += this.vys[slot] * elapsed;
+			this.since[slot] = this.clock;
+		}
+	}
+
+	private void move(final int from, final int to) {
+		this.entities[to] = this.entities[from];
+		this.xs[to] = this.xs[from];
+		this.ys[to] = this.ys[from];
+		this.lastXs[to] = this.lastXs[from];
+		this.lastYs[to] = this.lastYs[from];
+		this.vxs[to] = this.vxs[from];
+		this.vys[to] = this.vys[from];
+		this.widths[to] = this.widths[from];
+		this.heights[to] = this.heights[from];
+		this.flags[to] = this.flags[from];
+		this.since[to] = this.since[from];
+		this.entities[to].attached(this, to);
+	}
+
+	/*
+	 * Every slot takes the entity in the slot given by the order.
+	 */
+	private void reorder() {
+		System.arraycopy(this.entities, 0, this.entityScratch, 0, this.size);
+		for (int i = 0; i < this.size; i++) {
+			this.entities[i] = this.entityScratch[this.order[i]];
+			this.entities[i].attached(this, i);
+			this.since[i] = this.clock;
+		}
+		// The scratch must not keep entities that are later removed from the store.
+		Arrays.fill(this.entityScratch, 0, this.size, null);
+		this.reorder(this.xs);
+		this.reorder(this.ys);
+		this.reorder(this.lastXs);
+		this.reorder(this.lastYs);
+		this.reorder(this.vxs);
+		this.reorder(this.vys);
+		this.reorder(this.widths);
+		this.reorder(this.heights);
+		System.arraycopy(this.flags, 0, this.intScratch, 0, this.size);
+		for (int i = 0; i < this.size; i++) {
+			this.flags[i] = this.intScratch[this.order[i]];
+		}
+	}
+
+	private void reorder(final double[] components) {
+		System.arraycopy(components, 0, this.doubleScratch, 0, this.size);
+		for (int i = 0; i < this.size; i++) {
+			components[i] = this.doubleScratch[this.order[i]];
+		}
+	}
+
+	private void grow() {
+		final int capacity = this.xs.length * 2;
+		this.entities = Arrays.copyOf(this.entities, capacity);
+		this.xs = Arrays.copyOf(this.xs, capacity);
+		this.ys = Arrays.copyOf(this.ys, capacity);
+		this.lastXs = Arrays.copyOf(this.lastXs, capacity);
+		this.lastYs = Arrays.copyOf(this.lastYs, capacity);
+		this.vxs = Arrays.copyOf(this.vxs, capacity);
+		this.vys = Arrays.copyOf(this.vys, capacity);
+		this.widths = Arrays.copyOf(this.widths, capacity);
+		this.heights = Arrays.copyOf(this.heights, capacity);
+		this.flags = Arrays.copyOf(this.flags, capacity);
+		this.since = Arrays.copyOf(this.since, capacity);
+		this.order = new int[capacity];
+		this.entityScratch = new GameEntity[capacity];
+		this.doubleScratch = new double[capacity];
+		this.intScratch = new int[capacity];
+	}
+}
@@ -1,56 +1,95 @@
 package it.unibo.pensilina14.bullet.ballet.model.entities;
 
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.MutablePair;
 
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2D;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2D;
 import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
 import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2D;
+import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2DImpl;
 import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
 
-public class GameEntity implements PhysicalObject{
+public abstract class GameEntity implements PhysicalObject{
 	
-	private enum Bounds implements Predicate<ImmutablePair<GameEntity, MutablePosition2D>>{
-		UP_CHECK(p -> p.left.getPosition().get().getY() - p.right.getY() - p.left.getDimension().get().getHeight()
-				>= p.left.getGameEnvironment().get().getDimension().getHeight()),
-		RIGHT_CHECK(p -> p.left.getPosition().get().getX() + p.right.getX() + p.left.getDimension().get().getWidth() 
-				<= p.left.getGameEnvironment().get().getDimension().getWidth()),
-		LEFT_CHECK(p -> p.left.getPosition().get().getX() - p.right.getX()  - p.left.getDimension().get().getWidth() >= 0),
+	/*
+	 * Whether an entity can move by the given distance without leaving the view on the environment,
+	 * the distance is passed as two primitives so that checking a move does not allocate.
+	 */
+	@FunctionalInterface
+	private interface BoundCheck {
+		boolean test(GameEntity entity, double x, double y);
+	}
+	
+	private enum Bounds implements BoundCheck {
+		UP_CHECK((e, x, y) -> e.getY() - y - e.dimension.getHeight()
+				>= e.gameEnvironment.getDimension().getHeight()),
+		RIGHT_CHECK((e, x, y) -> e.getX() - e.gameEnvironment.getCameraX() + x + e.dimension.getWidth() 
+				<= e.gameEnvironment.getDimension().getWidth()),
+		LEFT_CHECK((e, x, y) -> e.getX() - e.gameEnvironment.getCameraX() - x - e.dimension.getWidth() >= 0),
 	;
 
-	private final Predicate<ImmutablePair<GameEntity, MutablePosition2D>> predicate;
+	private final BoundCheck check;
 	
-	Bounds(final Predicate<ImmutablePair<GameEntity, MutablePosition2D>> predicate) {
-		this.predicate = predicate;
+	Bounds(final BoundCheck check) {
+		this.check = check;
 	}
 	
 	@Override
-	public boolean test(final ImmutablePair<GameEntity, MutablePosition2D> t) {
-		return predicate.test(t);
+	public boolean test(final GameEntity entity, final double x, final double y) {
+		return this.check.test(entity, x, y);
 	}
 
 }
 	
-    private static final double MS_TO_S = 1;
+    /**
+     * Distance the camera moves right by on each model tick, refer to {@link Environment#getCameraX()}.
+     */
+    public static final double SCROLL_SPEED = 1;
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    private final int id;
 	private final SpeedVector2D speedVector;
 	private final Environment gameEnvironment;
 	private final Dimension2D dimension;
 	private final double mass;
-	private boolean landed;
+	/*
+	 * Components of the entity: while it is in a ComponentStore they are read 
+	 * from its slot there, these fields only hold them while it is not stored.
+	 */
+	private ComponentStore store;
+	private int slot;
+	private double x;
+	private double y;
+	private double vx;
+	private double vy;
+	private int flags;
 	
 	public GameEntity(final SpeedVector2D speedVector, final Environment gameEnvironment, final double mass
 			, final Dimension2D dimension) {
 		super();
-		this.speedVector = speedVector;
+		this.id = NEXT_ID.getAndIncrement();
+		this.x = speedVector.getPosition().get().getX();
+		this.y = speedVector.getPosition().get().getY();
+		this.speedVector = new SpeedVector2DImpl(new EntityPosition(), speedVector.getSpeed());
 		this.gameEnvironment = gameEnvironment;
 		this.dimension = dimension;
 		this.mass = mass;
-		this.landed = false;
 	}
 	
+	@Override
+	public final int getId() {
+		return this.id;
+	}
+
+	/**
+	 * Every type of entity tells its own kind.
+	 */
+	@Override
+	public abstract GameEntities getKind();
+	
 	@Override
 	public Optional<MutablePosition2D> getPosition() {
 		return this.speedVector.getPosition();
@@ -61,9 +100,17 @@ public class GameEntity implements PhysicalObject{
 		return Optional.ofNullable(this.speedVector);
 	}
 
+	/**
+	 * Moves the entity by its velocity, by default it stays still in the world.
+	 */
 	@Override
 	public void updateState() {
-		this.speedVector.noSpeedVectorSum(-MS_TO_S, 0);
+		if (this.store == null) {
+			this.x += this.vx;
+			this.y += this.vy;
+		} else {
+			this.store.translate(this.slot, this.store.getVelocityX(this.slot), this.store.getVelocityY(this.slot));
+		}
 	}
 
 	@Override
@@ -96,8 +143,8 @@ public class GameEntity implements PhysicalObject{
 		return move(Bounds.LEFT_CHECK, -x, 0);
     }
 	
-	private boolean move(final Predicate<ImmutablePair<GameEntity, MutablePosition2D>> predicate, final double x, final double y) {
-		if(predicate.test(new ImmutablePair<GameEntity, MutablePosition2D>(this, new MutablePosition2Dimpl(x, y)))) {
+	private boolean move(final BoundCheck bounds, final double x, final double y) {
+		if(bounds.test(this, x, y)) {
 			this.speedVector.vectorSum(x, y);
 			return true;
 		}
@@ -109,19 +156,149 @@ public class GameEntity implements PhysicalObject{
 		return this.mass;
 	}
 	
-	 @Override
-	 public boolean hasLanded() {
-		return this.landed;
-	 }
-	   
-	 @Override
-	 public void land() {
-		this.landed = true;
-	 }
-	    
-	 @Override
-	 public void resetLanding() {
-		 this.landed = false;
-	 }
-	
+	@Override
+	public boolean hasLanded() {
+		return (this.getFlags() & ComponentStore.LANDED) != 0;
+	}
+
+	@Override
+	public void land() {
+		this.setFlags(this.getFlags() | ComponentStore.LANDED);
+	}
+
+	@Override
+	public void resetLanding() {
+		this.setFlags(this.getFlags() & ~ComponentStore.LANDED);
+	}
+
+	/**
+	 * @return the x coordinate of the entity.
+	 */
+	public final double getX() {
+		return this.store == null ? this.x : this.store.getX(this.slot);
+	}
+
+	/**
+	 * @return the y coordinate of the entity.
+	 */
+	public final double getY() {
+		return this.store == null ? this.y : this.store.getY(this.slot);
+	}
+
+	/**
+	 * @return the distance the entity moves by on its own on the x axis every tick.
+	 */
+	public final double getVelocityX() {
+		return this.store == null ? this.vx : this.store.getVelocityX(this.slot);
+	}
+
+	/**
+	 * @return the distance the entity moves by on its own on the y axis every tick.
+	 */
+	public final double getVelocityY() {
+		return this.store == null ? this.vy : this.store.getVelocityY(this.slot);
+	}
+
+	/**
+	 * @param velocityX the distance the entity moves by on its own on the x axis every tick.
+	 * @param velocityY the distance the entity moves by on its own on the y axis every tick.
+	 */
+	protected final void setVelocity(final double velocityX, final double velocityY) {
+		if (this.store == null) {
+			this.vx = velocityX;
+			this.vy = velocityY;
+		} else {
+			this.store.setVelocity(this.slot, velocityX, velocityY);
+		}
+	}
+
+	/**
+	 * @return whether the components of the entity are in a {@link ComponentStore}.
+	 */
+	public final boolean isAttached() {
+		return this.store != null;
+	}
+
+	/**
+	 * @return the slot of the entity in its {@link ComponentStore}, meaningless if it is not attached.
+	 */
+	public final int getSlot() {
+		return this.slot;
+	}
+
+	final int getFlags() {
+		return this.store == null ? this.flags : this.store.getFlags(this.slot);
+	}
+
+	private void setFlags(final int state) {
+		if (this.store == null) {
+			this.flags = state;
+		} else {
+			this.store.setFlags(this.slot, state);
+		}
+	}
+
+	private void setPosition(final double newX, final double newY) {
+		if (this.store == null) {
+			this.x = newX;
+			this.y = newY;
+		} else {
+			this.store.setPosition(this.slot, newX, newY);
+		}
+	}
+
+	final void attached(final ComponentStore components, final int index) {
+		this.store = components;
+		this.slot = index;
+	}
+
+	final void detached(final double lastX, final double lastY, final double lastVx, final double lastVy, final int lastFlags) {
+		this.store = null;
+		this.x = lastX;
+		this.y = lastY;
+		this.vx = lastVx;
+		this.vy = lastVy;
+		this.flags = lastFlags;
+	}
+
+	/**
+	 * Live view on the position of the entity, wherever it is stored.
+	 */
+	private final class EntityPosition implements MutablePosition2D {
+
+		@Override
+		public MutablePair<Double, Double> getCoordinates() {
+			return MutablePair.of(GameEntity.this.getX(), GameEntity.this.getY());
+		}
+
+		@Override
+		public double getX() {
+			return GameEntity.this.getX();
+		}
+
+		@Override
+		public double getY() {
+			return GameEntity.this.getY();
+		}
+
+		@Override
+		public void setPosition(final double newX, final double newY) {
+			GameEntity.this.setPosition(newX, newY);
+		}
+
+		@Override
+		public int hashCode() {
+			return MutablePosition2Dimpl.hashCode(this);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof MutablePosition2D && MutablePosition2Dimpl.samePosition(this, (MutablePosition2D) obj);
+		}
+
+		@Override
+		public String toString() {
+			return "[x=" + this.getX() + " y=" + this.getY() + "]";
+		}
+	}
 }
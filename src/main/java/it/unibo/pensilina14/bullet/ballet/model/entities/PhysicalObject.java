@@ -3,6 +3,7 @@ package it.unibo.pensilina14.bullet.ballet.model.entities;
 import java.util.Optional;
 
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2D;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2D;
 import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2D;
 import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
@@ -12,6 +13,15 @@ import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
  *
  */
 public interface PhysicalObject {
+	/**
+	 * 
+	 * @return object's identifier, unique among every object created while the game runs
+	 */
+	int getId();
+	/**
+	 * @return the type of the object, every type of object is stored and collides in its own way.
+	 */
+	GameEntities getKind();
 	/**
 	 * 
 	 * @return object's coordinates
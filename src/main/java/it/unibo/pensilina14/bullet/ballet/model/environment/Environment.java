@@ -1,9 +1,15 @@
 package it.unibo.pensilina14.bullet.ballet.model.environment;
 
+import java.util.concurrent.ForkJoinPool;
+
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2D;
 import it.unibo.pensilina14.bullet.ballet.common.EntityManager;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.ImmutablePosition2D;
+import it.unibo.pensilina14.bullet.ballet.common.ObjectPool;
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEventListener;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.Bullet;
+import it.unibo.pensilina14.bullet.ballet.profiling.FrameProfiler;
 
 /**
  * This interface wraps all the virtual game world and permits interaction
@@ -27,6 +33,14 @@ public interface Environment {
 	 */
 	EntityManager getEntityManager();
 
+	/**
+	 * Bullets despawned are released here and bullets shot are acquired from here, 
+	 * so that shooting does not build a new bullet every time.
+	 * 
+	 * @return the pool of the bullets of this environment.
+	 */
+	ObjectPool<Bullet> getBulletPool();
+
 	/**
 	 * @param targetPos of the object to be deleted.
 	 * 
@@ -37,6 +51,66 @@ public interface Environment {
 	 * 		   Could be false if there was no object at position..
 	 */
 	boolean deleteObjByPosition(ImmutablePosition2D targetPos);
+
+	/**
+	 * @param id of the object to be deleted, refer to {@link PhysicalObject#getId()}.
+	 * 
+	 * The {@link PhysicalObject} is found through an index, in constant time.
+	 * 
+	 * @return true if a {@link PhysicalObject} has been deleted.
+	 * 		   false otherwise, if it had already been deleted.
+	 */
+	boolean deleteObjById(int id);
+	
+	/**
+	 * Sets how far past the left and right edges of {@link #getDimension()} an entity 
+	 * has to go before it is despawned, so that it is out of sight when it disappears.
+	 * 
+	 * @param margin the distance, not negative.
+	 */
+	void setDespawnMargin(double margin);
+
+	/**
+	 * @return how far past the edges of the world an entity is despawned.
+	 */
+	double getDespawnMargin();
+
+	/**
+	 * @param type the entity type.
+	 * @return how many entities of the given type were despawned for leaving the world.
+	 */
+	long getDespawnCount(GameEntities type);
+
+	/**
+	 * Sets how far ahead of the player entities are simulated. Entities of the level 
+	 * farther than that are dormant: no gravity, no update and no collision, they only move 
+	 * by their velocity, and they wake as soon as the window reaches them. 
+	 * Entities behind the player are despawned once they leave the world instead.
+	 * 
+	 * @param ahead the distance from the left side of the player, not negative.
+	 */
+	void setActiveWindow(double ahead);
+
+	/**
+	 * @return how far ahead of the player entities are simulated.
+	 */
+	double getActiveWindow();
+
+	/**
+	 * Entities keep their coordinates in the world, the view on it is moved instead: 
+	 * the camera advances by {@link it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity#SCROLL_SPEED} 
+	 * on every update, and the left edge of {@link #getDimension()} is where the camera is.
+	 * 
+	 * @return the x coordinate of the left edge of the view on the world.
+	 */
+	double getCameraX();
+
+	/**
+	 * Moves the view on the world, for instance to restore a saved game.
+	 * 
+	 * @param x the x coordinate of the left edge of the view.
+	 */
+	void setCameraX(double x);
 	
 	/**
 	 * This must recall every {@link AbstractDynamicComponent}'s {@link AbstractDynamicComponent#updateState} method,
@@ -52,6 +126,21 @@ public interface Environment {
 	 */
 	void setEventListener(GameEventListener listener);
 	
+	/**
+	 * Sets the profiler the environment records the duration of its updates to.
+	 * 
+	 * @param profiler to be set
+	 */
+	void setProfiler(FrameProfiler profiler);
+	
+	/**
+	 * Sets the pool the collisions are checked on, so that large levels use every core. 
+	 * The events raised, and their order, do not change.
+	 * 
+	 * @param pool the pool, null to check the collisions on the thread updating the environment.
+	 */
+	void setCollisionPool(ForkJoinPool pool);
+	
 	/**
 	 * Provides important constants for gravity representation.
 	 * EARTH and MOON's provided.
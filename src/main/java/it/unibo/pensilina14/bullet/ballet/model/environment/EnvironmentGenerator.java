@@ -1,14 +1,21 @@
 package it.unibo.pensilina14.bullet.ballet.model.environment;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 
 import it.unibo.pensilina14.bullet.ballet.common.EntityContainer;
 import it.unibo.pensilina14.bullet.ballet.common.EntityManagerBuilder;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 
 import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
 import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2DImpl;
 import it.unibo.pensilina14.bullet.ballet.model.characters.FactoryCharacters;
 import it.unibo.pensilina14.bullet.ballet.model.characters.FactoryCharactersImpl;
+import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.EntityEntersWorldEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEventListener;
 import it.unibo.pensilina14.bullet.ballet.model.obstacle.ObstacleFactory;
 import it.unibo.pensilina14.bullet.ballet.model.obstacle.ObstacleFactoryImpl;
 import it.unibo.pensilina14.bullet.ballet.model.weapon.ItemFactory;
@@ -16,10 +23,28 @@ import it.unibo.pensilina14.bullet.ballet.model.weapon.ItemFactoryImpl;
 import it.unibo.pensilina14.bullet.ballet.model.weapon.WeaponFactory;
 import it.unibo.pensilina14.bullet.ballet.model.weapon.WeaponFactoryImpl;
 
+/**
+ * Generates a level loaded by a {@link LevelLoader} in chunks of {@link #CHUNK_COLUMNS} columns.
+ * A chunk is generated when its left side is one width of the environment away from scrolling
+ * into view, so the entities of a level only exist from shortly before they are shown
+ * until they leave the world, refer to {@link Environment#setDespawnMargin(double)}.
+ * Entities are placed at the coordinates of their tile in the world, wherever the camera is.
+ */
 public class EnvironmentGenerator implements LevelGenerator {
-	
-	private static final int TILE_SIZE = 60;
+	/**
+	 * Columns of the level generated together.
+	 */
+	public static final int CHUNK_COLUMNS = 16;
+	/**
+	 * Side of a tile of the level, in pixels.
+	 */
+	public static final int TILE_SIZE = 60;
     private final LevelLoader levelLoader;
+    private final long seed;
+    private double scrolled;
+    private int nextColumn;
+    private final Map<Integer, Integer> ordinals;
+    private Optional<GameEventListener> eventListener;
 
     private Optional<Environment> env;
     private final PlatformFactory platformFactory;
@@ -29,20 +54,32 @@ public class EnvironmentGenerator implements LevelGenerator {
 	private final WeaponFactory weaponFactory;
 	
 	public EnvironmentGenerator() {
-		this.levelLoader = new LevelLoader();
-		this.env = Optional.empty();
-		this.platformFactory = new PlatformFactoryImpl(this);
-		this.charactersFactory = new FactoryCharactersImpl();
-		this.obstacleFactory = new ObstacleFactoryImpl();
-		this.itemFactory = new ItemFactoryImpl();
-		this.weaponFactory = new WeaponFactoryImpl();
+		this(new LevelLoader(), new Random().nextLong());
 	}
 	
 	public EnvironmentGenerator(final Environment environment) {
-        this.levelLoader = new LevelLoader();
+		this(new LevelLoader(), new Random().nextLong());
 		this.env = Optional.of(environment);
+	}
+	
+	/**
+	 * Generates a given level, the same level and seed always yield the same entities.
+	 * 
+	 * @param levelIndex the index of the level to generate.
+	 * @param seed the seed of every random choice made while generating.
+	 */
+	public EnvironmentGenerator(final int levelIndex, final long seed) {
+		this(new LevelLoader(levelIndex), seed);
+	}
+	
+	private EnvironmentGenerator(final LevelLoader levelLoader, final long seed) {
+		this.levelLoader = levelLoader;
+		this.seed = seed;
+		this.env = Optional.empty();
+		this.ordinals = new HashMap<>();
+		this.eventListener = Optional.empty();
 		this.platformFactory = new PlatformFactoryImpl(this);
-		this.charactersFactory = new FactoryCharactersImpl();
+		this.charactersFactory = new FactoryCharactersImpl(new Random(seed));
 		this.obstacleFactory = new ObstacleFactoryImpl();
 		this.itemFactory = new ItemFactoryImpl();
 		this.weaponFactory = new WeaponFactoryImpl();
@@ -55,15 +92,53 @@ public class EnvironmentGenerator implements LevelGenerator {
 	
 	@Override
 	public final void generate() {
+		this.stream(0);
+	}
+
+	@Override
+	public final void stream(final double distance) {
+		this.scrolled += distance;
+		final double reach = this.scrolled + this.env.get().getDimension().getWidth();
+		while (this.nextColumn < this.levelLoader.getLevelWidth() && this.nextColumn * TILE_SIZE <= reach) {
+			this.generateChunk(this.nextColumn);
+			this.nextColumn += CHUNK_COLUMNS;
+		}
+	}
+
+	@Override
+	public final double getScrolled() {
+		return this.scrolled;
+	}
+
+	@Override
+	public final Optional<Integer> getOrdinal(final int id) {
+		return Optional.ofNullable(this.ordinals.get(id));
+	}
+
+	@Override
+	public final void setEventListener(final GameEventListener listener) {
+		this.eventListener = Optional.ofNullable(listener);
+	}
+
+	/*
+	 * Rows are generated top to bottom, each one left to right, so the same chunks always yield the same entities.
+	 */
+	private void generateChunk(final int first) {
 		final EntityManagerBuilder entityManagerBuilder = new EntityContainer.Builder(this.env.get().getEntityManager());
         for (int i = 0; i < this.levelLoader.getLevel().size(); i++) {
             final String line = this.levelLoader.getLevel().get(i);
-            for (int j = 0; j < line.length(); j++) {
+            for (int j = first; j < Math.min(first + CHUNK_COLUMNS, line.length()); j++) {
             	populate(entityManagerBuilder, i, line, j); 
             }
         }
 	}
 
+	private <T extends PhysicalObject> T register(final GameEntities kind, final T entity) {
+		this.ordinals.put(entity.getId(), this.ordinals.size());
+		this.eventListener.ifPresent(l -> l.notifyEvent(new EntityEntersWorldEvent(kind, entity)));
+		return entity;
+	}
+
 	private void populate(final EntityManagerBuilder entityManagerBuilder, final int i, final String line, final int j) {
 		final char symbol = line.charAt(j);
 		if (symbol == LevelEntity.EMPTY.getValue()) {
@@ -98,68 +173,68 @@ public class EnvironmentGenerator implements LevelGenerator {
 	}
 
 	private void generatePlatform(final EntityManagerBuilder entityManagerBuilder, final int i, final int j) {
-		entityManagerBuilder.addPlatform(this.platformFactory.createPlatform(this.env.get(),
-				new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0)));
+		entityManagerBuilder.addPlatform(this.register(GameEntities.PLATFORM, this.platformFactory.createPlatform(this.env.get(),
+				new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0))));
 	}
 	
 	private void generateEnemy(final EntityManagerBuilder entityManagerBuilder, final int i, final int j) {
-		entityManagerBuilder.addEnemy(this.charactersFactory.createRandomEnemy(
-				new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0), this.env.get()));
+		entityManagerBuilder.addEnemy(this.register(GameEntities.ENEMY, this.charactersFactory.createRandomEnemy(
+				new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0), this.env.get())));
 	}
 
 	private void generatePoison(final EntityManagerBuilder entityManagerBuilder, final int i, final int j) {
-		entityManagerBuilder.addItem(this.itemFactory.createDamagingItem(
-				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0)));
+		entityManagerBuilder.addItem(this.register(GameEntities.PICKUP_ITEM, this.itemFactory.createDamagingItem(
+				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0))));
 	}
 
 	private void generatePoisoningItem(final EntityManagerBuilder entityManagerBuilder, final int i, final int j) {
-		entityManagerBuilder.addItem(this.itemFactory.createPoisoningItem(
-				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0)));
+		entityManagerBuilder.addItem(this.register(GameEntities.PICKUP_ITEM, this.itemFactory.createPoisoningItem(
+				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0))));
 	}
 
 	private void generateHealingItem(final EntityManagerBuilder entityManagerBuilder, final int i, final int j) {
-		entityManagerBuilder.addItem(this.itemFactory.createHealingItem(
-				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0)));
+		entityManagerBuilder.addItem(this.register(GameEntities.PICKUP_ITEM, this.itemFactory.createHealingItem(
+				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0))));
 	}
 	
 	private void generateAmmoItem(final EntityManagerBuilder entityManagerBuilder, final int i, final int j) {
-		entityManagerBuilder.addItem(this.itemFactory.createChargerItem(
-				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0)));
+		entityManagerBuilder.addItem(this.register(GameEntities.PICKUP_ITEM, this.itemFactory.createChargerItem(
+				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0))));
 	}
 
 	private void generateFlagItem(final EntityManagerBuilder entityManagerBuilder, final int i, final int j){
-		entityManagerBuilder.addItem(this.itemFactory.createFlagItem(
-				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0)));
+		entityManagerBuilder.addItem(this.register(GameEntities.PICKUP_ITEM, this.itemFactory.createFlagItem(
+				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0))));
 	}
 
 	private void generateAuto(final EntityManagerBuilder entityManagerBuilder, final int i, final int j) {
-		entityManagerBuilder.addWeapon(this.weaponFactory.createAuto(
-				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0)));
+		entityManagerBuilder.addWeapon(this.register(GameEntities.WEAPON, this.weaponFactory.createAuto(
+				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0))));
 	}
 
 	private void generateShotGun(final EntityManagerBuilder entityManagerBuilder, final int i, final int j) {
-		entityManagerBuilder.addWeapon(this.weaponFactory.createShotGun(
-				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0)));
+		entityManagerBuilder.addWeapon(this.register(GameEntities.WEAPON, this.weaponFactory.createShotGun(
+				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0))));
 	}
 
 	private void generateStandardGun(final EntityManagerBuilder entityManagerBuilder, final int i, final int j) {
-		entityManagerBuilder.addWeapon(this.weaponFactory.createGun(
-				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0)));
+		entityManagerBuilder.addWeapon(this.register(GameEntities.WEAPON, this.weaponFactory.createGun(
+				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0))));
 	}
 
 	private void generateStandardObstacle(final EntityManagerBuilder entityManagerBuilder, final int i, final int j) {
-		entityManagerBuilder.addObstacle(this.obstacleFactory.createStandardObstacle(
-				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0)));
+		entityManagerBuilder.addObstacle(this.register(GameEntities.OBSTACLE, this.obstacleFactory.createStandardObstacle(
+				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0))));
 	}
 
 	private void generateCoin(final EntityManagerBuilder entityManagerBuilder, final int i, final int j) {
-		entityManagerBuilder.addItem(this.itemFactory.createCoinItem(
-				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0)));
+		entityManagerBuilder.addItem(this.register(GameEntities.PICKUP_ITEM, this.itemFactory.createCoinItem(
+				this.env.get(), new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 1.0))));
 	}
 	
 	private void generatePlayer(final EntityManagerBuilder e, final int i, final int j) {
-		e.addPlayer(this.charactersFactory.createRandomPlayer(
-				new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 2.0), this.env.get()));
+		e.addPlayer(this.register(GameEntities.PLAYER, this.charactersFactory.createRandomPlayer(
+				new SpeedVector2DImpl(new MutablePosition2Dimpl(j * TILE_SIZE, i * TILE_SIZE), 2.0), this.env.get())));
 	}
 	
 	@Override
@@ -172,6 +247,16 @@ public class EnvironmentGenerator implements LevelGenerator {
         return levelLoader.getLevelHeight();
 	}
 
+	@Override
+	public final int getLevelIndex() {
+		return this.levelLoader.getLevelIndex();
+	}
+
+	@Override
+	public final long getSeed() {
+		return this.seed;
+	}
+
 	@Override
 	public final int getPlatformSize() {
 		return EnvironmentGenerator.TILE_SIZE;
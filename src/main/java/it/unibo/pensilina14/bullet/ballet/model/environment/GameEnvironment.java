@@ -4,21 +4,26 @@ import it.unibo.pensilina14.bullet.ballet.common.Dimension2D;
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2Dimpl;
 import it.unibo.pensilina14.bullet.ballet.common.EntityContainer;
 import it.unibo.pensilina14.bullet.ballet.common.EntityManager;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.ImmutablePosition2D;
-import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2D;
-import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.common.ObjectPool;
+import it.unibo.pensilina14.bullet.ballet.common.ObjectPoolImpl;
 import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
+import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEventListener;
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameOverEvent;
-import it.unibo.pensilina14.bullet.ballet.model.environment.events.CollisionEventChecker;
-import it.unibo.pensilina14.bullet.ballet.model.environment.events.EventChecker;
-import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.CollisionSystem;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.EntityLeavesWorldEvent;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.Bullet;
+import it.unibo.pensilina14.bullet.ballet.profiling.EnginePhases;
+import it.unibo.pensilina14.bullet.ballet.profiling.FrameProfiler;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 /**
  * Implementation of {@link Environment}.
  * 
@@ -30,11 +35,39 @@ public class GameEnvironment implements Environment {
      * GameEnvironment height and width default value.
      */
     public static final double DEFAULT_DIM = 20.0;
+    /**
+     * Bullets kept in the pool at most, more than the ammo of a full weapon.
+     */
+    public static final int BULLET_POOL_CAPACITY = 64;
+    /**
+     * Default distance past the edges of the world entities are despawned at, two tiles.
+     */
+    public static final double DEFAULT_DESPAWN_MARGIN = 120.0;
+    /**
+     * Default distance ahead of the player entities are simulated in, 
+     * a screen and a few tiles for what is about to come in sight.
+     */
+    public static final double DEFAULT_ACTIVE_WINDOW = 1500.0;
+    /**
+     * Side of the cells of the grids the collisions are looked for in, a tile.
+     */
+    public static final double COLLISION_CELL_SIZE = EnvironmentGenerator.TILE_SIZE;
 
     private final double gravity;
     private final Dimension2D dimension;
     private final EntityManager entities;
+    private final ObjectPool<Bullet> bulletPool;
+    private double despawnMargin;
+    private double activeWindow;
+    private double cameraX;
+    private final Map<GameEntities, Long> despawnCounts;
+    /**
+     * Entities found outside the world in the current tick, kept to be refilled every tick.
+     */
+    private final List<GameEntity> outside;
+    private final CollisionSystem collisions;
     private Optional<GameEventListener> eventListener;
+    private Optional<FrameProfiler> profiler;
 	
 	/**
 	 * <p>
@@ -43,10 +76,7 @@ public class GameEnvironment implements Environment {
 	 * </p>
 	 */
 	public GameEnvironment() {
-		this.gravity = GravityConstants.TEST.getValue();
-		this.dimension = new Dimension2Dimpl(DEFAULT_DIM, DEFAULT_DIM);
-		this.entities = new EntityContainer();
-		this.eventListener = Optional.empty();
+		this(DEFAULT_DIM, DEFAULT_DIM);
 	}
 	
 	/**
@@ -56,10 +86,7 @@ public class GameEnvironment implements Environment {
 	 * @param width
 	 */
 	public GameEnvironment(final double height, final double width) {
-		this.gravity = GravityConstants.TEST.getValue();
-		this.dimension = new Dimension2Dimpl(height, width);
-		this.entities = new EntityContainer();
-		this.eventListener = Optional.empty();
+		this(GravityConstants.TEST.getValue(), height, width, new EntityContainer(), Optional.empty());
 	}
 	
 	/**
@@ -74,10 +101,22 @@ public class GameEnvironment implements Environment {
 	 * @param l is the event listener that is going to "listen" to the events launched in this {@link Environment}.
 	 */
 	public GameEnvironment(final double gravity, final double height, final double width, final EntityManager container, final GameEventListener l) {
+		this(gravity, height, width, container, Optional.of(l));
+	}
+
+	private GameEnvironment(final double gravity, final double height, final double width, final EntityManager container, 
+			final Optional<GameEventListener> listener) {
 		this.gravity = gravity;
 		this.dimension = new Dimension2Dimpl(height, width);
 		this.entities = container;
-		this.eventListener = Optional.of(l);
+		this.eventListener = listener;
+		this.profiler = Optional.empty();
+		this.bulletPool = new ObjectPoolImpl<>(BULLET_POOL_CAPACITY, Bullet::reset);
+		this.despawnMargin = DEFAULT_DESPAWN_MARGIN;
+		this.activeWindow = DEFAULT_ACTIVE_WINDOW;
+		this.despawnCounts = new EnumMap<>(GameEntities.class);
+		this.outside = new ArrayList<>();
+		this.collisions = new CollisionSystem(this.entities, COLLISION_CELL_SIZE);
 	}
 	
 	@Override
@@ -95,34 +134,46 @@ public class GameEnvironment implements Environment {
 		return this.entities.deleteEntity(targetPos);
 	}
 
+	@Override
+	public final boolean deleteObjById(final int id) {
+		return this.entities.deleteById(id);
+	}
+
 	@Override
 	public final void updateState() {
+		final long start = System.nanoTime();
+		this.cameraX += GameEntity.SCROLL_SPEED;
 		final Optional<Player> player = this.entities.getPlayer();
+		this.entities.updateActivity(player.get().getPosition().get().getX() + this.activeWindow);
 		player.get().updateState();
 		player.get().getCurrentScore().increase();
 
-		this.entities.getItems().get().forEach(i -> i.updateState());
-		this.entities.getWeapons().ifPresent(w -> this.entities.getWeapons().get().forEach(i -> {
+		/*
+		 * Bullets only move by their velocity, they are moved all at once 
+		 * on the arrays of their components. Items and platforms stay where they are in the world.
+		 */
+		awake(this.entities.getWeapons(), GameEntities.WEAPON).forEach(i -> {
 			if (!i.isOn()) {
 				i.updateState();
 			} else {
-				final MutablePosition2D pos = player.get().getPosition().get();
-				i.setPosition(new MutablePosition2Dimpl(pos.getX(), pos.getY()));
+				i.setPosition(player.get().getPosition().get());
 			}
-		}));
-
-		if (this.entities.getBullets().isPresent()) {
-			this.entities.getBullets().get().stream().forEach(i -> i.updateState());
-		} 
+		});
 
-		this.entities.getPlatforms().get().stream().forEach(i -> i.updateState());
+		this.entities.getComponents(GameEntities.BULLET).integrate();
 
 		if (!player.get().isAlive()) {
 			this.eventListener.get().notifyEvent(new GameOverEvent(player.get()));
 		}
 
 		this.checkGravity();
+		this.despawnOutside();
+		final long collisions = System.nanoTime();
 		this.checkCollisions();
+		if (this.profiler.isPresent()) {
+			this.profiler.get().record(EnginePhases.UPDATE, collisions - start);
+			this.profiler.get().record(EnginePhases.COLLISIONS, System.nanoTime() - collisions);
+		}
 	}
 	
 	
@@ -131,6 +182,86 @@ public class GameEnvironment implements Environment {
 		this.eventListener = Optional.ofNullable(listener);
 	}
 
+	@Override
+	public final void setProfiler(final FrameProfiler profiler) {
+		this.profiler = Optional.ofNullable(profiler);
+	}
+
+	@Override
+	public final void setCollisionPool(final ForkJoinPool pool) {
+		this.collisions.setPool(pool);
+	}
+
+	@Override
+	public final void setDespawnMargin(final double margin) {
+		if (margin < 0) {
+			throw new IllegalArgumentException("Despawn margin must not be negative.");
+		}
+		this.despawnMargin = margin;
+	}
+
+	@Override
+	public final double getDespawnMargin() {
+		return this.despawnMargin;
+	}
+
+	@Override
+	public final long getDespawnCount(final GameEntities type) {
+		return this.despawnCounts.getOrDefault(type, 0L);
+	}
+
+	@Override
+	public final void setActiveWindow(final double ahead) {
+		if (ahead < 0) {
+			throw new IllegalArgumentException("Active window must not be negative.");
+		}
+		this.activeWindow = ahead;
+	}
+
+	@Override
+	public final double getActiveWindow() {
+		return this.activeWindow;
+	}
+
+	@Override
+	public final double getCameraX() {
+		return this.cameraX;
+	}
+
+	@Override
+	public final void setCameraX(final double x) {
+		this.cameraX = x;
+	}
+
+	/*
+	 * Dormant entities come first in their list, the awake ones are the rest of it.
+	 */
+	private <T> List<T> awake(final List<T> entities, final GameEntities type) {
+		return entities.subList(this.entities.getComponents(type).firstAwake(), entities.size());
+	}
+
+	/*
+	 * Everything but the player that left the world is despawned, the listener is told 
+	 * so that sprites go away as well. The player is kept in by its own movement checks.
+	 */
+	private void despawnOutside() {
+		final double left = this.cameraX - this.despawnMargin;
+		final double right = this.cameraX + this.dimension.getWidth() + this.despawnMargin;
+		for (final GameEntities type : GameEntities.values()) {
+			if (type == GameEntities.PLAYER) {
+				continue;
+			}
+			this.outside.clear();
+			this.entities.getComponents(type).collectOutside(left, right, this.outside);
+			for (final GameEntity entity : this.outside) {
+				this.entities.despawn(entity.getId());
+				this.despawnCounts.merge(type, 1L, Long::sum);
+				this.eventListener.ifPresent(l -> l.notifyEvent(new EntityLeavesWorldEvent(type, entity)));
+			}
+		}
+		this.outside.clear();
+	}
+
 	private void checkGravity() {
 		/* 
 		 * Player gets afflicted by gravity.
@@ -144,7 +275,7 @@ public class GameEnvironment implements Environment {
 		/*
 		 * Enemies get afflicted by gravity.
 		 */
-		this.entities.getEnemies().get().stream().forEach(e -> {
+		awake(this.entities.getEnemies(), GameEntities.ENEMY).forEach(e -> {
 			if (!e.hasLanded()) {
 				e.moveDown(this.gravity);
 			} else {
@@ -155,7 +286,7 @@ public class GameEnvironment implements Environment {
 		/*
 		 * Obstacles get afflicted by gravity.
 		 */
-		this.entities.getObstacles().get().forEach(o -> {
+		awake(this.entities.getObstacles(), GameEntities.OBSTACLE).forEach(o -> {
 			if (!o.hasLanded()) {
 				o.moveDown(this.gravity);
 			} else {
@@ -166,40 +297,16 @@ public class GameEnvironment implements Environment {
 	}
 	
 	private void checkCollisions() {
-		final Map<String, EventChecker> eventCheckers = new HashMap<>();
-		eventCheckers.putAll(Map.of(
-				"playeritem", new CollisionEventChecker(this.entities.getItems().get(), List.of(this.entities.getPlayer().get())), 
-				"playerenemy", new CollisionEventChecker(this.entities.getEnemies().get(), List.of(this.entities.getPlayer().get())), 
-				"playerobstacle", new CollisionEventChecker(this.entities.getObstacles().get(), List.of(this.entities.getPlayer().get())), 
-				"playerplatform", new CollisionEventChecker(this.entities.getPlatforms().get(), List.of(this.entities.getPlayer().get())), 
-				"enemyplatform", new CollisionEventChecker(this.entities.getPlatforms().get(), this.entities.getEnemies().get())
-				//"playerweapon", new CollisionEventChecker(this.entities.getWeapons().get(), List.of(this.entities.getPlayer().get()))
-				));
-		if (this.entities.getWeapons().isPresent()) {
-			eventCheckers.put("playerweapon", new CollisionEventChecker(this.entities.getWeapons().get(), List.of(this.entities.getPlayer().get())));
-		}
-		if (this.entities.getBullets().isPresent()) {
-			eventCheckers.put("bulletEnemy", new CollisionEventChecker(this.entities.getBullets().get(), this.entities.getEnemies().get()));
-			eventCheckers.put("bulletPlatform", new CollisionEventChecker(this.entities.getBullets().get(), this.entities.getPlatforms().get()));
-			eventCheckers.put("bulletObstacle", new CollisionEventChecker(this.entities.getBullets().get(), this.entities.getObstacles().get()));
-		}
-		this.checkAll(eventCheckers);
-	}
-	
-	private void checkAll(final Map<String, EventChecker> checkersMap) {
-		for (final EventChecker checker : checkersMap.values()) {
-			checker.check();
-			final List<GameEvent> events = new ArrayList<>(checker.getBuffer().getEvents());
-			if (!events.isEmpty()) {
-				events.forEach(e -> {
-					this.eventListener.get().notifyEvent(e);
-				});
-			}
-		}
+		this.collisions.check(this.eventListener.orElse(e -> { }));
 	}
 
 	@Override
 	public final EntityManager getEntityManager() {
 		return this.entities;
 	}
+
+	@Override
+	public final ObjectPool<Bullet> getBulletPool() {
+		return this.bulletPool;
+	}
 }
@@ -1,5 +1,6 @@
 package it.unibo.pensilina14.bullet.ballet.model.environment;
 
+import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
 import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEventListener;
 
 public class GameState {
@@ -38,12 +39,29 @@ public class GameState {
 		this.generator.generate();
 	}
 	
+	/**
+	 * Builds the game on a given level, the same level and seed always yield the same game.
+	 * 
+	 * @param playerName the name of the player.
+	 * @param levelIndex the index of the level to play.
+	 * @param seed the seed of every random choice made while generating the level.
+	 */
+	public GameState(final String playerName, final int levelIndex, final long seed) {
+		this.playerName = playerName;
+		this.score = 0;
+		this.generator = new EnvironmentGenerator(levelIndex, seed);
+		this.env = new GameEnvironment(HEIGHT, WIDTH);
+		this.generator.setEnvironment(this.env);
+		this.generator.generate();
+	}
+	
 	public Environment getGameEnvironment() {
 		return this.env;
 	}
 	
 	public void setEventListener(final GameEventListener l) {
 		this.env.setEventListener(l);
+		this.generator.setEventListener(l);
 	}
 	
 	public LevelGenerator getEnvGenerator() {
@@ -62,7 +80,11 @@ public class GameState {
 		return this.env.getEntityManager().getPlayer().get().getHealth() == 0;
 	}
 	
+	/**
+	 * Streams in the part of the level scrolling into view, then updates the environment.
+	 */
 	public void update() {
+		this.generator.stream(GameEntity.SCROLL_SPEED);
 		this.env.updateState();
 	}
 	
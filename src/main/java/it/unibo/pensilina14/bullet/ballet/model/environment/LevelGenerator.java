@@ -1,5 +1,9 @@
 package it.unibo.pensilina14.bullet.ballet.model.environment;
 
+import java.util.Optional;
+
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEventListener;
+
 /**
  * Manages a contract to which will adhere
  * every class that needs to generate levels and work with them.
@@ -7,9 +11,32 @@ package it.unibo.pensilina14.bullet.ballet.model.environment;
  */
 public interface LevelGenerator {
     /**
-     * This method is implied in generating entities for the environment.
+     * This method is implied in generating entities for the environment,
+     * only the part of the level in view is generated, the rest is streamed in, refer to {@link #stream(double)}.
      */
 	void generate();
+	/**
+	 * Scrolls the level by a given distance, generating the parts that are about to come into view.
+	 * Whoever listens to the generator is notified of every entity generated.
+	 * 
+	 * @param distance the distance scrolled.
+	 */
+	void stream(double distance);
+	/**
+	 * @return the distance the level was scrolled by so far.
+	 */
+	double getScrolled();
+	/**
+	 * @param id the identifier of an entity.
+	 * @return the order the entity was generated in, if it was generated with the level.
+	 */
+	Optional<Integer> getOrdinal(int id);
+	/**
+	 * Sets who is notified of the entities streamed in, refer to {@link #stream(double)}.
+	 * 
+	 * @param listener the listener.
+	 */
+	void setEventListener(GameEventListener listener);
 	/**
 	 * This method sets the {@link Environment} in which
 	 * the world will be generated.
@@ -25,6 +52,14 @@ public interface LevelGenerator {
 	 * @return generated level's height.
 	 */
 	double getLevelHeight();
+	/**
+	 * @return the index of the generated level.
+	 */
+	int getLevelIndex();
+	/**
+	 * @return the seed of every random choice made while generating the level.
+	 */
+	long getSeed();
 	/**
 	 * 
 	 * @return platform size.
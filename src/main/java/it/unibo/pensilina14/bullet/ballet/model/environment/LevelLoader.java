@@ -9,21 +9,37 @@ import java.util.Random;
 public class LevelLoader {
 
     private final String[] level;
+    private final int levelIndex;
     private final double levelHeight;
     private final double levelWidth;
     
     private static final Random RAND = new Random();
 
     public LevelLoader() {
-        this.level = Save.loadLevel(getRandomLevel());
+        this(getRandomLevel());
+    }
+
+    /**
+     * @param levelIndex the index of the level to load, lower than {@link Save#MAX_LEVELS}.
+     */
+    public LevelLoader(final int levelIndex) {
+        this.levelIndex = levelIndex;
+        this.level = Save.loadLevel(levelIndex);
         this.levelWidth = this.level[0].length();
         this.levelHeight = this.level.length;
     }
 
-    private int getRandomLevel(){
+    private static int getRandomLevel(){
         return LevelLoader.RAND.nextInt(Save.MAX_LEVELS);
     }
 
+    /**
+     * @return the index of the loaded level.
+     */
+    public int getLevelIndex() {
+        return this.levelIndex;
+    }
+
     public double getLevelWidth(){
         return this.levelWidth;
     }
@@ -1,6 +1,7 @@
 package it.unibo.pensilina14.bullet.ballet.model.environment;
 
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2D;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2D;
 import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
 
@@ -9,4 +10,9 @@ public class Platform extends GameEntity {
 	public Platform(final SpeedVector2D speedVector, final Environment gameEnvironment, final double mass, final Dimension2D dimension) {
 		super(speedVector, gameEnvironment, mass, dimension);
 	}
+
+	@Override
+	public final GameEntities getKind() {
+		return GameEntities.PLATFORM;
+	}
 }
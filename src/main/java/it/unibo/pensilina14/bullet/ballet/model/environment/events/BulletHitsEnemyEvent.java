@@ -21,4 +21,9 @@ public final class BulletHitsEnemyEvent implements GameEvent {
 	public Enemy getEnemy() {
 		return this.enemy;
 	}
+
+	@Override
+	public GameEvents getType() {
+		return GameEvents.BULLET_HITS_ENEMY;
+	}
 }
@@ -20,5 +20,9 @@ public final class BulletHitsObstacleEvent implements GameEvent {
 	public Obstacle getObstacle() {
 		return obstacle;
 	}
-	
+
+	@Override
+	public GameEvents getType() {
+		return GameEvents.BULLET_HITS_OBSTACLE;
+	}
 }
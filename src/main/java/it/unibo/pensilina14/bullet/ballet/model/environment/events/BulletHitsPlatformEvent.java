@@ -20,5 +20,9 @@ public final class BulletHitsPlatformEvent implements GameEvent {
 	public Platform getPlatform() {
 		return this.platform;
 	}
-	
+
+	@Override
+	public GameEvents getType() {
+		return GameEvents.BULLET_HITS_PLATFORM;
+	}
 }
@@ -17,6 +17,20 @@ public class CollisionEventBuffer implements EventBuffer {
 		this.collisionEvents.get().add(event);
 	}
 	
+	/**
+	 * Notifies the events buffered in the order they were added and forgets them,
+	 * unlike {@link #getEvents()} without copying them anywhere.
+	 * 
+	 * @param listener who is notified of the events.
+	 */
+	public final void drainTo(final GameEventListener listener) {
+		final List<GameEvent> events = this.collisionEvents.get();
+		for (int i = 0; i < events.size(); i++) {
+			listener.notifyEvent(events.get(i));
+		}
+		events.clear();
+	}
+	
 	@Override
 	public final List<GameEvent> getEvents() {
 		final List<GameEvent> events = List.copyOf(this.collisionEvents.get());
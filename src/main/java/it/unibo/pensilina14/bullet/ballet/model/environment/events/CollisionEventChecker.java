@@ -1,138 +1,243 @@
 package it.unibo.pensilina14.bullet.ballet.model.environment.events;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import it.unibo.pensilina14.bullet.ballet.logging.AppLogger;
-import it.unibo.pensilina14.bullet.ballet.model.characters.Enemy;
-import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
 import it.unibo.pensilina14.bullet.ballet.model.collision.Collision;
 import it.unibo.pensilina14.bullet.ballet.model.collision.CollisionSides;
+import it.unibo.pensilina14.bullet.ballet.model.collision.SpatialGrid;
+import it.unibo.pensilina14.bullet.ballet.model.entities.ComponentStore;
+import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
 import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
-import it.unibo.pensilina14.bullet.ballet.model.environment.Platform;
-import it.unibo.pensilina14.bullet.ballet.model.obstacle.Obstacle;
-import it.unibo.pensilina14.bullet.ballet.model.obstacle.ObstacleImpl;
-import it.unibo.pensilina14.bullet.ballet.model.weapon.Bullet;
-import it.unibo.pensilina14.bullet.ballet.model.weapon.BulletImpl;
-import it.unibo.pensilina14.bullet.ballet.model.weapon.PickupItem;
-import it.unibo.pensilina14.bullet.ballet.model.weapon.WeaponImpl;
 
 public class CollisionEventChecker implements EventChecker {
 	
+	/*
+	 * Every side wrapped once, so that sweeping allocates nothing.
+	 */
+	private static final List<Optional<CollisionSides>> SIDES = Stream.of(CollisionSides.values())
+			.map(Optional::of).collect(Collectors.toList());
 	private final EventBuffer eventBuffer;
 	private final List<? extends PhysicalObject> objects;
 	private final List<? extends PhysicalObject> otherObjects;
+	private final Optional<ComponentStore> components;
+	private final Optional<ComponentStore> otherComponents;
+	private final Optional<SpatialGrid> grid;
+	private final boolean gridFirst;
+	private final int part;
+	private final int parts;
+	private final List<GameEntity> candidates;
 	
 	public CollisionEventChecker(final List<? extends PhysicalObject> objs, final List<? extends PhysicalObject> otherObjs) {
 		this.eventBuffer = new CollisionEventBuffer();
 		this.objects = objs;
 		this.otherObjects = otherObjs;
+		this.components = Optional.empty();
+		this.otherComponents = Optional.empty();
+		this.grid = Optional.empty();
+		this.gridFirst = false;
+		this.part = 0;
+		this.parts = 1;
+		this.candidates = List.of();
+	}
+	
+	/**
+	 * Checks the entities of two {@link ComponentStore}s, their bounds are 
+	 * compared straight on the arrays of the stores. Dormant entities are skipped.
+	 * Two entities that moved fast enough to go through each other since the last
+	 * {@link ComponentStore#mark()} collide if their paths met, refer to {@link Collision#timeOfImpact}.
+	 * 
+	 * @param objs the components of the first entities.
+	 * @param otherObjs the components of the entities they may hit.
+	 */
+	public CollisionEventChecker(final ComponentStore objs, final ComponentStore otherObjs) {
+		this(new CollisionEventBuffer(), objs, otherObjs);
+	}
+
+	/**
+	 * Checks the entities of a {@link ComponentStore} against the ones of another store
+	 * binned in a {@link SpatialGrid}: each entity is only compared with the ones in the cells
+	 * around its path since the last {@link ComponentStore#mark()}. Dormant entities are skipped.
+	 * 
+	 * @param objs the components of the first entities.
+	 * @param otherObjs the grid the entities they may hit are binned in, they must all be in the other store.
+	 * @param otherComponents the components of the entities they may hit.
+	 */
+	public CollisionEventChecker(final ComponentStore objs, final SpatialGrid otherObjs, final ComponentStore otherComponents) {
+		this(new CollisionEventBuffer(), objs, otherObjs, otherComponents);
+	}
+
+	/**
+	 * Checks the entities binned in a {@link SpatialGrid} against the ones of a {@link ComponentStore}:
+	 * each entity of the store is only compared with the ones in the cells around its path. Dormant entities are skipped.
+	 * 
+	 * @param objs the grid the first entities are binned in, they must all be in their store.
+	 * @param components the components of the first entities.
+	 * @param otherObjs the components of the entities they may hit.
+	 */
+	public CollisionEventChecker(final SpatialGrid objs, final ComponentStore components, final ComponentStore otherObjs) {
+		this(new CollisionEventBuffer(), objs, components, otherObjs);
+	}
+
+	/*
+	 * The same checks writing in a buffer shared with other checkers, refer to CollisionSystem.
+	 */
+	CollisionEventChecker(final EventBuffer buffer, final ComponentStore objs, final ComponentStore otherObjs) {
+		this(buffer, objs, Optional.empty(), otherObjs, false, 0, 1);
+	}
+
+	CollisionEventChecker(final EventBuffer buffer, final ComponentStore objs, final SpatialGrid otherObjs, 
+			final ComponentStore otherComponents) {
+		this(buffer, objs, Optional.of(otherObjs), otherComponents, false, 0, 1);
+	}
+
+	CollisionEventChecker(final EventBuffer buffer, final SpatialGrid objs, final ComponentStore components, 
+			final ComponentStore otherObjs) {
+		this(buffer, otherObjs, Optional.of(objs), components, true, 0, 1);
+	}
+
+	private CollisionEventChecker(final EventBuffer buffer, final ComponentStore store, final Optional<SpatialGrid> grid, 
+			final ComponentStore otherStore, final boolean gridFirst, final int part, final int parts) {
+		this.eventBuffer = buffer;
+		this.objects = List.of();
+		this.otherObjects = List.of();
+		this.components = Optional.of(store);
+		this.otherComponents = Optional.of(otherStore);
+		this.grid = grid;
+		this.gridFirst = gridFirst;
+		this.part = part;
+		this.parts = parts;
+		this.candidates = new ArrayList<>();
+	}
+
+	/*
+	 * The same checks on one of the given number of equal slices of the awake entities of the store
+	 * looked for collisions, writing in the given buffer. The slices of a checker can be checked at 
+	 * the same time, one after the other they raise the events this checker raises, in the same order.
+	 */
+	CollisionEventChecker slice(final EventBuffer buffer, final int slice, final int slices) {
+		if (this.components.isEmpty()) {
+			throw new IllegalStateException("Only the checkers of component stores can be sliced.");
+		}
+		return new CollisionEventChecker(buffer, this.components.get(), this.grid, this.otherComponents.get(), 
+				this.gridFirst, slice, slices);
 	}
 	
 	@Override
 	public final void check() {
+		if (this.grid.isPresent()) {
+			this.checkGrid(this.components.get(), this.grid.get(), this.otherComponents.get());
+			return;
+		}
+		if (this.components.isPresent()) {
+			this.checkComponents(this.components.get(), this.otherComponents.get());
+			return;
+		}
 		final boolean isSingleElemList = (this.otherObjects.size() == 1) ? true : false;
 		for (final PhysicalObject a : this.objects) {
 			checkAllObjects(isSingleElemList, a);
 		}
 	}
 
-	private void checkAllObjects(final boolean isSingleElemList, final PhysicalObject a) {
-		for (final PhysicalObject b : this.otherObjects) {
-			if (Collision.areColliding(a, b)) {
-				checkPlayerAndItem(a, b);
-				checkPlayerAndEnemy(a, b);
-				checkPlayerAndObstacle(a, b);
-				checkPlayerAndWeapon(a, b);
-				checkBulletAndEnemy(a, b);
-				checkPlayerAndPlatform(a, b);
-				checkEnemyAndPlatform(a, b);
-				checkBulletAndPlatform(b, a);
-				checkBulletAndObstacle(a, b);
-			}
-			if (isSingleElemList) {
-				break;
+	private void checkComponents(final ComponentStore store, final ComponentStore otherStore) {
+		final int last = this.sliceEnd(store);
+		final int otherSize = otherStore.size();
+		final int otherFirst = otherStore.firstAwake();
+		for (int i = this.sliceStart(store); i < last; i++) {
+			for (int j = otherFirst; j < otherSize; j++) {
+				if (hits(store, i, otherStore, j)) {
+					this.checkPair(store.getEntity(i), otherStore.getEntity(j), side(otherStore, j, store, i));
+				}
 			}
 		}
 	}
 
-	private void checkPlayerAndObstacle(final PhysicalObject a, final PhysicalObject b) {
-		if (a instanceof ObstacleImpl && b instanceof Player) {
-			final Player player = (Player) b;
-			final ObstacleImpl obstacle = (ObstacleImpl) a;
-			this.eventBuffer.addEvent(new PlayerHitsObstacleEvent(player, obstacle));
+	private void checkGrid(final ComponentStore store, final SpatialGrid cells, final ComponentStore gridStore) {
+		final int last = this.sliceEnd(store);
+		final int gridFirstAwake = gridStore.firstAwake();
+		for (int i = this.sliceStart(store); i < last; i++) {
+			this.candidates.clear();
+			final double x = store.getX(i);
+			final double y = store.getY(i);
+			final double lastX = store.getLastX(i);
+			final double lastY = store.getLastY(i);
+			cells.query(Math.min(x, lastX), Math.min(y, lastY), 
+					store.getWidth(i) + Math.abs(x - lastX), store.getHeight(i) + Math.abs(y - lastY), this.candidates);
+			for (int c = 0; c < this.candidates.size(); c++) {
+				final GameEntity candidate = this.candidates.get(c);
+				final int j = candidate.getSlot();
+				if (j >= gridFirstAwake && hits(store, i, gridStore, j)) {
+					if (this.gridFirst) {
+						this.checkPair(candidate, store.getEntity(i), side(store, i, gridStore, j));
+					} else {
+						this.checkPair(store.getEntity(i), candidate, side(gridStore, j, store, i));
+					}
+				}
+			}
 		}
 	}
 
-	private void checkPlayerAndEnemy(final PhysicalObject a, final PhysicalObject b) {
-		if (a instanceof Enemy && b instanceof Player) {
-			final Player player = (Player) b;
-			final Enemy enemy = (Enemy) a;
-			this.eventBuffer.addEvent(new PlayerHitsEnemyEvent(player, enemy));
-		}
+	private int sliceStart(final ComponentStore store) {
+		return store.firstAwake() + (store.size() - store.firstAwake()) * this.part / this.parts;
 	}
 
-	private void checkPlayerAndItem(final PhysicalObject a, final PhysicalObject b) {
-		if (a instanceof PickupItem && b instanceof Player) {
-			final Player player = (Player) b;
-			final PickupItem item = (PickupItem) a;
-			this.eventBuffer.addEvent(new PlayerHitsItemEvent(player, item));
-		}
+	private int sliceEnd(final ComponentStore store) {
+		return store.firstAwake() + (store.size() - store.firstAwake()) * (this.part + 1) / this.parts;
 	}
-	
-	private void checkPlayerAndWeapon(final PhysicalObject a, final PhysicalObject b) {
-		if (a instanceof WeaponImpl && b instanceof Player) {
-			final Player player = (Player) b;
-			final WeaponImpl weapon = (WeaponImpl) a;
-			this.eventBuffer.addEvent(new PlayerHitsWeaponEvent(player, weapon));
+
+	/*
+	 * Whether two awake entities overlap or, if one moved with respect to the other far enough 
+	 * to go through it since the last mark, whether its path started to overlap the other one.
+	 * Pairs overlapping at the mark and apart now have left each other, they do not hit.
+	 */
+	private static boolean hits(final ComponentStore store, final int i, final ComponentStore other, final int j) {
+		if (store.overlaps(i, other, j)) {
+			return true;
 		}
-	}
-	
-	private void checkBulletAndEnemy(final PhysicalObject a, final PhysicalObject b) {
-		AppLogger.getAppLogger().debug("Checking bullet and enemy collision.");
-		if (a instanceof BulletImpl && b instanceof Enemy) {
-			final Enemy enemy = (Enemy) b;
-			final BulletImpl bullet = (BulletImpl) a;
-			this.eventBuffer.addEvent(new BulletHitsEnemyEvent(bullet, enemy));
-			AppLogger.getAppLogger().debug("Checked bullet and enemy collision, added to buffer");
+		final double dx = store.getX(i) - store.getLastX(i) - (other.getX(j) - other.getLastX(j));
+		final double dy = store.getY(i) - store.getLastY(i) - (other.getY(j) - other.getLastY(j));
+		if (!Collision.isFast(dx, dy, Math.min(store.getWidth(i), other.getWidth(j)), 
+				Math.min(store.getHeight(i), other.getHeight(j)))) {
+			return false;
 		}
+		final double time = Collision.timeOfImpact(store.getLastX(i), store.getLastY(i), store.getWidth(i), store.getHeight(i), 
+				dx, dy, other.getLastX(j), other.getLastY(j), other.getWidth(j), other.getHeight(j));
+		return time > 0 && time <= 1;
 	}
-	
-	private void checkPlayerAndPlatform(final PhysicalObject a, final PhysicalObject b) {
-		if (a instanceof Platform && b instanceof Player) {
-			final Player player = (Player) b;
-			final Platform platform = (Platform) a;
-			final Optional<CollisionSides> side = Collision.getCollisionSide(b, a);
-			this.eventBuffer.addEvent(new PlayerHitsPlatformEvent(player, platform, side.get()));
+
+	/*
+	 * Where an entity came from when it met another one, if they were found to hit by sweeping their paths.
+	 */
+	private static Optional<CollisionSides> side(final ComponentStore store, final int i, final ComponentStore other, final int j) {
+		if (store.overlaps(i, other, j)) {
+			return Optional.empty();
 		}
+		final CollisionSides side = Collision.getImpactSide(store.getLastX(i), store.getLastY(i), store.getWidth(i), store.getHeight(i), 
+				store.getX(i) - store.getLastX(i) - (other.getX(j) - other.getLastX(j)), 
+				store.getY(i) - store.getLastY(i) - (other.getY(j) - other.getLastY(j)),
+				other.getLastX(j), other.getLastY(j), other.getWidth(j), other.getHeight(j));
+		return SIDES.get(side.ordinal());
 	}
-	
-	private void checkEnemyAndPlatform(final PhysicalObject a, final PhysicalObject b) {
-		if (a instanceof Platform && b instanceof Enemy) {
-			final Enemy enemy = (Enemy) b;
-			final Platform platform = (Platform) a;
-			this.eventBuffer.addEvent(new EnemyHitsPlatformEvent(enemy, platform));
+
+	private void checkAllObjects(final boolean isSingleElemList, final PhysicalObject a) {
+		for (final PhysicalObject b : this.otherObjects) {
+			if (Collision.areColliding(a, b)) {
+				this.checkPair(a, b, Optional.empty());
+			}
+			if (isSingleElemList) {
+				break;
+			}
 		}
 	}
-	
-	private void checkBulletAndPlatform(final PhysicalObject a, final PhysicalObject b) {
-		AppLogger.getAppLogger().debug("Checking bullet and platform collision");
-		if (a instanceof Platform && b instanceof Bullet) {
-			final Platform platform = (Platform) a;
-			final Bullet bullet = (Bullet) b;
-			this.eventBuffer.addEvent(new BulletHitsPlatformEvent(bullet, platform));
-			AppLogger.getAppLogger().debug("Checked bullet and platform collision, added to buffer");
-		}
-	}	
-	
-	private void checkBulletAndObstacle(final PhysicalObject a, final PhysicalObject b) {
-		AppLogger.getAppLogger().debug("Checked bullet and obstacle collision");
-		if (a instanceof Bullet && b instanceof Obstacle) {
-			final BulletImpl bullet = (BulletImpl) a;
-			final Obstacle obstacle = (Obstacle) b;
-			this.eventBuffer.addEvent(new BulletHitsObstacleEvent(bullet, obstacle));
-			AppLogger.getAppLogger().debug("Checked bullet and obstacle collision, added to buffer");
-		}
+
+	/*
+	 * The kinds of the two objects pick the rule of the pair, refer to CollisionRules.
+	 */
+	private void checkPair(final PhysicalObject a, final PhysicalObject b, final Optional<CollisionSides> side) {
+		CollisionRules.of(a.getKind(), b.getKind()).apply(a, b, side, this.eventBuffer);
 	}
 	
 	@Override
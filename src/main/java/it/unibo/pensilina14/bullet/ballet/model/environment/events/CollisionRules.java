@@ -0,0 +1,87 @@
+package it.unibo.pensilina14.bullet.ballet.model.environment.events;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Enemy;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
+import it.unibo.pensilina14.bullet.ballet.model.collision.Collision;
+import it.unibo.pensilina14.bullet.ballet.model.collision.CollisionSides;
+import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Platform;
+import it.unibo.pensilina14.bullet.ballet.model.obstacle.Obstacle;
+import it.unibo.pensilina14.bullet.ballet.model.obstacle.ObstacleImpl;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.Bullet;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.PickupItem;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.WeaponImpl;
+
+/**
+ * What happens when two objects collide, looked up by the kinds of the two objects.
+ *
+ * Rules are stored in a table indexed by the ordinals of the two {@link GameEntities},
+ * so classifying a colliding pair takes two array reads whatever the number of rules.
+ * Pairs without a rule, and pairs in the opposite order, raise no event.
+ */
+final class CollisionRules {
+
+	/**
+	 * Turns a colliding pair into the event it raises.
+	 */
+	@FunctionalInterface
+	interface CollisionRule {
+		/**
+		 * @param a the first object of the pair.
+		 * @param b the second object of the pair.
+		 * @param side where the second object came from when it met the first one, if the pair was found 
+		 * by sweeping its path; empty if their bounds overlap, refer to {@link Collision#getImpactSide}.
+		 * @param buffer where the event raised is added.
+		 */
+		void apply(PhysicalObject a, PhysicalObject b, Optional<CollisionSides> side, EventBuffer buffer);
+	}
+
+	private static final CollisionRule NONE = (a, b, side, buffer) -> { };
+	private static final CollisionRule[][] RULES = new CollisionRule[GameEntities.count()][GameEntities.count()];
+
+	static {
+		for (final CollisionRule[] row : RULES) {
+			Arrays.fill(row, NONE);
+		}
+		rule(GameEntities.PICKUP_ITEM, GameEntities.PLAYER, (a, b, side, buffer) ->
+			buffer.addEvent(new PlayerHitsItemEvent((Player) b, (PickupItem) a)));
+		rule(GameEntities.ENEMY, GameEntities.PLAYER, (a, b, side, buffer) ->
+			buffer.addEvent(new PlayerHitsEnemyEvent((Player) b, (Enemy) a)));
+		rule(GameEntities.OBSTACLE, GameEntities.PLAYER, (a, b, side, buffer) ->
+			buffer.addEvent(new PlayerHitsObstacleEvent((Player) b, (ObstacleImpl) a)));
+		rule(GameEntities.WEAPON, GameEntities.PLAYER, (a, b, side, buffer) ->
+			buffer.addEvent(new PlayerHitsWeaponEvent((Player) b, (WeaponImpl) a)));
+		rule(GameEntities.BULLET, GameEntities.ENEMY, (a, b, side, buffer) ->
+			buffer.addEvent(new BulletHitsEnemyEvent((Bullet) a, (Enemy) b)));
+		rule(GameEntities.PLATFORM, GameEntities.PLAYER, (a, b, side, buffer) ->
+			buffer.addEvent(side.isPresent() 
+					? new PlayerHitsPlatformEvent((Player) b, (Platform) a, side.get(), true)
+					: new PlayerHitsPlatformEvent((Player) b, (Platform) a, Collision.getCollisionSide(b, a).get())));
+		rule(GameEntities.PLATFORM, GameEntities.ENEMY, (a, b, side, buffer) ->
+			buffer.addEvent(new EnemyHitsPlatformEvent((Enemy) b, (Platform) a)));
+		rule(GameEntities.BULLET, GameEntities.PLATFORM, (a, b, side, buffer) ->
+			buffer.addEvent(new BulletHitsPlatformEvent((Bullet) a, (Platform) b)));
+		rule(GameEntities.BULLET, GameEntities.OBSTACLE, (a, b, side, buffer) ->
+			buffer.addEvent(new BulletHitsObstacleEvent((Bullet) a, (Obstacle) b)));
+	}
+
+	private CollisionRules() {
+	}
+
+	/**
+	 * @param a the kind of the first object of a pair.
+	 * @param b the kind of the second object of the pair.
+	 * @return the rule of the pair, one adding no event if the two kinds do not interact.
+	 */
+	static CollisionRule of(final GameEntities a, final GameEntities b) {
+		return RULES[a.ordinal()][b.ordinal()];
+	}
+
+	private static void rule(final GameEntities a, final GameEntities b, final CollisionRule rule) {
+		RULES[a.ordinal()][b.ordinal()] = rule;
+	}
+}
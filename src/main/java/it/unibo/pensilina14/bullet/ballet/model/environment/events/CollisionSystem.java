@@ -0,0 +1,187 @@
+package it.unibo.pensilina14.bullet.ballet.model.environment.events;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import it.unibo.pensilina14.bullet.ballet.common.EntityManager;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.model.collision.SpatialGrid;
+import it.unibo.pensilina14.bullet.ballet.model.entities.ComponentStore;
+
+/**
+ * Collision stage of an environment, built once for its {@link EntityManager} and run on every tick.
+ *
+ * The pairs of stores checked are fixed, and what a colliding pair raises is looked up in
+ * {@link CollisionRules}. Every checker writes in the same buffer, whose events are handed to
+ * the listener in the order they were raised once all the pairs are checked.
+ * Platforms never move, they are binned in a {@link SpatialGrid} again only when some are added
+ * or removed; enemies and obstacles are binned again on every tick bullets are flying.
+ * Once the grids and the buffer have grown to fit the level, a tick in which nothing collides allocates nothing.
+ *
+ * After every check the position of every entity is marked, so that the next check sweeps
+ * the path of the entities that moved fast in between, refer to {@link ComponentStore#mark()}.
+ *
+ * The pairs can be checked on a {@link ForkJoinPool} instead, refer to {@link #setPool(ForkJoinPool)}:
+ * checkers only read the entities, so they run at the same time as each other and as the slices
+ * of the same checker, each writing in its own buffer.
+ */
+public final class CollisionSystem {
+
+	private final CollisionEventBuffer events;
+	private final ComponentStore platforms;
+	private final ComponentStore enemies;
+	private final ComponentStore obstacles;
+	private final ComponentStore bullets;
+	private final SpatialGrid platformGrid;
+	private final SpatialGrid enemyGrid;
+	private final SpatialGrid obstacleGrid;
+	private final ComponentStore[] stores;
+	private int platformVersion;
+	private final CollisionEventChecker[] checkers;
+	private final CollisionEventChecker[] bulletCheckers;
+	private Optional<ForkJoinPool> pool;
+	/*
+	 * Buffers of the slices checked on the pool, in the order of the checkers and then of the slices.
+	 */
+	private CollisionEventBuffer[] sliceEvents;
+	private ForkJoinTask<?>[] slices;
+	private ForkJoinTask<?>[] bulletSlices;
+	private final Stage stage;
+
+	/**
+	 * @param entities the entities checked.
+	 * @param cellSize the side of the cells of the grids, about the size of a tile.
+	 */
+	public CollisionSystem(final EntityManager entities, final double cellSize) {
+		this.events = new CollisionEventBuffer();
+		final ComponentStore player = entities.getComponents(GameEntities.PLAYER);
+		this.platforms = entities.getComponents(GameEntities.PLATFORM);
+		this.enemies = entities.getComponents(GameEntities.ENEMY);
+		this.obstacles = entities.getComponents(GameEntities.OBSTACLE);
+		this.bullets = entities.getComponents(GameEntities.BULLET);
+		this.platformGrid = new SpatialGrid(cellSize);
+		this.enemyGrid = new SpatialGrid(cellSize);
+		this.obstacleGrid = new SpatialGrid(cellSize);
+		this.stores = new ComponentStore[GameEntities.count()];
+		for (final GameEntities type : GameEntities.values()) {
+			this.stores[type.ordinal()] = entities.getComponents(type);
+		}
+		this.platformVersion = this.platforms.getVersion() - 1;
+		/*
+		 * The player alone is checked against all the rest, the player and the enemies 
+		 * look for the platforms under them and bullets for what they fly into through the grids.
+		 */
+		this.checkers = new CollisionEventChecker[] {
+			new CollisionEventChecker(this.events, entities.getComponents(GameEntities.PICKUP_ITEM), player),
+			new CollisionEventChecker(this.events, this.enemies, player),
+			new CollisionEventChecker(this.events, this.obstacles, player),
+			new CollisionEventChecker(this.events, entities.getComponents(GameEntities.WEAPON), player),
+			new CollisionEventChecker(this.events, this.platformGrid, this.platforms, player),
+			new CollisionEventChecker(this.events, this.platformGrid, this.platforms, this.enemies),
+		};
+		this.bulletCheckers = new CollisionEventChecker[] {
+			new CollisionEventChecker(this.events, this.bullets, this.enemyGrid, this.enemies),
+			new CollisionEventChecker(this.events, this.bullets, this.platformGrid, this.platforms),
+			new CollisionEventChecker(this.events, this.bullets, this.obstacleGrid, this.obstacles),
+		};
+		this.pool = Optional.empty();
+		this.sliceEvents = new CollisionEventBuffer[0];
+		this.slices = new ForkJoinTask<?>[0];
+		this.bulletSlices = this.slices;
+		this.stage = new Stage();
+	}
+
+	/**
+	 * Checks the pairs on a pool from the next check on. The entities each checker looks collisions for 
+	 * are split in as many slices as the pool has workers, every slice writes in its own buffer and the 
+	 * buffers are handed to the listener one after the other, in the order of the checkers and of the slices:
+	 * the events are raised in the same order as when the pairs are checked on the calling thread,
+	 * whatever the pool and however its workers are scheduled.
+	 *
+	 * @param workers the pool, null to check the pairs on the calling thread again.
+	 */
+	public void setPool(final ForkJoinPool workers) {
+		this.pool = Optional.ofNullable(workers);
+		final int parts = this.pool.map(ForkJoinPool::getParallelism).orElse(0);
+		final int count = (this.checkers.length + this.bulletCheckers.length) * parts;
+		this.sliceEvents = new CollisionEventBuffer[count];
+		final ForkJoinTask<?>[] all = new ForkJoinTask<?>[count];
+		int next = 0;
+		for (final CollisionEventChecker checker : this.checkers) {
+			next = this.slice(checker, parts, all, next);
+		}
+		for (final CollisionEventChecker checker : this.bulletCheckers) {
+			next = this.slice(checker, parts, all, next);
+		}
+		this.slices = Arrays.copyOf(all, this.checkers.length * parts);
+		this.bulletSlices = all;
+	}
+
+	/**
+	 * Checks every pair of entities that may collide.
+	 *
+	 * @param listener who is notified of the events raised by the collisions.
+	 */
+	public void check(final GameEventListener listener) {
+		if (this.platforms.getVersion() != this.platformVersion) {
+			this.platformGrid.clear();
+			this.platformGrid.insertAll(this.platforms, 0);
+			this.platformVersion = this.platforms.getVersion();
+		}
+		final boolean flying = this.bullets.size() > this.bullets.firstAwake();
+		if (flying) {
+			this.enemyGrid.clear();
+			this.enemyGrid.insertAll(this.enemies, this.enemies.firstAwake());
+			this.obstacleGrid.clear();
+			this.obstacleGrid.insertAll(this.obstacles, this.obstacles.firstAwake());
+		}
+		if (this.pool.isPresent()) {
+			this.stage.tasks = flying ? this.bulletSlices : this.slices;
+			this.stage.reinitialize();
+			this.pool.get().invoke(this.stage);
+			for (final CollisionEventBuffer buffer : this.sliceEvents) {
+				buffer.drainTo(listener);
+			}
+		} else {
+			for (final EventChecker checker : this.checkers) {
+				checker.check();
+			}
+			if (flying) {
+				for (final EventChecker checker : this.bulletCheckers) {
+					checker.check();
+				}
+			}
+			this.events.drainTo(listener);
+		}
+		for (final ComponentStore store : this.stores) {
+			store.mark();
+		}
+	}
+
+	private int slice(final CollisionEventChecker checker, final int parts, final ForkJoinTask<?>[] tasks, final int from) {
+		for (int part = 0; part < parts; part++) {
+			this.sliceEvents[from + part] = new CollisionEventBuffer();
+			tasks[from + part] = ForkJoinTask.adapt(checker.slice(this.sliceEvents[from + part], part, parts)::check);
+		}
+		return from + parts;
+	}
+
+	/*
+	 * Runs the slices of a tick and waits for all of them, tasks are reset to be run again on the next one.
+	 */
+	private static final class Stage extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private transient ForkJoinTask<?>[] tasks;
+
+		@Override
+		protected void compute() {
+			for (final ForkJoinTask<?> task : this.tasks) {
+				task.reinitialize();
+			}
+			invokeAll(this.tasks);
+		}
+	}
+}
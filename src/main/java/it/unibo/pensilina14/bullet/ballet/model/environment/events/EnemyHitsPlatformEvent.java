@@ -19,4 +19,9 @@ public class EnemyHitsPlatformEvent implements GameEvent {
 	public final Platform getPlatform() {
 		return this.platform;
 	}
+
+	@Override
+	public final GameEvents getType() {
+		return GameEvents.ENEMY_HITS_PLATFORM;
+	}
 }
@@ -0,0 +1,28 @@
+package it.unibo.pensilina14.bullet.ballet.model.environment.events;
+
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
+
+public final class EntityEntersWorldEvent implements GameEvent {
+
+	private final GameEntities kind;
+	private final PhysicalObject entity;
+
+	public EntityEntersWorldEvent(final GameEntities kind, final PhysicalObject entity) {
+		this.kind = kind;
+		this.entity = entity;
+	}
+
+	public GameEntities getKind() {
+		return this.kind;
+	}
+
+	public PhysicalObject getEntity() {
+		return this.entity;
+	}
+
+	@Override
+	public GameEvents getType() {
+		return GameEvents.ENTITY_ENTERS_WORLD;
+	}
+}
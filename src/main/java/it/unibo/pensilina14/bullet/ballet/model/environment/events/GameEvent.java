@@ -1,5 +1,8 @@
 package it.unibo.pensilina14.bullet.ballet.model.environment.events;
 
 public interface GameEvent {
-
+	/**
+	 * @return the type of this event, refer to {@link GameEvents}.
+	 */
+	GameEvents getType();
 }
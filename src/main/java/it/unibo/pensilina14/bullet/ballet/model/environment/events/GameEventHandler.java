@@ -0,0 +1,11 @@
+package it.unibo.pensilina14.bullet.ballet.model.environment.events;
+
+/**
+ * Reacts to a single type of {@link GameEvent}.
+ */
+public interface GameEventHandler {
+	/**
+	 * @param e the event to handle, its type is the one the handler was registered for.
+	 */
+	void handle(GameEvent e);
+}
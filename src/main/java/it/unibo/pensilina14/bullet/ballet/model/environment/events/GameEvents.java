@@ -0,0 +1,56 @@
+package it.unibo.pensilina14.bullet.ballet.model.environment.events;
+
+/**
+ * Every type of {@link GameEvent}, the ordinal of each constant 
+ * is used as index by whoever dispatches events.
+ */
+public enum GameEvents {
+	/**
+	 * The player picked up an item.
+	 */
+	PLAYER_HITS_ITEM,
+	/**
+	 * The player touched an enemy.
+	 */
+	PLAYER_HITS_ENEMY,
+	/**
+	 * The player touched an obstacle.
+	 */
+	PLAYER_HITS_OBSTACLE,
+	/**
+	 * The player touched a weapon.
+	 */
+	PLAYER_HITS_WEAPON,
+	/**
+	 * The player touched a platform.
+	 */
+	PLAYER_HITS_PLATFORM,
+	/**
+	 * A bullet hit an enemy.
+	 */
+	BULLET_HITS_ENEMY,
+	/**
+	 * A bullet hit an obstacle.
+	 */
+	BULLET_HITS_OBSTACLE,
+	/**
+	 * A bullet hit a platform.
+	 */
+	BULLET_HITS_PLATFORM,
+	/**
+	 * An enemy touched a platform.
+	 */
+	ENEMY_HITS_PLATFORM,
+	/**
+	 * An entity of the level was streamed into the world.
+	 */
+	ENTITY_ENTERS_WORLD,
+	/**
+	 * An entity left the world and was despawned.
+	 */
+	ENTITY_LEAVES_WORLD,
+	/**
+	 * The player died.
+	 */
+	GAME_OVER;
+}
@@ -13,5 +13,9 @@ public final class GameOverEvent implements GameEvent{
 	public Player getPlayer() {
 		return player;
 	}
-	
+
+	@Override
+	public GameEvents getType() {
+		return GameEvents.GAME_OVER;
+	}
 }
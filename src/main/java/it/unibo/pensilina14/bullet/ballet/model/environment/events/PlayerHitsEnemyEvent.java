@@ -20,4 +20,9 @@ public final class PlayerHitsEnemyEvent implements GameEvent {
 	public Enemy getEnemy() {
 		return this.enemy;
 	}
+
+	@Override
+	public GameEvents getType() {
+		return GameEvents.PLAYER_HITS_ENEMY;
+	}
 }
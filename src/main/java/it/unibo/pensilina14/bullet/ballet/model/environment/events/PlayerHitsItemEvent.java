@@ -20,4 +20,9 @@ public class PlayerHitsItemEvent implements GameEvent {
 	public final PickupItem getItem() {
 		return this.item;
 	}
+
+	@Override
+	public final GameEvents getType() {
+		return GameEvents.PLAYER_HITS_ITEM;
+	}
 }
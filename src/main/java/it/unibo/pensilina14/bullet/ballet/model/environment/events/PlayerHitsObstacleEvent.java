@@ -26,4 +26,9 @@ public final class PlayerHitsObstacleEvent implements GameEvent {
 	public ObstacleImpl getObstacle() {
 		return obstacle;
 	}
+
+	@Override
+	public GameEvents getType() {
+		return GameEvents.PLAYER_HITS_OBSTACLE;
+	}
 }
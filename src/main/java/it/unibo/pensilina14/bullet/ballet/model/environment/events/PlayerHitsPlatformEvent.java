@@ -8,11 +8,23 @@ public final class PlayerHitsPlatformEvent implements GameEvent {
     private final Player player;
 	private final Platform platform;
 	private final CollisionSides platformSideOfCollision;
+	private final boolean swept;
 	
 	public PlayerHitsPlatformEvent(final Player player, final Platform platform, final CollisionSides side) {
+		this(player, platform, side, false);
+	}
+	
+	/**
+	 * @param player the player.
+	 * @param platform the platform.
+	 * @param side the side.
+	 * @param swept whether the player went through the platform within the tick, so their bounds do not overlap.
+	 */
+	public PlayerHitsPlatformEvent(final Player player, final Platform platform, final CollisionSides side, final boolean swept) {
 		this.player = player;
 		this.platform = platform;
 		this.platformSideOfCollision = side;
+		this.swept = swept;
 	}
 
 	/**
@@ -36,4 +48,16 @@ public final class PlayerHitsPlatformEvent implements GameEvent {
 	public CollisionSides getCollisionSide() {
 		return this.platformSideOfCollision;
 	}
+
+	/**
+	 * @return whether the hit was found by sweeping the path of the player, the side is then the one it came from.
+	 */
+	public boolean isSwept() {
+		return this.swept;
+	}
+
+	@Override
+	public GameEvents getType() {
+		return GameEvents.PLAYER_HITS_PLATFORM;
+	}
 }
@@ -20,4 +20,9 @@ public class PlayerHitsWeaponEvent implements GameEvent {
 	public final WeaponImpl getWeapon() {
 		return this.weapon;
 	}
+
+	@Override
+	public final GameEvents getType() {
+		return GameEvents.PLAYER_HITS_WEAPON;
+	}
 }
@@ -1,6 +1,7 @@
 package it.unibo.pensilina14.bullet.ballet.model.obstacle;
 
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2D;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2D;
 import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
 import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
@@ -14,6 +15,8 @@ public class ObstacleImpl extends GameEntity implements Obstacle{
 			, final double mass, final Dimension2D dimension) {
 		super(speedVector, gameEnvironment, mass, dimension);
 		this.counter = 0;
+		// MS_TO_S is the speed on the screen, which moves along with the camera.
+		this.setVelocity(SCROLL_SPEED - MS_TO_S, 0);
 	}
 
 	@Override
@@ -35,6 +38,20 @@ public class ObstacleImpl extends GameEntity implements Obstacle{
 		return this.counter < Obstacles.MAX_ITERATIONS_DELTA.getValue() / 2;
 	}
 
+	/**
+	 * @return how far the obstacle is in its up and down movement.
+	 */
+	public int getCounter() {
+		return this.counter;
+	}
+
+	/**
+	 * @param counter how far the obstacle is in its up and down movement.
+	 */
+	public void setCounter(final int counter) {
+		this.counter = counter;
+	}
+
 	private void checkChanges() {
 		increaseCounter();
 		if (this.counter == Obstacles.MAX_ITERATIONS_DELTA.getValue()) {
@@ -49,8 +66,12 @@ public class ObstacleImpl extends GameEntity implements Obstacle{
 
 	@Override
 	public void updateState() {
-		this.getSpeedVector().get().noSpeedVectorSum(-MS_TO_S, 0);
+		super.updateState();
     	spin();
 	}
 
+	@Override
+	public final GameEntities getKind() {
+		return GameEntities.OBSTACLE;
+	}
 }
@@ -17,6 +17,11 @@ public interface Bullet extends Item {
 	
 	void fire();
 	
+	/*
+	 * Brings the bullet back to how it was created, so that it can be shot again.
+	 */
+	void reset();
+	
 	EntityList.BulletType getBulletType();
 	
 }
@@ -1,5 +1,6 @@
 package it.unibo.pensilina14.bullet.ballet.model.weapon;
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2D;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2D;
 import it.unibo.pensilina14.bullet.ballet.model.characters.EntityList;
 import it.unibo.pensilina14.bullet.ballet.model.characters.EntityList.BulletType;
@@ -32,6 +33,8 @@ public class BulletImpl extends GameEntity implements Bullet {
 		this.id = id;
 		this.effect = effect;
 		this.bulletType = bulletType;
+		// MS_TO_S is the speed on the screen, which moves along with the camera.
+		this.setVelocity(MS_TO_S + SCROLL_SPEED, 0);
 	}
 
 	@Override
@@ -63,15 +66,21 @@ public class BulletImpl extends GameEntity implements Bullet {
 	public boolean isShot() {
 		return this.fired;
 	}
+
+	@Override
+	public void reset() {
+		this.damage = this.bulletType.damage();
+		this.fired = false;
+		this.resetLanding();
+	}
 	
 	@Override
 	public EntityList.BulletType getBulletType() {
 		return this.bulletType;
 	}
-	
+
 	@Override
-	public void updateState() {
-		this.getSpeedVector().get().noSpeedVectorSum(MS_TO_S, 0);
+	public final GameEntities getKind() {
+		return GameEntities.BULLET;
 	}
-
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package it.unibo.pensilina14.bullet.ballet.model.weapon;
 
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2D;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2D;
 import it.unibo.pensilina14.bullet.ballet.model.effects.Effect;
 import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
@@ -28,4 +29,9 @@ public class PickupItem extends GameEntity implements Item {
 		return this.effect;
 	}
 	
+
+	@Override
+	public final GameEntities getKind() {
+		return GameEntities.PICKUP_ITEM;
+	}
 }
@@ -71,6 +71,18 @@ public interface Weapon extends PhysicalObject {
 	void recharge();
 
 	int getIndexCharger();
+
+	/*
+	 * @param charger index of the charger
+	 * @return the number of bullets remaining in the charger
+	 */
+	int getAmmoLeft(int charger);
+
+	/*
+	 * Refills or empties every charger to the given number of bullets, 
+	 * the charger at indexCharger becomes the one in use.
+	 */
+	void setAmmo(int indexCharger, int[] chargers);
 	
 
 	
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2D;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2D;
 import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2D;
 import it.unibo.pensilina14.bullet.ballet.model.characters.EntityList;
@@ -225,4 +226,31 @@ public class WeaponImpl extends GameEntity implements Weapon {
     public int getIndexCharger() {
     	return this.indexCharger;
     }
+    
+    @Override
+    public int getAmmoLeft(final int charger) {
+    	return this.bandolier.get(charger).size();
+    }
+    
+    @Override
+    public void setAmmo(final int indexCharger, final int[] chargers) {
+    	for (int i = 0; i < this.limitChargers; i++) {
+    		final List<Bullet> charger = this.bandolier.get(i);
+    		while (charger.size() > chargers[i]) {
+    			charger.remove(charger.size() - 1);
+    		}
+    		while (charger.size() < chargers[i]) {
+    			final Bullet bullet = this.bulletFactory.createClassicBullet(this.getGameEnvironment().get(), this.getSpeedVector().get());
+    			bullet.setDamage(this.damageFactor);
+    			charger.add(bullet);
+    		}
+    	}
+    	this.indexCharger = indexCharger;
+    	this.currentAmmo = this.bandolier.get(indexCharger).size();
+    }
+
+	@Override
+	public final GameEntities getKind() {
+		return GameEntities.WEAPON;
+	}
 }
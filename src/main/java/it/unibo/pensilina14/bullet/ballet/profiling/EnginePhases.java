@@ -0,0 +1,31 @@
+package it.unibo.pensilina14.bullet.ballet.profiling;
+
+/**
+ * The phases every iteration of the game loop goes through.
+ */
+public enum EnginePhases {
+	/**
+	 * Input commands are executed on the model.
+	 */
+	INPUT,
+	/**
+	 * The model is updated, collision detection excluded.
+	 */
+	UPDATE,
+	/**
+	 * Collisions between entities are detected.
+	 */
+	COLLISIONS,
+	/**
+	 * Events notified by the model are handled.
+	 */
+	EVENTS,
+	/**
+	 * The view is drawn.
+	 */
+	RENDER,
+	/**
+	 * A whole frame, from the start of a render to the start of the next one.
+	 */
+	FRAME;
+}
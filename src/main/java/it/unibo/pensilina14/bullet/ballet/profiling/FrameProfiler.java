@@ -0,0 +1,46 @@
+package it.unibo.pensilina14.bullet.ballet.profiling;
+
+/**
+ * Records how long every {@link EnginePhases} takes, frame after frame.
+ * 
+ * Statistics are reported over windows of frames, so that they reflect 
+ * what the game is doing now rather than since it started.
+ */
+public interface FrameProfiler {
+	/**
+	 * Records a duration, it never allocates.
+	 * 
+	 * @param phase the phase the duration belongs to.
+	 * @param nanos how long the phase took, in nanoseconds.
+	 */
+	void record(EnginePhases phase, long nanos);
+	/**
+	 * Marks the end of a frame, once a window is full its statistics become 
+	 * the reported ones and a new window starts.
+	 */
+	void endFrame();
+	/**
+	 * @param phase the phase.
+	 * @return the median duration of the phase in the last full window, in nanoseconds.
+	 */
+	long getP50(EnginePhases phase);
+	/**
+	 * @param phase the phase.
+	 * @return the 99th percentile of the durations of the phase in the last full window, in nanoseconds.
+	 */
+	long getP99(EnginePhases phase);
+	/**
+	 * @param phase the phase.
+	 * @return the longest duration of the phase in the last full window, in nanoseconds.
+	 */
+	long getMax(EnginePhases phase);
+	/**
+	 * @param phase the phase.
+	 * @return the time spent in the phase since creation or the last {@link #reset()}, in nanoseconds.
+	 */
+	long getTotal(EnginePhases phase);
+	/**
+	 * Forgets everything recorded so far.
+	 */
+	void reset();
+}
@@ -0,0 +1,123 @@
+package it.unibo.pensilina14.bullet.ballet.profiling;
+
+/**
+ * {@inheritDoc}
+ * 
+ * Every phase has a {@link LatencyHistogram} collecting the current window, 
+ * when a window is over its percentiles are copied in plain arrays. 
+ * Phases may be recorded by different threads, for instance when the model 
+ * runs on its own thread: recording and window switches are synchronized, 
+ * while statistics read by another thread can be a window behind.
+ */
+public class FrameProfilerImpl implements FrameProfiler {
+	/**
+	 * Frames per window by default, about a second at 60 frames per second.
+	 */
+	public static final int DEFAULT_WINDOW = 60;
+	private static final double P50 = 50;
+	private static final double P99 = 99;
+
+	private final int window;
+	private final LatencyHistogram[] current;
+	private final long[] totals;
+	private final long[] p50;
+	private final long[] p99;
+	private final long[] max;
+	private int frames;
+
+	public FrameProfilerImpl() {
+		this(DEFAULT_WINDOW);
+	}
+
+	/**
+	 * @param window number of frames statistics are computed over.
+	 */
+	public FrameProfilerImpl(final int window) {
+		if (window <= 0) {
+			throw new IllegalArgumentException("Window must be positive.");
+		}
+		final int phases = EnginePhases.values().length;
+		this.window = window;
+		this.current = new LatencyHistogram[phases];
+		for (int i = 0; i < phases; i++) {
+			this.current[i] = new LatencyHistogram();
+		}
+		this.totals = new long[phases];
+		this.p50 = new long[phases];
+		this.p99 = new long[phases];
+		this.max = new long[phases];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void record(final EnginePhases phase, final long nanos) {
+		this.current[phase.ordinal()].record(nanos);
+		this.totals[phase.ordinal()] += nanos;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void endFrame() {
+		this.frames++;
+		if (this.frames >= this.window) {
+			for (int i = 0; i < this.current.length; i++) {
+				this.p50[i] = this.current[i].getPercentile(P50);
+				this.p99[i] = this.current[i].getPercentile(P99);
+				this.max[i] = this.current[i].getMax();
+				this.current[i].reset();
+			}
+			this.frames = 0;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getP50(final EnginePhases phase) {
+		return this.p50[phase.ordinal()];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getP99(final EnginePhases phase) {
+		return this.p99[phase.ordinal()];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getMax(final EnginePhases phase) {
+		return this.max[phase.ordinal()];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized long getTotal(final EnginePhases phase) {
+		return this.totals[phase.ordinal()];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void reset() {
+		for (int i = 0; i < this.current.length; i++) {
+			this.current[i].reset();
+			this.totals[i] = 0;
+			this.p50[i] = 0;
+			this.p99[i] = 0;
+			this.max[i] = 0;
+		}
+		this.frames = 0;
+	}
+}
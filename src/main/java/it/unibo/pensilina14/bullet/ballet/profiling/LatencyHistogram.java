@@ -0,0 +1,110 @@
+package it.unibo.pensilina14.bullet.ballet.profiling;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of durations with a fixed set of buckets, recording never allocates.
+ * 
+ * Durations lower than {@value #SUB_BUCKETS} ns have a bucket each, above that 
+ * every power of two is split in {@value #SUB_BUCKETS} buckets, so any 
+ * percentile is off by less than 1/{@value #SUB_BUCKETS} of its value.
+ */
+public final class LatencyHistogram {
+	/**
+	 * Buckets every power of two is split in.
+	 */
+	public static final int SUB_BUCKETS = 16;
+	private static final int SUB_BITS = 4;
+	private static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+
+	private final long[] counts;
+	private long count;
+	private long total;
+	private long max;
+
+	public LatencyHistogram() {
+		this.counts = new long[BUCKETS];
+	}
+
+	/**
+	 * @param nanos the duration to record, negative ones are recorded as zero.
+	 */
+	public void record(final long nanos) {
+		final long value = Math.max(0, nanos);
+		this.counts[bucketOf(value)]++;
+		this.count++;
+		this.total += value;
+		if (value > this.max) {
+			this.max = value;
+		}
+	}
+
+	/**
+	 * @param percentile in the range [0, 100].
+	 * @return the duration below which the given percentage of the recorded ones falls, 
+	 * zero if nothing was recorded.
+	 */
+	public long getPercentile(final double percentile) {
+		if (this.count == 0) {
+			return 0;
+		}
+		final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * this.count));
+		long seen = 0;
+		for (int i = 0; i < this.counts.length; i++) {
+			seen += this.counts[i];
+			if (seen >= rank) {
+				return Math.min(upperBoundOf(i), this.max);
+			}
+		}
+		return this.max;
+	}
+
+	/**
+	 * @return the longest duration recorded.
+	 */
+	public long getMax() {
+		return this.max;
+	}
+
+	/**
+	 * @return the number of durations recorded.
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * @return the sum of the durations recorded.
+	 */
+	public long getTotal() {
+		return this.total;
+	}
+
+	/**
+	 * Forgets every duration recorded.
+	 */
+	public void reset() {
+		Arrays.fill(this.counts, 0);
+		this.count = 0;
+		this.total = 0;
+		this.max = 0;
+	}
+
+	private static int bucketOf(final long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		final int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	private static long upperBoundOf(final int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		final int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+		final int sub = bucket % SUB_BUCKETS;
+		return ((SUB_BUCKETS + sub + 1L) << (exponent - SUB_BITS)) - 1;
+	}
+}
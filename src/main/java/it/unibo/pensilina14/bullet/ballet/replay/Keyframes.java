@@ -0,0 +1,303 @@
+package it.unibo.pensilina14.bullet.ballet.replay;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import it.unibo.pensilina14.bullet.ballet.common.Container;
+import it.unibo.pensilina14.bullet.ballet.common.EntityManager;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2DImpl;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Characters;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Enemy;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
+import it.unibo.pensilina14.bullet.ballet.model.entities.ComponentStore;
+import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
+import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
+import it.unibo.pensilina14.bullet.ballet.model.environment.LevelGenerator;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Platform;
+import it.unibo.pensilina14.bullet.ballet.model.obstacle.Obstacle;
+import it.unibo.pensilina14.bullet.ballet.model.obstacle.ObstacleImpl;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.Bullet;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.BulletFactory;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.BulletFactoryImpl;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.Item;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.Weapon;
+
+/**
+ * Writes the full state of a game and restores it on a game freshly generated
+ * from the same level and seed.
+ *
+ * Entities generated with the level are identified by the order they were
+ * generated in, refer to {@link LevelGenerator#getOrdinal(int)}: the level is
+ * streamed up to where it was scrolled and they are looked up among the
+ * entities streamed. The only ones spawned while playing are the bullets shot,
+ * which are created again. The order of every list of entities is kept,
+ * since collisions are checked in that order.
+ */
+final class Keyframes {
+
+	private static final int SPAWNED = -1;
+	private static final int NO_WEAPON = -1;
+
+	private Keyframes() {
+	}
+
+	/**
+	 * @param out where the state is written.
+	 * @param state the game.
+	 * @throws IOException if the state cannot be written.
+	 */
+	static void write(final DataOutput out, final GameState state) throws IOException {
+		final Container<GameEntity> container = container(state);
+		final LevelGenerator generator = state.getEnvGenerator();
+		final EntityManager manager = state.getGameEnvironment().getEntityManager();
+		out.writeDouble(state.getGameEnvironment().getCameraX());
+		for (final GameEntities type : GameEntities.values()) {
+			final List<GameEntity> entities = container.getContainer().get(type).get();
+			final ComponentStore components = manager.getComponents(type);
+			out.writeInt(entities.size());
+			for (final GameEntity entity : entities) {
+				final Optional<Integer> ordinal = generator.getOrdinal(entity.getId());
+				if (ordinal.isEmpty() && type != GameEntities.BULLET) {
+					throw new IllegalStateException(type + " " + entity.getId() + " was not generated with the level.");
+				}
+				out.writeInt(ordinal.orElse(SPAWNED));
+				out.writeDouble(entity.getPosition().get().getX());
+				out.writeDouble(entity.getPosition().get().getY());
+				out.writeDouble(components.getLastX(entity.getSlot()));
+				out.writeDouble(components.getLastY(entity.getSlot()));
+				out.writeBoolean(entity.hasLanded());
+				writeDetails(out, type, entity, generator);
+			}
+		}
+	}
+
+	/**
+	 * @param in where the state is read from.
+	 * @param state a game just generated from the level and seed of the one the state was written from.
+	 * @throws IOException if the state cannot be read.
+	 */
+	static void restore(final DataInput in, final GameState state) throws IOException {
+		final LevelGenerator generator = state.getEnvGenerator();
+		final double camera = in.readDouble();
+		generator.stream(camera - generator.getScrolled());
+		state.getGameEnvironment().setCameraX(camera);
+		final Map<Integer, GameEntity> generated = generated(state);
+		final Container<GameEntity> container = container(state);
+		final EntityManager manager = state.getGameEnvironment().getEntityManager();
+		final BulletFactory bullets = new BulletFactoryImpl();
+		int weapon = NO_WEAPON;
+		for (final GameEntities type : GameEntities.values()) {
+			final int size = in.readInt();
+			if (size < 0) {
+				throw new IOException("Corrupted keyframe, " + size + " entities of type " + type);
+			}
+			final List<GameEntity> entities = new ArrayList<>(size);
+			final double[] last = new double[2 * size];
+			for (int i = 0; i < size; i++) {
+				final int ordinal = in.readInt();
+				final double x = in.readDouble();
+				final double y = in.readDouble();
+				last[2 * i] = in.readDouble();
+				last[2 * i + 1] = in.readDouble();
+				final GameEntity entity = ordinal == SPAWNED
+						? (GameEntity) bullets.createClassicBullet(state.getGameEnvironment(),
+								new SpeedVector2DImpl(new MutablePosition2Dimpl(x, y), 1.0))
+						: generated(generated, ordinal, type);
+				entity.getPosition().get().setPosition(x, y);
+				if (in.readBoolean()) {
+					entity.land();
+				} else {
+					entity.resetLanding();
+				}
+				final int equipped = readDetails(in, type, entity);
+				if (type == GameEntities.PLAYER) {
+					weapon = equipped;
+				}
+				entities.add(entity);
+			}
+			for (final GameEntity current : List.copyOf(container.getContainer().get(type).get())) {
+				manager.deleteById(current.getId());
+			}
+			for (final GameEntity entity : entities) {
+				add(manager, type, entity);
+			}
+			/*
+			 * Where the entities were at the last collision check, so that the next one sweeps the same paths.
+			 */
+			final ComponentStore components = manager.getComponents(type);
+			for (int i = 0; i < size; i++) {
+				components.setLastPosition(entities.get(i).getSlot(), last[2 * i], last[2 * i + 1]);
+			}
+		}
+		if (weapon != NO_WEAPON) {
+			final Player player = (Player) container.getContainer().get(GameEntities.PLAYER).get().get(0);
+			player.setWeapon((Weapon) generated(generated, weapon, GameEntities.WEAPON));
+		}
+	}
+
+	/*
+	 * Entities are added back through the manager, so that it keeps indexing them.
+	 */
+	private static void add(final EntityManager manager, final GameEntities type, final GameEntity entity) throws IOException {
+		switch (type) {
+		case PLAYER:
+			manager.setPlayer((Player) entity);
+			break;
+		case ENEMY:
+			manager.addEnemy((Enemy) entity);
+			break;
+		case PICKUP_ITEM:
+			manager.addItem((Item) entity);
+			break;
+		case OBSTACLE:
+			manager.addObstacle((Obstacle) entity);
+			break;
+		case WEAPON:
+			manager.addWeapon((Weapon) entity);
+			break;
+		case BULLET:
+			manager.addBullet((Bullet) entity);
+			break;
+		case PLATFORM:
+			manager.addPlatform((Platform) entity);
+			break;
+		default:
+			throw new IOException("Unknown entity type " + type);
+		}
+	}
+
+	/**
+	 * @throws IOException if no entity of the given type was generated with the ordinal, the keyframe is corrupted.
+	 */
+	private static GameEntity generated(final Map<Integer, GameEntity> generated, final int ordinal, 
+			final GameEntities type) throws IOException {
+		final GameEntity entity = generated.get(ordinal);
+		if (entity == null || entity.getKind() != type) {
+			throw new IOException("Corrupted keyframe, no " + type + " was generated with ordinal " + ordinal);
+		}
+		return entity;
+	}
+
+	private static void writeDetails(final DataOutput out, final GameEntities type, final GameEntity entity,
+			final LevelGenerator generator) throws IOException {
+		switch (type) {
+		case PLAYER:
+			final Player player = (Player) entity;
+			writeCharacter(out, player);
+			out.writeInt((int) player.getCurrentScore().showScore());
+			out.writeBoolean(player.hasBlockedX());
+			out.writeInt(player.hasWeapon() ? generator.getOrdinal(player.getWeapon().get().getId()).get() : NO_WEAPON);
+			break;
+		case ENEMY:
+			writeCharacter(out, (Characters) entity);
+			break;
+		case OBSTACLE:
+			out.writeInt(((ObstacleImpl) entity).getCounter());
+			break;
+		case WEAPON:
+			final Weapon weapon = (Weapon) entity;
+			out.writeBoolean(weapon.isOn());
+			out.writeInt(weapon.getIndexCharger());
+			for (int i = 0; i < weapon.getLimitChargers(); i++) {
+				out.writeInt(weapon.getAmmoLeft(i));
+			}
+			break;
+		case BULLET:
+			out.writeBoolean(((Bullet) entity).isShot());
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * @return the ordinal of the weapon of the player, if the entity is the player.
+	 */
+	private static int readDetails(final DataInput in, final GameEntities type, final GameEntity entity) throws IOException {
+		switch (type) {
+		case PLAYER:
+			final Player player = (Player) entity;
+			readCharacter(in, player);
+			player.getCurrentScore().reset();
+			player.getCurrentScore().increase(in.readInt());
+			if (in.readBoolean()) {
+				player.blockX();
+			} else {
+				player.unblockX();
+			}
+			return in.readInt();
+		case ENEMY:
+			readCharacter(in, (Characters) entity);
+			break;
+		case OBSTACLE:
+			((ObstacleImpl) entity).setCounter(in.readInt());
+			break;
+		case WEAPON:
+			final Weapon weapon = (Weapon) entity;
+			if (in.readBoolean()) {
+				weapon.setOn();
+			} else {
+				weapon.setOff();
+			}
+			final int index = in.readInt();
+			final int[] chargers = new int[weapon.getLimitChargers()];
+			for (int i = 0; i < chargers.length; i++) {
+				chargers[i] = in.readInt();
+			}
+			weapon.setAmmo(index, chargers);
+			break;
+		case BULLET:
+			if (in.readBoolean()) {
+				((Bullet) entity).fire();
+			}
+			break;
+		default:
+			break;
+		}
+		return NO_WEAPON;
+	}
+
+	private static void writeCharacter(final DataOutput out, final Characters character) throws IOException {
+		out.writeDouble(character.getHealth());
+		out.writeDouble(character.getMana().orElse(Double.NaN));
+	}
+
+	private static void readCharacter(final DataInput in, final Characters character) throws IOException {
+		character.setHealth(in.readDouble());
+		final double mana = in.readDouble();
+		final Optional<Double> current = character.getMana();
+		if (current.isPresent() && !Double.isNaN(mana)) {
+			character.increaseMana(mana - current.get());
+		}
+	}
+
+	/**
+	 * @return every entity of the game generated with the level, by the order it was generated in.
+	 */
+	private static Map<Integer, GameEntity> generated(final GameState state) {
+		final Container<GameEntity> container = container(state);
+		final Map<Integer, GameEntity> generated = new HashMap<>();
+		for (final GameEntities type : GameEntities.values()) {
+			for (final GameEntity entity : container.getContainer().get(type).get()) {
+				state.getEnvGenerator().getOrdinal(entity.getId()).ifPresent(ordinal -> generated.put(ordinal, entity));
+			}
+		}
+		return generated;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Container<GameEntity> container(final GameState state) {
+		if (!(state.getGameEnvironment().getEntityManager() instanceof Container)) {
+			throw new IllegalArgumentException("Keyframes need entities stored in a Container.");
+		}
+		return (Container<GameEntity>) state.getGameEnvironment().getEntityManager();
+	}
+}
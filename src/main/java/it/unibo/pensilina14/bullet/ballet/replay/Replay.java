@@ -0,0 +1,260 @@
+package it.unibo.pensilina14.bullet.ballet.replay;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import it.unibo.pensilina14.bullet.ballet.logging.AppLogger;
+
+/**
+ * A recorded game, as written by a {@link ReplayRecorder}.
+ *
+ * The file starts with a header holding the player name, the level and the
+ * seed the game was generated with, followed by a sequence of records:
+ * <ul>
+ * <li>a command executed in a tick, stored as the ticks elapsed since the previous
+ * record, as a variable length integer, and its {@link ReplayCommands} code;</li>
+ * <li>a keyframe with the full state of the game at the start of a tick;</li>
+ * <li>the end of the game, with its total number of ticks.</li>
+ * </ul>
+ * A file without end, for instance because the game crashed, is read
+ * up to its last complete record.
+ */
+public final class Replay {
+	/**
+	 * First bytes of a replay file, "BBRP".
+	 */
+	static final int MAGIC = 0x42425250;
+	static final int VERSION = 8;
+	static final int TAG_COMMAND = 1;
+	static final int TAG_KEYFRAME = 2;
+	static final int TAG_END = 3;
+	private static final int VARINT_BITS = 7;
+	private static final int VARINT_MASK = 0x7F;
+	private static final int VARINT_MORE = 0x80;
+
+	private final String playerName;
+	private final int levelIndex;
+	private final long seed;
+	private final long ticks;
+	private final long[] commandTicks;
+	private final ReplayCommands[] commands;
+	private final long[] keyframeTicks;
+	private final byte[][] keyframes;
+
+	private Replay(final String playerName, final int levelIndex, final long seed, final long ticks,
+			final long[] commandTicks, final ReplayCommands[] commands, final long[] keyframeTicks, final byte[][] keyframes) {
+		this.playerName = playerName;
+		this.levelIndex = levelIndex;
+		this.seed = seed;
+		this.ticks = ticks;
+		this.commandTicks = commandTicks;
+		this.commands = commands;
+		this.keyframeTicks = keyframeTicks;
+		this.keyframes = keyframes;
+	}
+
+	/**
+	 * @param file the replay file.
+	 * @return the replay stored in the file.
+	 * @throws IOException if the file cannot be read or is not a replay.
+	 */
+	public static Replay load(final Path file) throws IOException {
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+			return read(in);
+		}
+	}
+
+	/**
+	 * @param stream the stream the replay is read from, it is not closed.
+	 * @return the replay read.
+	 * @throws IOException if the stream cannot be read or does not hold a replay.
+	 */
+	public static Replay read(final InputStream stream) throws IOException {
+		final DataInputStream in = new DataInputStream(stream);
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a replay file.");
+		}
+		final int version = in.readUnsignedByte();
+		if (version != VERSION) {
+			throw new IOException("Unsupported replay version " + version);
+		}
+		final String name = in.readUTF();
+		final int level = in.readInt();
+		final long seed = in.readLong();
+		final List<Long> commandTicks = new ArrayList<>();
+		final List<ReplayCommands> commands = new ArrayList<>();
+		final List<Long> keyframeTicks = new ArrayList<>();
+		final List<byte[]> keyframes = new ArrayList<>();
+		long tick = 0;
+		boolean ended = false;
+		try {
+			while (!ended) {
+				final int tag = in.readUnsignedByte();
+				final long next = tick + readVarLong(in);
+				switch (tag) {
+				case TAG_COMMAND:
+					final ReplayCommands cmd;
+					try {
+						cmd = ReplayCommands.fromCode(in.readUnsignedByte());
+					} catch (IllegalArgumentException e) {
+						throw new IOException("Corrupted command at tick " + next, e);
+					}
+					commandTicks.add(next);
+					commands.add(cmd);
+					break;
+				case TAG_KEYFRAME:
+					final byte[] data = new byte[in.readInt()];
+					in.readFully(data);
+					keyframeTicks.add(next);
+					keyframes.add(data);
+					break;
+				case TAG_END:
+					ended = true;
+					break;
+				default:
+					throw new IOException("Unknown replay record " + tag);
+				}
+				tick = next;
+			}
+		} catch (EOFException e) {
+			AppLogger.getAppLogger().warn("Replay ends without its last record, it is read up to tick " + tick);
+		}
+		if (keyframes.isEmpty()) {
+			throw new IOException("Replay without keyframes.");
+		}
+		return new Replay(name, level, seed, tick,
+				commandTicks.stream().mapToLong(Long::longValue).toArray(), commands.toArray(new ReplayCommands[0]),
+				keyframeTicks.stream().mapToLong(Long::longValue).toArray(), keyframes.toArray(new byte[0][]));
+	}
+
+	/**
+	 * @return the name of the player.
+	 */
+	public String getPlayerName() {
+		return this.playerName;
+	}
+
+	/**
+	 * @return the index of the level played.
+	 */
+	public int getLevelIndex() {
+		return this.levelIndex;
+	}
+
+	/**
+	 * @return the seed the level was generated with.
+	 */
+	public long getSeed() {
+		return this.seed;
+	}
+
+	/**
+	 * @return the number of ticks recorded.
+	 */
+	public long getTicks() {
+		return this.ticks;
+	}
+
+	/**
+	 * @return the number of commands recorded.
+	 */
+	public int getCommandCount() {
+		return this.commands.length;
+	}
+
+	/**
+	 * @return the number of keyframes recorded.
+	 */
+	public int getKeyframeCount() {
+		return this.keyframes.length;
+	}
+
+	/**
+	 * @param tick a tick.
+	 * @return the index of the first command executed in the given tick or later,
+	 * {@link #getCommandCount()} if there is none.
+	 */
+	int firstCommandAt(final long tick) {
+		int index = Arrays.binarySearch(this.commandTicks, tick);
+		if (index < 0) {
+			return -index - 1;
+		}
+		while (index > 0 && this.commandTicks[index - 1] == tick) {
+			index--;
+		}
+		return index;
+	}
+
+	/**
+	 * @param index the index of a command.
+	 * @return the tick the command was executed in.
+	 */
+	long getCommandTick(final int index) {
+		return this.commandTicks[index];
+	}
+
+	/**
+	 * @param index the index of a command.
+	 * @return the command.
+	 */
+	ReplayCommands getCommand(final int index) {
+		return this.commands[index];
+	}
+
+	/**
+	 * @param tick a tick.
+	 * @return the index of the last keyframe taken at the given tick or before.
+	 */
+	int keyframeBefore(final long tick) {
+		final int index = Arrays.binarySearch(this.keyframeTicks, tick);
+		return index >= 0 ? index : Math.max(0, -index - 2);
+	}
+
+	/**
+	 * @param index the index of a keyframe.
+	 * @return the tick the keyframe was taken at.
+	 */
+	long getKeyframeTick(final int index) {
+		return this.keyframeTicks[index];
+	}
+
+	/**
+	 * @param index the index of a keyframe.
+	 * @return a stream over the state stored in the keyframe.
+	 */
+	DataInput openKeyframe(final int index) {
+		return new DataInputStream(new ByteArrayInputStream(this.keyframes[index]));
+	}
+
+	static long readVarLong(final DataInput in) throws IOException {
+		long value = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = in.readUnsignedByte();
+			value |= (long) (b & VARINT_MASK) << shift;
+			shift += VARINT_BITS;
+		} while ((b & VARINT_MORE) != 0);
+		return value;
+	}
+
+	static void writeVarLong(final DataOutput out, final long value) throws IOException {
+		long rest = value;
+		while ((rest & ~VARINT_MASK) != 0) {
+			out.writeByte((int) (rest & VARINT_MASK) | VARINT_MORE);
+			rest >>>= VARINT_BITS;
+		}
+		out.writeByte((int) rest);
+	}
+}
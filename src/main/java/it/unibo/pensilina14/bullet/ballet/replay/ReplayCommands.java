@@ -0,0 +1,91 @@
+package it.unibo.pensilina14.bullet.ballet.replay;
+
+import java.util.Optional;
+
+import it.unibo.pensilina14.bullet.ballet.graphics.scenes.GameView;
+import it.unibo.pensilina14.bullet.ballet.input.Command;
+import it.unibo.pensilina14.bullet.ballet.input.Down;
+import it.unibo.pensilina14.bullet.ballet.input.Left;
+import it.unibo.pensilina14.bullet.ballet.input.Right;
+import it.unibo.pensilina14.bullet.ballet.input.Space;
+import it.unibo.pensilina14.bullet.ballet.input.Up;
+import it.unibo.pensilina14.bullet.ballet.sounds.SoundsFactory;
+
+/**
+ * Commands that can be stored in a replay, each one is written as its ordinal.
+ */
+public enum ReplayCommands {
+	/**
+	 * Any {@link Up} jumping by {@link Up#MOVEMENT_DELTA}, it only depends on the sound it plays.
+	 */
+	UP,
+	/**
+	 * {@link Down#getInstance()}.
+	 */
+	DOWN,
+	/**
+	 * {@link Left#getInstance()}.
+	 */
+	LEFT,
+	/**
+	 * {@link Right#getInstance()}.
+	 */
+	RIGHT,
+	/**
+	 * Any {@link Space}, it only depends on the view the bullets are drawn on.
+	 */
+	SHOOT;
+
+	private static final ReplayCommands[] VALUES = values();
+
+	/**
+	 * @param cmd the command.
+	 * @return the replay command matching it, empty if it cannot be replayed.
+	 */
+	public static Optional<ReplayCommands> of(final Command cmd) {
+		if (cmd instanceof Up && ((Up) cmd).getMovement() == Up.MOVEMENT_DELTA) {
+			return Optional.of(UP);
+		} else if (cmd == Down.getInstance()) {
+			return Optional.of(DOWN);
+		} else if (cmd == Left.getInstance()) {
+			return Optional.of(LEFT);
+		} else if (cmd == Right.getInstance()) {
+			return Optional.of(RIGHT);
+		} else if (cmd instanceof Space) {
+			return Optional.of(SHOOT);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * @param code the code written in a replay.
+	 * @return the replay command with the given code.
+	 * @throws IllegalArgumentException if no command has the given code.
+	 */
+	public static ReplayCommands fromCode(final int code) {
+		if (code < 0 || code >= VALUES.length) {
+			throw new IllegalArgumentException("Unknown command code " + code);
+		}
+		return VALUES[code];
+	}
+
+	/**
+	 * @param view the view bullets are drawn on.
+	 * @param soundsFactory the factory of the sounds played by the command.
+	 * @return a command doing what the recorded one did.
+	 */
+	public Command create(final GameView view, final SoundsFactory soundsFactory) {
+		switch (this) {
+		case UP:
+			return new Up(soundsFactory);
+		case DOWN:
+			return Down.getInstance();
+		case LEFT:
+			return Left.getInstance();
+		case RIGHT:
+			return Right.getInstance();
+		default:
+			return new Space(view, soundsFactory);
+		}
+	}
+}
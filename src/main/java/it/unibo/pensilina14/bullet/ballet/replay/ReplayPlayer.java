@@ -0,0 +1,162 @@
+package it.unibo.pensilina14.bullet.ballet.replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
+import it.unibo.pensilina14.bullet.ballet.core.GameEngine;
+import it.unibo.pensilina14.bullet.ballet.core.HeadlessReport;
+import it.unibo.pensilina14.bullet.ballet.core.controller.HeadlessViewController;
+import it.unibo.pensilina14.bullet.ballet.core.controller.ModelController;
+import it.unibo.pensilina14.bullet.ballet.core.controller.ModelControllerImpl;
+import it.unibo.pensilina14.bullet.ballet.core.controller.ViewController;
+import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.Bullet;
+import it.unibo.pensilina14.bullet.ballet.sounds.MuteSoundsFactory;
+import it.unibo.pensilina14.bullet.ballet.sounds.SoundsFactory;
+
+/**
+ * Plays a {@link Replay} back on a {@link GameEngine} without timer,
+ * feeding it the recorded commands tick by tick.
+ *
+ * Since the level is generated again from its seed and every tick is
+ * deterministic, the game goes exactly as it was recorded. Seeking restores
+ * the closest keyframe and simulates the few ticks after it.
+ */
+public final class ReplayPlayer {
+
+	private final Replay replay;
+	private final Function<GameState, ViewController> viewFactory;
+	private final SoundsFactory soundsFactory;
+	private ModelController model;
+	private ViewController view;
+	private GameEngine engine;
+	private long tick;
+	private int nextCommand;
+
+	/**
+	 * Plays the replay without display and audio.
+	 *
+	 * @param replay the replay.
+	 */
+	public ReplayPlayer(final Replay replay) {
+		this(replay, state -> new HeadlessViewController(), new MuteSoundsFactory());
+	}
+
+	/**
+	 * @param replay the replay.
+	 * @param viewFactory builds the view a game is shown on, a new one is built on every seek.
+	 * @param soundsFactory the factory of the sounds played.
+	 */
+	public ReplayPlayer(final Replay replay, final Function<GameState, ViewController> viewFactory,
+			final SoundsFactory soundsFactory) {
+		this.replay = replay;
+		this.viewFactory = viewFactory;
+		this.soundsFactory = soundsFactory;
+		this.seek(0);
+	}
+
+	/**
+	 * Runs the next tick of the replay, if it is not over.
+	 *
+	 * @return false if the replay is over.
+	 */
+	public boolean step() {
+		if (this.isOver()) {
+			return false;
+		}
+		this.runTick();
+		this.engine.render();
+		return true;
+	}
+
+	/**
+	 * Plays the replay up to its end or for the given number of ticks, whichever comes first.
+	 *
+	 * @param maxTicks the maximum number of ticks to run.
+	 * @return the report of the run.
+	 */
+	public HeadlessReport play(final long maxTicks) {
+		this.engine.getProfiler().reset();
+		this.engine.getEventDispatcher().resetCounts();
+		final long start = System.nanoTime();
+		long ticks = 0;
+		while (ticks < maxTicks && this.step()) {
+			ticks++;
+		}
+		return HeadlessReport.of(this.engine, this.model.getGameEnvironment(),
+				ticks, System.nanoTime() - start);
+	}
+
+	/**
+	 * Moves the replay to the start of the given tick.
+	 *
+	 * @param target the tick, it is clamped to the length of the replay.
+	 */
+	public void seek(final long target) {
+		final long clamped = Math.max(0, Math.min(target, this.replay.getTicks()));
+		final int keyframe = this.replay.keyframeBefore(clamped);
+		final GameState state = new GameState(this.replay.getPlayerName(), this.replay.getLevelIndex(), this.replay.getSeed());
+		try {
+			Keyframes.restore(this.replay.openKeyframe(keyframe), state);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Corrupted replay keyframe " + keyframe, e);
+		}
+		this.model = new ModelControllerImpl(state);
+		this.view = this.viewFactory.apply(state);
+		this.engine = new GameEngine(this.view, this.model, this.soundsFactory);
+		this.engine.setup();
+		for (final Bullet bullet : state.getGameEnvironment().getEntityManager().getBullets()) {
+			try {
+				this.view.getGameView().generateBullet(bullet);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		this.tick = this.replay.getKeyframeTick(keyframe);
+		this.nextCommand = this.replay.firstCommandAt(this.tick);
+		while (this.tick < clamped) {
+			this.runTick();
+		}
+	}
+
+	/**
+	 * @return the tick about to be run.
+	 */
+	public long getTick() {
+		return this.tick;
+	}
+
+	/**
+	 * @return whether every recorded tick was run.
+	 */
+	public boolean isOver() {
+		return this.tick >= this.replay.getTicks();
+	}
+
+	/**
+	 * @return the game being replayed, a new one is built on every seek.
+	 */
+	public GameState getGameState() {
+		return this.model.getGameState().get();
+	}
+
+	/**
+	 * @return the engine running the game, a new one is built on every seek.
+	 */
+	public GameEngine getEngine() {
+		return this.engine;
+	}
+
+	private void runTick() {
+		while (this.nextCommand < this.replay.getCommandCount()
+				&& this.replay.getCommandTick(this.nextCommand) == this.tick) {
+			this.engine.notifyCommand(this.replay.getCommand(this.nextCommand)
+					.create(this.view.getGameView(), this.soundsFactory));
+			this.nextCommand++;
+		}
+		this.engine.processInput();
+		this.engine.updateGame();
+		this.tick++;
+	}
+}
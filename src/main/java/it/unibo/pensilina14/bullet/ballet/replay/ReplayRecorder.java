@@ -0,0 +1,188 @@
+package it.unibo.pensilina14.bullet.ballet.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+import it.unibo.pensilina14.bullet.ballet.input.Command;
+import it.unibo.pensilina14.bullet.ballet.logging.AppLogger;
+import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
+
+/**
+ * Writes a game to a stream while it is played, refer to {@link Replay} for the format.
+ *
+ * The commands executed in every tick are written as they are executed and
+ * a keyframe with the full state of the game is written every
+ * {@link #getKeyframeInterval()} ticks, so that a replay can be started from
+ * any point without simulating it from the start. The stream is flushed on
+ * every keyframe. If the stream cannot be written the recording is given up,
+ * the game goes on.
+ */
+public final class ReplayRecorder {
+	/**
+	 * Ticks between two keyframes by default, ten seconds of game.
+	 */
+	public static final int DEFAULT_KEYFRAME_INTERVAL = 600;
+
+	private final DataOutputStream out;
+	private final int keyframeInterval;
+	private final ByteArrayOutputStream keyframe;
+	private long tick;
+	private long lastRecordTick;
+	private boolean recording;
+	private boolean warned;
+
+	/**
+	 * @param stream where the game is written.
+	 * @param state the game to record, it must not have been updated yet.
+	 */
+	public ReplayRecorder(final OutputStream stream, final GameState state) {
+		this(stream, state, DEFAULT_KEYFRAME_INTERVAL);
+	}
+
+	/**
+	 * @param stream where the game is written.
+	 * @param state the game to record, it must not have been updated yet.
+	 * @param keyframeInterval ticks between two keyframes.
+	 */
+	public ReplayRecorder(final OutputStream stream, final GameState state, final int keyframeInterval) {
+		if (keyframeInterval <= 0) {
+			throw new IllegalArgumentException("Keyframe interval must be positive.");
+		}
+		this.out = new DataOutputStream(stream);
+		this.keyframeInterval = keyframeInterval;
+		this.keyframe = new ByteArrayOutputStream();
+		this.recording = true;
+		try {
+			this.out.writeInt(Replay.MAGIC);
+			this.out.writeByte(Replay.VERSION);
+			this.out.writeUTF(state.getPlayerName());
+			this.out.writeInt(state.getEnvGenerator().getLevelIndex());
+			this.out.writeLong(state.getEnvGenerator().getSeed());
+			this.writeKeyframe(state);
+		} catch (IOException | IllegalStateException e) {
+			this.fail(e);
+		}
+	}
+
+	/**
+	 * Writes a command executed in the current tick.
+	 *
+	 * @param cmd the command.
+	 */
+	public void record(final Command cmd) {
+		if (!this.recording) {
+			return;
+		}
+		final Optional<ReplayCommands> replayCmd = ReplayCommands.of(cmd);
+		if (replayCmd.isEmpty()) {
+			if (!this.warned) {
+				AppLogger.getAppLogger().warn(cmd.getClass().getSimpleName() + " cannot be replayed, it is not recorded.");
+				this.warned = true;
+			}
+			return;
+		}
+		try {
+			this.writeTag(Replay.TAG_COMMAND);
+			this.out.writeByte(replayCmd.get().ordinal());
+		} catch (IOException e) {
+			this.fail(e);
+		}
+	}
+
+	/**
+	 * Ends the current tick, writing a keyframe if one is due.
+	 *
+	 * @param state the game, after the tick.
+	 */
+	public void endTick(final GameState state) {
+		if (!this.recording) {
+			return;
+		}
+		this.tick++;
+		if (this.tick % this.keyframeInterval == 0) {
+			try {
+				this.writeKeyframe(state);
+			} catch (IOException | IllegalStateException e) {
+				this.fail(e);
+			}
+		}
+	}
+
+	/**
+	 * Writes everything recorded so far to the underlying stream.
+	 */
+	public void flush() {
+		if (!this.recording) {
+			return;
+		}
+		try {
+			this.out.flush();
+		} catch (IOException e) {
+			this.fail(e);
+		}
+	}
+
+	/**
+	 * Writes the end of the game and closes the underlying stream, it can be called more than once.
+	 */
+	public void close() {
+		if (this.recording) {
+			try {
+				this.writeTag(Replay.TAG_END);
+				this.out.flush();
+			} catch (IOException e) {
+				this.fail(e);
+			}
+		}
+		this.recording = false;
+		try {
+			this.out.close();
+		} catch (IOException e) {
+			AppLogger.getAppLogger().error("Could not close the replay: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * @return the number of ticks recorded.
+	 */
+	public long getTicks() {
+		return this.tick;
+	}
+
+	/**
+	 * @return ticks between two keyframes.
+	 */
+	public int getKeyframeInterval() {
+		return this.keyframeInterval;
+	}
+
+	/**
+	 * @return whether the game is still being recorded.
+	 */
+	public boolean isRecording() {
+		return this.recording;
+	}
+
+	private void writeKeyframe(final GameState state) throws IOException {
+		this.keyframe.reset();
+		Keyframes.write(new DataOutputStream(this.keyframe), state);
+		this.writeTag(Replay.TAG_KEYFRAME);
+		this.out.writeInt(this.keyframe.size());
+		this.keyframe.writeTo(this.out);
+		this.out.flush();
+	}
+
+	private void writeTag(final int tag) throws IOException {
+		this.out.writeByte(tag);
+		Replay.writeVarLong(this.out, this.tick - this.lastRecordTick);
+		this.lastRecordTick = this.tick;
+	}
+
+	private void fail(final Exception e) {
+		AppLogger.getAppLogger().error("Replay recording stopped: " + e.getMessage());
+		this.recording = false;
+	}
+}
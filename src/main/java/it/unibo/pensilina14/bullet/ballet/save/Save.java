@@ -40,6 +40,11 @@ public final class Save {
 
     public static final int MAX_LEVELS = 4;
 
+    /**
+     * Last settings read or written, decrypting the settings file is too slow to be done on every sound played.
+     */
+    private static volatile Map<String, String> settingsCache;
+
     /**
      * private constructor because I don't want the class to be instantiated.
      */
@@ -369,16 +374,23 @@ public final class Save {
         } catch(NoSuchAlgorithmException | InvalidKeySpecException | NoSuchPaddingException | InvalidAlgorithmParameterException | 
         		InvalidKeyException | IllegalBlockSizeException | BadPaddingException | IOException | ParseException e){
             e.printStackTrace();
+            Save.settingsCache = null;
             return false;
         }
+        Save.settingsCache = null;
         return true;
     }
 
     /**
      *
      * @return an HashMap<String, String> with the settings' data.
+     * The file is only decrypted the first time, until the settings are saved again.
      */
     public static Map<String, String> loadSettings() {
+    	final Map<String, String> cached = Save.settingsCache;
+    	if (cached != null) {
+    		return new HashMap<>(cached);
+    	}
     	final HashMap<String, String> map = new HashMap<>();
     	final JSONParser jsonParser = new JSONParser();
 
@@ -415,8 +427,10 @@ public final class Save {
         } catch (NoSuchAlgorithmException | InvalidKeySpecException | NoSuchPaddingException | InvalidAlgorithmParameterException | 
         		InvalidKeyException | IllegalBlockSizeException | BadPaddingException | IOException | ParseException e) {
             e.printStackTrace();
+            return map;
         }
 
+        Save.settingsCache = Collections.unmodifiableMap(new HashMap<>(map));
         return map;
     }
 
@@ -428,6 +442,9 @@ public final class Save {
         try {
         	final FileWriter fileWriter = new FileWriter(filePath, false); // mettendo false ricrea il file, cancellando quello che c'era prima.
             fileWriter.close();
+            if (Save.SETTINGS_PATH.equals(filePath)) {
+            	Save.settingsCache = null;
+            }
             
         }catch(IOException e){
             e.printStackTrace();
@@ -0,0 +1,30 @@
+package it.unibo.pensilina14.bullet.ballet.sounds;
+
+import java.util.Optional;
+
+import javafx.scene.media.AudioClip;
+
+/**
+ * Sound that plays nothing, used when the game runs without an audio device.
+ */
+public class MuteSound implements Sound {
+
+	@Override
+	public void play() {
+	}
+
+	@Override
+	public void stop() {
+	}
+
+	@Override
+	public Optional<AudioClip> getAudioClip() {
+		return Optional.empty();
+	}
+
+	@Override
+	public boolean isPlaying() {
+		return false;
+	}
+
+}
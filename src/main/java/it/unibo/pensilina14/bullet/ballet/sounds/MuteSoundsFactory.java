@@ -0,0 +1,28 @@
+package it.unibo.pensilina14.bullet.ballet.sounds;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Factory that hands out {@link MuteSound}s, no audio resource is ever loaded.
+ */
+public class MuteSoundsFactory implements SoundsFactory {
+
+	private final Sound mute = new MuteSound();
+
+	@Override
+	public Sound createSound(final Sounds sound) {
+		return this.mute;
+	}
+
+	@Override
+	public Sound createRandomSoundtrack() {
+		return this.mute;
+	}
+
+	@Override
+	public CompletableFuture<Void> preload(final Executor executor) {
+		return CompletableFuture.completedFuture(null);
+	}
+
+}
@@ -1,5 +1,7 @@
 package it.unibo.pensilina14.bullet.ballet.sounds;
 
+import java.util.Optional;
+
 import javafx.scene.media.AudioClip;
 
 public interface Sound {
@@ -14,8 +16,13 @@ public interface Sound {
 	void stop();
 	/**
 	 * 
-	 * @return AudioClip
+	 * @return AudioClip, empty if the sound plays nothing.
+	 */
+	Optional<AudioClip> getAudioClip();
+	/**
+	 * 
+	 * @return true if the track is currently playing
 	 */
-	AudioClip getAudioClip();
+	boolean isPlaying();
 	
 }
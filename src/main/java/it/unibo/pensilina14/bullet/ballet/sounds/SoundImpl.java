@@ -28,8 +28,13 @@ public class SoundImpl implements Sound{
 	}
 
 	@Override
-	public AudioClip getAudioClip() {
-		return this.audioClip.get();
+	public Optional<AudioClip> getAudioClip() {
+		return this.audioClip;
+	}
+
+	@Override
+	public boolean isPlaying() {
+		return this.audioClip.get().isPlaying();
 	}
 	
 }
@@ -1,5 +1,7 @@
 package it.unibo.pensilina14.bullet.ballet.sounds;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public interface SoundsFactory {
 	
@@ -11,4 +13,13 @@ public interface SoundsFactory {
 	Sound createSound(final Sounds sound);
 	
 	Sound createRandomSoundtrack();
+	
+	/**
+	 * Loads in the background the sounds played during a game, 
+	 * so that creating them later does not stall the game.
+	 * 
+	 * @param executor runs the loading.
+	 * @return the completion of the loading.
+	 */
+	CompletableFuture<Void> preload(Executor executor);
 }
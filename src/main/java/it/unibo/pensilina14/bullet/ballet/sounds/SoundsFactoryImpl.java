@@ -1,27 +1,54 @@
 package it.unibo.pensilina14.bullet.ballet.sounds;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
+import it.unibo.pensilina14.bullet.ballet.save.Save;
 import javafx.scene.media.AudioClip;
 
 public class SoundsFactoryImpl implements SoundsFactory{
 	
+	/**
+	 * Clips already decoded, shared by every factory: an {@link AudioClip} can be played many times at once.
+	 */
+	private static final Map<Sounds, AudioClip> CLIPS = new ConcurrentHashMap<>();
 	private final Random random = new Random();
 	
 	@Override
 	public Sound createSound(final Sounds sound) {
-		final AudioClip audioClip = new AudioClip(this.getClass().getResource(sound.toString()).toExternalForm());
-		return new SoundImpl(audioClip);
+		return new SoundImpl(this.getClip(sound));
 	}
 
 	@Override
 	public Sound createRandomSoundtrack() {
 		final List<Sounds> shuffle = getShuffle();
 		final int randomIndex = random.nextInt(shuffle.size());
-		final AudioClip audioClip = new AudioClip(this.getClass().getResource(shuffle.get(randomIndex).toString())
-				.toExternalForm());
-		return new SoundImpl(audioClip);
+		return new SoundImpl(this.getClip(shuffle.get(randomIndex)));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Soundtracks are not preloaded, only one of them is played per game.
+	 */
+	@Override
+	public CompletableFuture<Void> preload(final Executor executor) {
+		final List<Sounds> soundtracks = getShuffle();
+		return CompletableFuture.runAsync(() -> {
+			Save.loadSettings();
+			Arrays.stream(Sounds.values())
+				.filter(s -> !soundtracks.contains(s))
+				.forEach(this::getClip);
+		}, executor);
+	}
+	
+	private AudioClip getClip(final Sounds sound) {
+		return CLIPS.computeIfAbsent(sound, s -> new AudioClip(this.getClass().getResource(s.toString()).toExternalForm()));
 	}
 	
 	private List<Sounds> getShuffle() {
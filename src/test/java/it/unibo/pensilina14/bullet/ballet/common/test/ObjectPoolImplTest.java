@@ -0,0 +1,47 @@
+package it.unibo.pensilina14.bullet.ballet.common.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.common.ObjectPool;
+import it.unibo.pensilina14.bullet.ballet.common.ObjectPoolImpl;
+
+public class ObjectPoolImplTest {
+
+    private static final int CAPACITY = 2;
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void testReuse() {
+        final ObjectPool<AtomicInteger> pool = new ObjectPoolImpl<>(CAPACITY, i -> i.set(0));
+        final AtomicInteger first = pool.acquire(AtomicInteger::new);
+        first.set(5);
+        assertTrue(pool.release(first));
+        assertEquals(1, pool.getFree());
+        final AtomicInteger second = pool.acquire(AtomicInteger::new);
+        assertSame(first, second);
+        assertEquals(0, second.get());
+        assertNotSame(second, pool.acquire(AtomicInteger::new));
+        assertEquals(3, pool.getAcquired());
+        assertEquals(1, pool.getHits());
+        assertEquals(1.0 / 3, pool.getHitRate(), DELTA);
+    }
+
+    @Test
+    public void testReleaseTwiceAndCapacity() {
+        final ObjectPool<AtomicInteger> pool = new ObjectPoolImpl<>(CAPACITY, i -> i.set(0));
+        final AtomicInteger obj = new AtomicInteger();
+        assertTrue(pool.release(obj));
+        assertFalse(pool.release(obj));
+        assertTrue(pool.release(new AtomicInteger()));
+        assertFalse(pool.release(new AtomicInteger()));
+        assertEquals(CAPACITY, pool.getFree());
+    }
+}
@@ -0,0 +1,57 @@
+package it.unibo.pensilina14.bullet.ballet.core.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.core.AdaptiveRenderScheduler;
+import it.unibo.pensilina14.bullet.ballet.core.RenderScheduler;
+
+public class AdaptiveRenderSchedulerTest {
+
+    private static final int MIN_FPS = 10;
+    private static final long BUDGET = 10_000_000L;
+    private static final long MAX_GAP = 100_000_000L;
+    private final RenderScheduler scheduler = new AdaptiveRenderScheduler(MIN_FPS, BUDGET);
+
+    @Test
+    public void testWithinBudget() {
+        assertTrue(this.scheduler.shouldRender(0, 0));
+        this.scheduler.rendered(0, BUDGET / 2);
+        assertTrue(this.scheduler.shouldRender(BUDGET, BUDGET / 4));
+        assertEquals(0, this.scheduler.getSkippedFrames());
+    }
+
+    @Test
+    public void testSkipOverBudget() {
+        this.scheduler.shouldRender(0, 0);
+        this.scheduler.rendered(0, BUDGET);
+        assertFalse(this.scheduler.shouldRender(BUDGET, 1));
+        assertFalse(this.scheduler.shouldRender(BUDGET * 2, 1));
+        assertEquals(2, this.scheduler.getSkippedFrames());
+    }
+
+    @Test
+    public void testMinimumFrameRate() {
+        this.scheduler.shouldRender(0, 0);
+        this.scheduler.rendered(0, BUDGET * 2);
+        assertFalse(this.scheduler.shouldRender(MAX_GAP - 1, BUDGET));
+        assertTrue(this.scheduler.shouldRender(MAX_GAP, BUDGET));
+        assertEquals(1, this.scheduler.getSkippedFrames());
+    }
+
+    @Test
+    public void testReset() {
+        this.scheduler.shouldRender(0, 0);
+        this.scheduler.rendered(0, BUDGET * 2);
+        this.scheduler.reset();
+        assertTrue(this.scheduler.shouldRender(1, BUDGET));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMinFps() {
+        new AdaptiveRenderScheduler(0, BUDGET);
+    }
+}
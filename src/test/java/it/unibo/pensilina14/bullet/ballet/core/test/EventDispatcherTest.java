@@ -0,0 +1,45 @@
+package it.unibo.pensilina14.bullet.ballet.core.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.core.EventDispatcher;
+import it.unibo.pensilina14.bullet.ballet.core.EventDispatcherImpl;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvents;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameOverEvent;
+
+public class EventDispatcherTest {
+
+    private static final int EVENTS = 100;
+    private final EventDispatcher dispatcher = new EventDispatcherImpl();
+
+    @Test
+    public void testDispatch() {
+        final List<GameEvent> handled = new ArrayList<>();
+        this.dispatcher.register(GameEvents.GAME_OVER, handled::add);
+        for (int i = 0; i < EVENTS; i++) {
+            this.dispatcher.enqueue(new GameOverEvent(null));
+        }
+        this.dispatcher.dispatch();
+        assertEquals(EVENTS, handled.size());
+        assertEquals(EVENTS, this.dispatcher.getLastCount(GameEvents.GAME_OVER));
+        assertEquals(0, this.dispatcher.getLastCount(GameEvents.PLAYER_HITS_ENEMY));
+        // The queue is emptied by every dispatch.
+        this.dispatcher.dispatch();
+        assertEquals(EVENTS, handled.size());
+        assertEquals(0, this.dispatcher.getLastCount(GameEvents.GAME_OVER));
+        assertEquals(EVENTS, this.dispatcher.getTotalCount(GameEvents.GAME_OVER));
+    }
+
+    @Test
+    public void testNoHandler() {
+        this.dispatcher.enqueue(new GameOverEvent(null));
+        this.dispatcher.dispatch();
+        assertEquals(1, this.dispatcher.getLastCount(GameEvents.GAME_OVER));
+    }
+}
@@ -0,0 +1,56 @@
+package it.unibo.pensilina14.bullet.ballet.core.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.core.FixedTimestepScheduler;
+import it.unibo.pensilina14.bullet.ballet.core.GameLoopScheduler;
+
+public class FixedTimestepSchedulerTest {
+
+    private static final int TICK_RATE = 100;
+    private static final int MAX_STEPS = 3;
+    private static final double DELTA = 1e-9;
+    private final GameLoopScheduler scheduler = new FixedTimestepScheduler(TICK_RATE, MAX_STEPS);
+    private final long tick = this.scheduler.getTickDuration();
+
+    @Test
+    public void testFirstPulse() {
+        assertEquals(0, this.scheduler.advance(this.tick * 10));
+        assertEquals(0, this.scheduler.getInterpolation(), DELTA);
+    }
+
+    @Test
+    public void testSteps() {
+        this.scheduler.advance(0);
+        assertEquals(1, this.scheduler.advance(this.tick));
+        assertEquals(0, this.scheduler.advance(this.tick + this.tick / 2));
+        assertEquals(0.5, this.scheduler.getInterpolation(), DELTA);
+        assertEquals(2, this.scheduler.advance(this.tick * 3 + this.tick / 4));
+        assertEquals(0.25, this.scheduler.getInterpolation(), DELTA);
+    }
+
+    @Test
+    public void testCatchUpCap() {
+        this.scheduler.advance(0);
+        assertEquals(MAX_STEPS, this.scheduler.advance(this.tick * 10));
+        assertEquals(10 - MAX_STEPS, this.scheduler.getDroppedTicks());
+        assertEquals(0, this.scheduler.getInterpolation(), DELTA);
+    }
+
+    @Test
+    public void testReset() {
+        this.scheduler.advance(0);
+        this.scheduler.advance(this.tick / 2);
+        this.scheduler.reset();
+        assertEquals(0, this.scheduler.advance(this.tick * 5));
+        assertEquals(0, this.scheduler.getInterpolation(), DELTA);
+        assertEquals(1, this.scheduler.advance(this.tick * 6));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidTickRate() {
+        new FixedTimestepScheduler(0, MAX_STEPS);
+    }
+}
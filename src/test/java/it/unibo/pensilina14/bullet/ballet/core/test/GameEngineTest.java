@@ -0,0 +1,61 @@
+package it.unibo.pensilina14.bullet.ballet.core.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.common.Dimension2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2D;
+import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2DImpl;
+import it.unibo.pensilina14.bullet.ballet.core.GameEngine;
+import it.unibo.pensilina14.bullet.ballet.core.controller.HeadlessViewController;
+import it.unibo.pensilina14.bullet.ballet.core.controller.ModelControllerImpl;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
+import it.unibo.pensilina14.bullet.ballet.model.collision.CollisionSides;
+import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Platform;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.PlayerHitsPlatformEvent;
+import it.unibo.pensilina14.bullet.ballet.sounds.MuteSoundsFactory;
+
+public class GameEngineTest {
+
+    private static final double DELTA = 0.001;
+    private static final double PLATFORM_SIZE = 60;
+
+    private GameEngine engine;
+    private Player player;
+    private Platform platform;
+
+    @Before
+    public void setUp() {
+        final GameState state = new GameState("test", 0, 42L);
+        this.engine = new GameEngine(new HeadlessViewController(), new ModelControllerImpl(state), new MuteSoundsFactory());
+        this.engine.setup();
+        this.player = state.getGameEnvironment().getEntityManager().getPlayer().get();
+        final MutablePosition2D position = this.player.getPosition().get();
+        this.platform = new Platform(new SpeedVector2DImpl(new MutablePosition2Dimpl(position.getX(), position.getY() - 2 * PLATFORM_SIZE), 1.0),
+                state.getGameEnvironment(), 1.0, new Dimension2Dimpl(PLATFORM_SIZE, PLATFORM_SIZE));
+        this.player.resetLanding();
+    }
+
+    @Test
+    public void testOverlapFromBelow() {
+        // Bounds overlapping at the end of the tick: the player lands whatever the side.
+        this.engine.notifyEvent(new PlayerHitsPlatformEvent(this.player, this.platform, CollisionSides.NORTH));
+        this.engine.getEventDispatcher().dispatch();
+        assertTrue(this.player.hasLanded());
+    }
+
+    @Test
+    public void testSweptFromBelow() {
+        // Jumped through the platform within the tick: the player is put back under it and does not land.
+        this.engine.notifyEvent(new PlayerHitsPlatformEvent(this.player, this.platform, CollisionSides.NORTH, true));
+        this.engine.getEventDispatcher().dispatch();
+        assertFalse(this.player.hasLanded());
+        assertEquals(this.platform.getPosition().get().getY() + PLATFORM_SIZE, this.player.getPosition().get().getY(), DELTA);
+    }
+}
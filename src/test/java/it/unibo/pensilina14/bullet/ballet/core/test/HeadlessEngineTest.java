@@ -0,0 +1,28 @@
+package it.unibo.pensilina14.bullet.ballet.core.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.profiling.EnginePhases;
+import it.unibo.pensilina14.bullet.ballet.core.HeadlessEngine;
+import it.unibo.pensilina14.bullet.ballet.core.HeadlessReport;
+
+public class HeadlessEngineTest {
+
+    private static final int TICKS = 100;
+
+    @Test
+    public void testRun() {
+        final HeadlessEngine engine = new HeadlessEngine();
+        engine.setup();
+        final HeadlessReport report = engine.run(TICKS);
+        assertEquals(TICKS, report.getTicks());
+        assertTrue(report.getTicksPerSecond() > 0);
+        assertTrue(report.getPhaseNanos(EnginePhases.UPDATE) > 0);
+        assertEquals(1, report.getEntityCount(GameEntities.PLAYER));
+        assertTrue(report.getEntityCount(GameEntities.PLATFORM) > 0);
+    }
+}
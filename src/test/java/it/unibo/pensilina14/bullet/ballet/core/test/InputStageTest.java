@@ -0,0 +1,70 @@
+package it.unibo.pensilina14.bullet.ballet.core.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.core.InputStage;
+import it.unibo.pensilina14.bullet.ballet.input.Command;
+import it.unibo.pensilina14.bullet.ballet.input.MovementCommand;
+import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
+
+public class InputStageTest {
+
+    private static final int CAPACITY = 4;
+    private final InputStage stage = new InputStage(CAPACITY);
+
+    private static class Counter implements Command {
+        private int executions;
+
+        int getExecutions() {
+            return this.executions;
+        }
+
+        @Override
+        public void execute(final GameState env) {
+            this.executions++;
+        }
+    }
+
+    private static class Move extends Counter implements MovementCommand {
+    }
+
+    @Test
+    public void testDrainAll() {
+        final Counter cmd = new Counter();
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(this.stage.push(cmd));
+        }
+        this.stage.drain(null);
+        assertEquals(CAPACITY, cmd.getExecutions());
+    }
+
+    @Test
+    public void testFullQueue() {
+        final Counter cmd = new Counter();
+        for (int i = 0; i < CAPACITY; i++) {
+            this.stage.push(cmd);
+        }
+        assertFalse(this.stage.push(cmd));
+        assertEquals(1, this.stage.getDroppedCommands());
+    }
+
+    @Test
+    public void testHeldAndCoalesced() {
+        final Move move = new Move();
+        this.stage.hold(move);
+        this.stage.hold(move);
+        this.stage.push(move);
+        this.stage.push(move);
+        this.stage.drain(null);
+        assertEquals(1, move.getExecutions());
+        this.stage.drain(null);
+        assertEquals(2, move.getExecutions());
+        this.stage.release(move);
+        this.stage.drain(null);
+        assertEquals(2, move.getExecutions());
+    }
+}
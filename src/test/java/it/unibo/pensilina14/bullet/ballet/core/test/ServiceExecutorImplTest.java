@@ -0,0 +1,74 @@
+package it.unibo.pensilina14.bullet.ballet.core.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.core.ServiceExecutor;
+import it.unibo.pensilina14.bullet.ballet.core.ServiceExecutorImpl;
+
+public class ServiceExecutorImplTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+    private final List<Runnable> callbacks = new CopyOnWriteArrayList<>();
+    private final ServiceExecutor services = new ServiceExecutorImpl(1, this.callbacks::add);
+
+    @After
+    public void shutdown() {
+        this.services.shutdown();
+    }
+
+    @Test
+    public void testCallbackOnViewThread() throws InterruptedException, ExecutionException, TimeoutException {
+        final Thread caller = Thread.currentThread();
+        final List<String> results = new CopyOnWriteArrayList<>();
+        final String result = this.services.submit(() -> {
+            assertNotEquals(caller, Thread.currentThread());
+            return "saved";
+        }, results::add).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals("saved", result);
+        // The callback is handed to the view executor, it has not run yet.
+        awaitCallbacks(1);
+        assertTrue(results.isEmpty());
+        this.callbacks.get(0).run();
+        assertEquals(List.of("saved"), results);
+    }
+
+    @Test
+    public void testFailureSkipsCallback() throws InterruptedException {
+        final AtomicBoolean done = new AtomicBoolean();
+        try {
+            this.services.run(() -> {
+                throw new IllegalStateException("disk full");
+            }, () -> done.set(true)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertTrue(this.callbacks.isEmpty());
+        assertFalse(done.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoWorkers() {
+        new ServiceExecutorImpl(0, Runnable::run);
+    }
+
+    private void awaitCallbacks(final int count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (this.callbacks.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, this.callbacks.size());
+    }
+}
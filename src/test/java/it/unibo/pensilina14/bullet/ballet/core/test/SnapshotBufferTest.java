@@ -0,0 +1,51 @@
+package it.unibo.pensilina14.bullet.ballet.core.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.core.RenderSnapshot;
+import it.unibo.pensilina14.bullet.ballet.core.SnapshotBuffer;
+
+public class SnapshotBufferTest {
+
+    private static final double POS = 5.0;
+    private final SnapshotBuffer buffer = new SnapshotBuffer();
+
+    private void write(final long tick) {
+        final RenderSnapshot back = this.buffer.getBack();
+        back.clear(tick);
+        back.add((int) tick, GameEntities.ENEMY, POS, POS, RenderSnapshot.DEAD);
+        this.buffer.publish();
+    }
+
+    @Test
+    public void testLatestWins() {
+        this.write(1);
+        this.write(2);
+        final RenderSnapshot front = this.buffer.acquire();
+        assertEquals(2, front.getTick());
+        assertEquals(1, front.size());
+        assertEquals(2, front.getId(0));
+        assertTrue(front.hasFlag(0, RenderSnapshot.DEAD));
+        // Nothing new was published, the reader keeps the same snapshot.
+        assertSame(front, this.buffer.acquire());
+    }
+
+    @Test
+    public void testReaderIsolation() {
+        this.write(1);
+        final RenderSnapshot front = this.buffer.acquire();
+        // The writer never gets the snapshot the reader is holding.
+        for (long tick = 2; tick < 10; tick++) {
+            assertNotSame(front, this.buffer.getBack());
+            this.write(tick);
+        }
+        assertEquals(1, front.getTick());
+        assertEquals(9, this.buffer.acquire().getTick());
+    }
+}
@@ -172,7 +172,7 @@ public class CharactersTest {
         final int enemyIndex = 0;
 
         this.environment.getEntityManager().getPlayer().get().getPosition().get().setPosition(2.0, 0.0);
-        this.environment.getEntityManager().getEnemies().get().get(enemyIndex).getPosition().get().setPosition(12.0, 0.0);
+        this.environment.getEntityManager().getEnemies().get(enemyIndex).getPosition().get().setPosition(12.0, 0.0);
 
     }
 }
@@ -0,0 +1,134 @@
+package it.unibo.pensilina14.bullet.ballet.model.collision.test;
+
+import java.util.List;
+
+import it.unibo.pensilina14.bullet.ballet.common.Dimension2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.common.EntityContainer;
+import it.unibo.pensilina14.bullet.ballet.common.EntityManager;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2DImpl;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Enemy;
+import it.unibo.pensilina14.bullet.ballet.model.characters.EntityList;
+import it.unibo.pensilina14.bullet.ballet.model.characters.FactoryCharacters;
+import it.unibo.pensilina14.bullet.ballet.model.characters.FactoryCharactersImpl;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
+import it.unibo.pensilina14.bullet.ballet.model.collision.SpatialGrid;
+import it.unibo.pensilina14.bullet.ballet.model.entities.ComponentStore;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Environment.GravityConstants;
+import it.unibo.pensilina14.bullet.ballet.model.environment.EnvironmentGenerator;
+import it.unibo.pensilina14.bullet.ballet.model.environment.GameEnvironment;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Platform;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.EventChecker;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvent;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.Bullet;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.BulletFactory;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.BulletFactoryImpl;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.Item;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.ItemFactory;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.ItemFactoryImpl;
+
+/**
+ * A world for the collision tests: entities are added straight to its container,
+ * platforms are square tiles laid from the origin.
+ */
+public final class CollisionFixture {
+	/**
+	 * Side of a platform and of a cell of the grid.
+	 */
+	public static final int TILE_SIZE = EnvironmentGenerator.TILE_SIZE;
+	/**
+	 * Number of platforms in a row, as long as the default world.
+	 */
+	public static final int PLATFORMS = 100;
+	/**
+	 * Side of a classic bullet.
+	 */
+	public static final double BULLET_SIZE = 20.0;
+	private static final int HEIGHT = 50;
+	private static final double MASS = 10.0;
+	private static final double SPEED = 15.0;
+
+	private final FactoryCharacters characterFactory = new FactoryCharactersImpl();
+	private final BulletFactory bulletFactory = new BulletFactoryImpl();
+	private final ItemFactory itemFactory = new ItemFactoryImpl();
+	private final EntityManager entities = new EntityContainer();
+	private final Environment environment;
+
+	public CollisionFixture() {
+		this.environment = new GameEnvironment(GravityConstants.TEST.getValue(), HEIGHT, PLATFORMS * TILE_SIZE,
+				this.entities, e -> { });
+	}
+
+	public EntityManager getEntities() {
+		return this.entities;
+	}
+
+	public ComponentStore getComponents(final GameEntities kind) {
+		return this.entities.getComponents(kind);
+	}
+
+	/**
+	 * @param kind the type of the entities to bin.
+	 * @return a grid of tiles holding the entities of the given type.
+	 */
+	public SpatialGrid grid(final GameEntities kind) {
+		final SpatialGrid grid = new SpatialGrid(TILE_SIZE);
+		grid.insertAll(this.getComponents(kind), 0);
+		return grid;
+	}
+
+	public Player player(final double x, final double y) {
+		final Player player = this.characterFactory.createPlayer(EntityList.Characters.Player.PLAYER1,
+				new SpeedVector2DImpl(new MutablePosition2Dimpl(x, y), SPEED), this.environment);
+		this.entities.setPlayer(player);
+		return player;
+	}
+
+	public Enemy enemy(final double x, final double y) {
+		final Enemy enemy = this.characterFactory.createEnemy(EntityList.Characters.Enemy.ENEMY1,
+				new SpeedVector2DImpl(new MutablePosition2Dimpl(x, y), SPEED), this.environment);
+		this.entities.addEnemy(enemy);
+		return enemy;
+	}
+
+	public Bullet bullet(final double x, final double y) {
+		final Bullet bullet = this.bulletFactory.createClassicBullet(this.environment,
+				new SpeedVector2DImpl(new MutablePosition2Dimpl(x, y), SPEED));
+		this.entities.addBullet(bullet);
+		return bullet;
+	}
+
+	public Item item(final double x, final double y) {
+		final Item item = this.itemFactory.createHealingItem(this.environment,
+				new SpeedVector2DImpl(new MutablePosition2Dimpl(x, y), SPEED));
+		this.entities.addItem(item);
+		return item;
+	}
+
+	public Platform platform(final double x, final double y) {
+		final Platform platform = new Platform(new SpeedVector2DImpl(new MutablePosition2Dimpl(x, y), SPEED),
+				this.environment, MASS, new Dimension2Dimpl(TILE_SIZE, TILE_SIZE));
+		this.entities.addPlatform(platform);
+		return platform;
+	}
+
+	/**
+	 * Lays a row of {@link #PLATFORMS} platforms from the origin, one next to the other.
+	 */
+	public void platformRow() {
+		for (int i = 0; i < PLATFORMS; i++) {
+			this.platform(i * TILE_SIZE, 0.0);
+		}
+	}
+
+	/**
+	 * @param checker the checker to run.
+	 * @return the events it raised, its buffer is left empty.
+	 */
+	public static List<GameEvent> check(final EventChecker checker) {
+		checker.check();
+		return checker.getBuffer().getEvents();
+	}
+}
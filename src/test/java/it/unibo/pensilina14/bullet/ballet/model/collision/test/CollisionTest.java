@@ -0,0 +1,59 @@
+package it.unibo.pensilina14.bullet.ballet.model.collision.test;
+
+import static it.unibo.pensilina14.bullet.ballet.model.collision.test.CollisionFixture.BULLET_SIZE;
+import static it.unibo.pensilina14.bullet.ballet.model.collision.test.CollisionFixture.PLATFORMS;
+import static it.unibo.pensilina14.bullet.ballet.model.collision.test.CollisionFixture.TILE_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.model.collision.Collision;
+import it.unibo.pensilina14.bullet.ballet.model.collision.CollisionSides;
+import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Platform;
+
+public class CollisionTest {
+	private static final double DELTA = 0.01;
+	private static final double PLAYER_SIZE = 40.0;
+
+	@Test
+	public void testGridQuery() {
+		final CollisionFixture world = new CollisionFixture();
+		world.platformRow();
+		final List<Platform> platforms = world.getEntities().getPlatforms();
+		final List<GameEntity> near = new ArrayList<>();
+		// Across the border of two platforms.
+		world.grid(GameEntities.PLATFORM).query(4 * TILE_SIZE - 10.0, 20.0, BULLET_SIZE, BULLET_SIZE, near);
+		assertTrue(near.size() < PLATFORMS);
+		assertTrue(near.contains(platforms.get(3)));
+		assertTrue(near.contains(platforms.get(4)));
+	}
+
+	@Test
+	public void testTimeOfImpact() {
+		// Through the whole tile in one step, the bounds overlap it at neither end.
+		assertEquals((2 * TILE_SIZE - BULLET_SIZE) / (4 * TILE_SIZE), Collision.timeOfImpact(-2 * TILE_SIZE, 20.0, BULLET_SIZE, BULLET_SIZE,
+				4 * TILE_SIZE, 0.0, 0.0, 0.0, TILE_SIZE, TILE_SIZE), DELTA);
+		// Just as fast, above the tile.
+		assertEquals(Collision.NO_IMPACT, Collision.timeOfImpact(2 * TILE_SIZE, -TILE_SIZE, BULLET_SIZE, BULLET_SIZE,
+				-4 * TILE_SIZE, 0.0, 0.0, 0.0, TILE_SIZE, TILE_SIZE), DELTA);
+	}
+
+	@Test
+	public void testImpactSide() {
+		// Up through a tile: by the positions at the end it stands on the tile, it hit it from below.
+		assertEquals(CollisionSides.NORTH, Collision.getImpactSide(0.0, 2 * TILE_SIZE + 10.0, PLAYER_SIZE, PLAYER_SIZE,
+				0.0, -2 * TILE_SIZE, 0.0, TILE_SIZE, TILE_SIZE, TILE_SIZE));
+		assertEquals(CollisionSides.SOUTH, Collision.getImpactSide(0.0, 10.0, PLAYER_SIZE, PLAYER_SIZE,
+				0.0, 2 * TILE_SIZE, 0.0, TILE_SIZE, TILE_SIZE, TILE_SIZE));
+		assertEquals(CollisionSides.WEST, Collision.getImpactSide(-2 * TILE_SIZE, 20.0, BULLET_SIZE, BULLET_SIZE,
+				4 * TILE_SIZE, 0.0, 0.0, 0.0, TILE_SIZE, TILE_SIZE));
+		assertEquals(CollisionSides.NOCOLL, Collision.getImpactSide(2 * TILE_SIZE, -TILE_SIZE, BULLET_SIZE, BULLET_SIZE,
+				-4 * TILE_SIZE, 0.0, 0.0, 0.0, TILE_SIZE, TILE_SIZE));
+	}
+}
@@ -0,0 +1,136 @@
+package it.unibo.pensilina14.bullet.ballet.model.entities.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.common.Dimension2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2D;
+import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2DImpl;
+import it.unibo.pensilina14.bullet.ballet.model.entities.ComponentStore;
+import it.unibo.pensilina14.bullet.ballet.model.entities.GameEntity;
+import it.unibo.pensilina14.bullet.ballet.model.environment.GameEnvironment;
+
+public class ComponentStoreTest {
+
+    private static final double DELTA = 0.001;
+    /**
+     * Distance the entities of the tests move left by on every tick.
+     */
+    private static final double SPEED = 1;
+    private final GameEnvironment env = new GameEnvironment();
+
+    private GameEntity entity(final double x, final double y) {
+        return new GameEntity(new SpeedVector2DImpl(new MutablePosition2Dimpl(x, y), 1), this.env, 1, new Dimension2Dimpl(10, 10)) {
+            {
+                this.setVelocity(-SPEED, 0);
+            }
+
+            @Override
+            public GameEntities getKind() {
+                return GameEntities.OBSTACLE;
+            }
+        };
+    }
+
+    @Test
+    public void testAttachAndIntegrate() {
+        final ComponentStore store = new ComponentStore();
+        final GameEntity entity = this.entity(100, 50);
+        final MutablePosition2D position = entity.getPosition().get();
+        entity.land();
+        store.attach(entity);
+
+        assertTrue(entity.isAttached());
+        store.integrate();
+        // The position handed out before attaching reads the store.
+        assertEquals(100 - SPEED, position.getX(), DELTA);
+        assertEquals(50, position.getY(), DELTA);
+        assertTrue(entity.hasLanded());
+    }
+
+    @Test
+    public void testDetachSwapsTheLastEntityIn() {
+        final ComponentStore store = new ComponentStore();
+        final GameEntity first = this.entity(0, 0);
+        final GameEntity second = this.entity(20, 0);
+        final GameEntity last = this.entity(40, 0);
+        store.attach(first);
+        store.attach(second);
+        store.attach(last);
+
+        assertSame(first, store.detach(0));
+        assertEquals(2, store.size());
+        assertSame(last, store.getEntity(0));
+        assertEquals(0, last.getSlot());
+        assertEquals(40, last.getPosition().get().getX(), DELTA);
+        // A detached entity keeps its components.
+        store.integrate();
+        assertFalse(first.isAttached());
+        assertEquals(0, first.getPosition().get().getX(), DELTA);
+        first.getPosition().get().setPosition(5, 5);
+        assertEquals(5, first.getX(), DELTA);
+    }
+
+    @Test
+    public void testOverlaps() {
+        final ComponentStore store = new ComponentStore();
+        final ComponentStore other = new ComponentStore();
+        store.attach(this.entity(0, 0));
+        other.attach(this.entity(5, 5));
+        other.attach(this.entity(10, 0));
+
+        assertTrue(store.overlaps(0, other, 0));
+        // Bounds that only touch do not overlap.
+        assertFalse(store.overlaps(0, other, 1));
+    }
+
+    @Test
+    public void testDormantEntities() {
+        final int ticks = 50;
+        final ComponentStore store = new ComponentStore();
+        final GameEntity near = this.entity(0, 0);
+        final GameEntity far = this.entity(300, 0);
+        final GameEntity farther = this.entity(200, 0);
+        store.attach(near);
+        store.attach(far);
+        store.attach(farther);
+
+        assertTrue(store.sleepPast(100));
+        assertFalse(store.sleepPast(100));
+        // Dormant entities come first, from the farthest to the nearest.
+        assertEquals(2, store.firstAwake());
+        assertSame(far, store.getEntity(0));
+        assertSame(farther, store.getEntity(1));
+        assertSame(near, store.getEntity(2));
+        store.integrate();
+        assertEquals(-1, near.getX(), DELTA);
+        assertEquals(200, farther.getX(), DELTA);
+        // Dormant entities move without being touched.
+        for (int i = 0; i < ticks; i++) {
+            store.advance();
+        }
+        assertEquals(150, farther.getX(), DELTA);
+        assertEquals(1, store.wakeUpTo(160));
+        assertEquals(1, store.firstAwake());
+        assertEquals(150, farther.getX(), DELTA);
+        // A dormant entity takes its position with it.
+        assertSame(far, store.detach(0));
+        assertEquals(250, far.getX(), DELTA);
+        assertEquals(0, store.firstAwake());
+        assertEquals(2, store.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAttachTwice() {
+        final ComponentStore store = new ComponentStore();
+        final GameEntity entity = this.entity(0, 0);
+        store.attach(entity);
+        new ComponentStore().attach(entity);
+    }
+}
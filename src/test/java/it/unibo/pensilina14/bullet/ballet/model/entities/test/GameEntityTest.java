@@ -7,6 +7,7 @@ import org.apache.commons.lang3.tuple.MutablePair;
 import org.junit.Test;
 
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2Dimpl;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2D;
 import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
 import it.unibo.pensilina14.bullet.ballet.common.SpeedVector2DImpl;
@@ -17,7 +18,12 @@ import it.unibo.pensilina14.bullet.ballet.model.environment.GameEnvironment;
 public class GameEntityTest {
 	
 	PhysicalObject gameObject = new GameEntity(new SpeedVector2DImpl(new MutablePosition2Dimpl(0, 720), 1)
-			, new GameEnvironment(12, 1883), 3, new Dimension2Dimpl(2, 2));
+			, new GameEnvironment(12, 1883), 3, new Dimension2Dimpl(2, 2)) {
+		@Override
+		public GameEntities getKind() {
+			return GameEntities.OBSTACLE;
+		}
+	};
 	
 	@Test
     public void testMutablePosition2D() {
@@ -0,0 +1,187 @@
+package it.unibo.pensilina14.bullet.ballet.model.environment.events.test;
+
+import static it.unibo.pensilina14.bullet.ballet.model.collision.test.CollisionFixture.PLATFORMS;
+import static it.unibo.pensilina14.bullet.ballet.model.collision.test.CollisionFixture.TILE_SIZE;
+import static it.unibo.pensilina14.bullet.ballet.model.collision.test.CollisionFixture.check;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Enemy;
+import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
+import it.unibo.pensilina14.bullet.ballet.model.collision.Collision;
+import it.unibo.pensilina14.bullet.ballet.model.collision.CollisionSides;
+import it.unibo.pensilina14.bullet.ballet.model.collision.SpatialGrid;
+import it.unibo.pensilina14.bullet.ballet.model.collision.test.CollisionFixture;
+import it.unibo.pensilina14.bullet.ballet.model.entities.ComponentStore;
+import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
+import it.unibo.pensilina14.bullet.ballet.model.environment.Platform;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.BulletHitsEnemyEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.BulletHitsPlatformEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.CollisionEventChecker;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.CollisionSystem;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.EnemyHitsPlatformEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvents;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.PlayerHitsEnemyEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.PlayerHitsItemEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.PlayerHitsPlatformEvent;
+import it.unibo.pensilina14.bullet.ballet.model.weapon.Bullet;
+
+public class CollisionSystemTest {
+
+	@Test
+	public void testCollisionKinds() {
+		final CollisionFixture world = new CollisionFixture();
+		final Bullet bullet = world.bullet(0.0, 0.0);
+		final Enemy enemy = world.enemy(0.0, 0.0);
+		assertEquals(GameEntities.BULLET, bullet.getKind());
+		assertEquals(GameEntities.ENEMY, enemy.getKind());
+
+		final List<GameEvent> events = check(new CollisionEventChecker(List.of(bullet), List.of(enemy)));
+		assertEquals(1, events.size());
+		assertEquals(GameEvents.BULLET_HITS_ENEMY, events.get(0).getType());
+		// Rules are looked up by the kinds in the order given, the opposite pair raises nothing.
+		assertTrue(check(new CollisionEventChecker(List.of(enemy), List.of(bullet))).isEmpty());
+	}
+
+	@Test
+	public void testGridCollisions() {
+		final CollisionFixture world = new CollisionFixture();
+		world.platformRow();
+		// Across the border of two platforms.
+		world.bullet(4 * TILE_SIZE - 10.0, 20.0);
+		final ComponentStore platforms = world.getComponents(GameEntities.PLATFORM);
+		final ComponentStore bullets = world.getComponents(GameEntities.BULLET);
+
+		final List<GameEvent> expected = check(new CollisionEventChecker(bullets, platforms));
+		final List<GameEvent> found = check(new CollisionEventChecker(bullets, world.grid(GameEntities.PLATFORM), platforms));
+		assertEquals(2, expected.size());
+		assertSameEvents(expected, found);
+	}
+
+	@Test
+	public void testCollisionSystem() {
+		final CollisionFixture world = new CollisionFixture();
+		final CollisionSystem collisions = new CollisionSystem(world.getEntities(), TILE_SIZE);
+		world.player(0.0, 0.0);
+		world.item(0.0, 0.0);
+		final List<GameEvent> events = new ArrayList<>();
+		collisions.check(events::add);
+		assertEquals(1, events.size());
+		assertEquals(GameEvents.PLAYER_HITS_ITEM, events.get(0).getType());
+		// A platform added later is binned in the grid on the next check, events already handed out are gone.
+		world.platform(0.0, 0.0);
+		events.clear();
+		collisions.check(events::add);
+		assertEquals(2, events.size());
+		assertEquals(GameEvents.PLAYER_HITS_ITEM, events.get(0).getType());
+		assertEquals(GameEvents.PLAYER_HITS_PLATFORM, events.get(1).getType());
+	}
+
+	@Test
+	public void testSweptCollisions() {
+		final CollisionFixture world = new CollisionFixture();
+		world.platform(0.0, 0.0);
+		final Bullet bullet = world.bullet(-2 * TILE_SIZE, 20.0);
+		final ComponentStore platforms = world.getComponents(GameEntities.PLATFORM);
+		final ComponentStore bullets = world.getComponents(GameEntities.BULLET);
+		final SpatialGrid grid = world.grid(GameEntities.PLATFORM);
+
+		// Through the whole platform in one step, its bounds overlap it at neither end.
+		bullets.mark();
+		bullet.getPosition().get().setPosition(2 * TILE_SIZE, 20.0);
+		assertEquals(1, check(new CollisionEventChecker(bullets, platforms)).size());
+		final List<GameEvent> found = check(new CollisionEventChecker(bullets, grid, platforms));
+		assertEquals(1, found.size());
+		assertEquals(GameEvents.BULLET_HITS_PLATFORM, found.get(0).getType());
+
+		// Leaving the platform it overlapped at the mark is no hit, nor is a fast move that misses it.
+		bullet.getPosition().get().setPosition(20.0, 20.0);
+		bullets.mark();
+		bullet.getPosition().get().setPosition(2 * TILE_SIZE, 20.0);
+		assertTrue(check(new CollisionEventChecker(bullets, grid, platforms)).isEmpty());
+		bullet.getPosition().get().setPosition(2 * TILE_SIZE, -TILE_SIZE);
+		bullets.mark();
+		bullet.getPosition().get().setPosition(-2 * TILE_SIZE, -TILE_SIZE);
+		assertTrue(check(new CollisionEventChecker(bullets, grid, platforms)).isEmpty());
+	}
+
+	@Test
+	public void testJumpThroughPlatform() {
+		final CollisionFixture world = new CollisionFixture();
+		final Player player = world.player(0.0, 2 * TILE_SIZE + 10.0);
+		final Platform platform = world.platform(0.0, TILE_SIZE);
+		final CollisionSystem system = new CollisionSystem(world.getEntities(), TILE_SIZE);
+		final List<GameEvent> found = new ArrayList<>();
+		system.check(found::add);
+		assertTrue(found.isEmpty());
+
+		// One jump carries the player from under the platform to above it: it was hit from below, not landed on.
+		player.getPosition().get().setPosition(0.0, 10.0);
+		assertEquals(CollisionSides.SOUTH, Collision.getCollisionSide(player, platform).get());
+		system.check(found::add);
+		assertEquals(1, found.size());
+		assertEquals(GameEvents.PLAYER_HITS_PLATFORM, found.get(0).getType());
+		assertEquals(CollisionSides.NORTH, ((PlayerHitsPlatformEvent) found.get(0)).getCollisionSide());
+	}
+
+	@Test
+	public void testParallelCollisions() {
+		final CollisionFixture world = new CollisionFixture();
+		world.player(0.0, 0.0);
+		world.platformRow();
+		for (int i = 0; i < PLATFORMS; i++) {
+			world.enemy(i * TILE_SIZE + 10.0, 10.0);
+			world.bullet(i * TILE_SIZE + 20.0, 20.0);
+		}
+		final CollisionSystem serial = new CollisionSystem(world.getEntities(), TILE_SIZE);
+		final CollisionSystem parallel = new CollisionSystem(world.getEntities(), TILE_SIZE);
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		parallel.setPool(pool);
+		final List<GameEvent> expected = new ArrayList<>();
+		final List<GameEvent> found = new ArrayList<>();
+		serial.check(expected::add);
+		parallel.check(found::add);
+		pool.shutdown();
+		assertTrue(expected.size() > 3 * PLATFORMS);
+		// The same events in the same order, whatever thread found them.
+		assertSameEvents(expected, found);
+	}
+
+	private static void assertSameEvents(final List<GameEvent> expected, final List<GameEvent> found) {
+		assertEquals(expected.size(), found.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getType(), found.get(i).getType());
+			assertEquals(entitiesOf(expected.get(i)), entitiesOf(found.get(i)));
+		}
+	}
+
+	/*
+	 * The entities an event is about, in the order the event gives them.
+	 */
+	private static List<PhysicalObject> entitiesOf(final GameEvent event) {
+		switch (event.getType()) {
+		case PLAYER_HITS_ITEM:
+			return List.of(((PlayerHitsItemEvent) event).getPlayer(), ((PlayerHitsItemEvent) event).getItem());
+		case PLAYER_HITS_ENEMY:
+			return List.of(((PlayerHitsEnemyEvent) event).getPlayer(), ((PlayerHitsEnemyEvent) event).getEnemy());
+		case PLAYER_HITS_PLATFORM:
+			return List.of(((PlayerHitsPlatformEvent) event).getPlayer(), ((PlayerHitsPlatformEvent) event).getPlatform());
+		case ENEMY_HITS_PLATFORM:
+			return List.of(((EnemyHitsPlatformEvent) event).getEnemy(), ((EnemyHitsPlatformEvent) event).getPlatform());
+		case BULLET_HITS_ENEMY:
+			return List.of(((BulletHitsEnemyEvent) event).getBullet(), ((BulletHitsEnemyEvent) event).getEnemy());
+		case BULLET_HITS_PLATFORM:
+			return List.of(((BulletHitsPlatformEvent) event).getBullet(), ((BulletHitsPlatformEvent) event).getPlatform());
+		default:
+			throw new IllegalArgumentException(event.getType() + " is not raised by these tests.");
+		}
+	}
+}
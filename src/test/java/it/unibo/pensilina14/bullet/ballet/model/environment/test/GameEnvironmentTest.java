@@ -1,12 +1,13 @@
 package it.unibo.pensilina14.bullet.ballet.model.environment.test;
 
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import it.unibo.pensilina14.bullet.ballet.common.Dimension2Dimpl;
 import it.unibo.pensilina14.bullet.ballet.common.EntityContainer;
 import it.unibo.pensilina14.bullet.ballet.common.EntityManager;
+import it.unibo.pensilina14.bullet.ballet.common.GameEntities;
 import it.unibo.pensilina14.bullet.ballet.common.ImmutablePosition2D;
 import it.unibo.pensilina14.bullet.ballet.common.ImmutablePosition2Dimpl;
 import it.unibo.pensilina14.bullet.ballet.common.MutablePosition2Dimpl;
@@ -17,10 +18,15 @@ import it.unibo.pensilina14.bullet.ballet.model.characters.EntityList;
 import it.unibo.pensilina14.bullet.ballet.model.characters.FactoryCharacters;
 import it.unibo.pensilina14.bullet.ballet.model.characters.FactoryCharactersImpl;
 import it.unibo.pensilina14.bullet.ballet.model.characters.Player;
+import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
 import it.unibo.pensilina14.bullet.ballet.model.environment.Environment;
 import it.unibo.pensilina14.bullet.ballet.model.environment.Environment.GravityConstants;
+import it.unibo.pensilina14.bullet.ballet.model.environment.EnvironmentGenerator;
 import it.unibo.pensilina14.bullet.ballet.model.environment.GameEnvironment;
+import it.unibo.pensilina14.bullet.ballet.model.environment.LevelGenerator;
 import it.unibo.pensilina14.bullet.ballet.model.environment.Platform;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvent;
+import it.unibo.pensilina14.bullet.ballet.model.environment.events.GameEvents;
 import it.unibo.pensilina14.bullet.ballet.model.obstacle.Obstacle;
 import it.unibo.pensilina14.bullet.ballet.model.obstacle.ObstacleFactory;
 import it.unibo.pensilina14.bullet.ballet.model.obstacle.ObstacleFactoryImpl;
@@ -36,6 +42,7 @@ import it.unibo.pensilina14.bullet.ballet.model.weapon.Weapon;
 import it.unibo.pensilina14.bullet.ballet.model.weapon.WeaponFactory;
 import it.unibo.pensilina14.bullet.ballet.model.weapon.WeaponFactoryImpl;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,6 +53,7 @@ public class GameEnvironmentTest {
   private static final double DELTA = 0.01;
   private static final double DEFAULT_MASS = 10.0;
   private static final double DEFAULT_SPEED = 15.0;
+  private static final int TILE_SIZE = EnvironmentGenerator.TILE_SIZE;
 
   private final FactoryCharacters characterFactory = new FactoryCharactersImpl();
   private final ObstacleFactory obstacleFactory = new ObstacleFactoryImpl();
@@ -59,9 +67,9 @@ public class GameEnvironmentTest {
 
     assertEquals(gameEnv.getGravity(), GravityConstants.TEST.getValue(), DELTA);
     assertTrue(gameEnv.getEntityManager().getPlayer().isEmpty());
-    assertEquals(gameEnv.getEntityManager().getEnemies(), Optional.empty());
-    assertEquals(gameEnv.getEntityManager().getObstacles(), Optional.empty());
-    assertEquals(gameEnv.getEntityManager().getItems(), Optional.empty());
+    assertTrue(gameEnv.getEntityManager().getEnemies().isEmpty());
+    assertTrue(gameEnv.getEntityManager().getObstacles().isEmpty());
+    assertTrue(gameEnv.getEntityManager().getItems().isEmpty());
   }
 
   @Test
@@ -91,12 +99,12 @@ public class GameEnvironmentTest {
     assertTrue(addBulletOutput);
     assertEquals(gameEnv.getGravity(), GravityConstants.TEST.getValue(), DELTA);
     assertEquals(gameEnv.getEntityManager().getPlayer(), Optional.of(player));
-    assertEquals(gameEnv.getEntityManager().getEnemies(), Optional.of(List.of(enemy)));
-    assertEquals(gameEnv.getEntityManager().getObstacles(), Optional.of(List.of(obstacle)));
-    assertEquals(gameEnv.getEntityManager().getItems(), Optional.of(List.of(item)));
-    assertEquals(gameEnv.getEntityManager().getPlatforms(), Optional.of(List.of(platform)));
-    assertEquals(gameEnv.getEntityManager().getWeapons(), Optional.of(List.of(weapon)));
-    assertEquals(gameEnv.getEntityManager().getBullets(), Optional.of(List.of(bullet)));
+    assertEquals(gameEnv.getEntityManager().getEnemies(), List.of(enemy));
+    assertEquals(gameEnv.getEntityManager().getObstacles(), List.of(obstacle));
+    assertEquals(gameEnv.getEntityManager().getItems(), List.of(item));
+    assertEquals(gameEnv.getEntityManager().getPlatforms(), List.of(platform));
+    assertEquals(gameEnv.getEntityManager().getWeapons(), List.of(weapon));
+    assertEquals(gameEnv.getEntityManager().getBullets(), List.of(bullet));
   }
 
   @Test
@@ -121,29 +129,29 @@ public class GameEnvironmentTest {
 	// #subtest2 -- obstacles
 	final ImmutablePosition2D pos2 = new ImmutablePosition2Dimpl(100, 0);
 	final boolean addObstacleOutput = gameEnv.getEntityManager().addObstacle(obstacle);
-	final Optional<List<ObstacleImpl>> obstaclesBefore = gameEnv.getEntityManager().getObstacles();
+	final List<ObstacleImpl> obstaclesBefore = List.copyOf(gameEnv.getEntityManager().getObstacles());
 	gameEnv.deleteObjByPosition(pos2);
-	final Optional<List<ObstacleImpl>> obstaclesAfter = gameEnv.getEntityManager().getObstacles();
+	final List<ObstacleImpl> obstaclesAfter = gameEnv.getEntityManager().getObstacles();
 	// #subtest3 -- items
 	final ImmutablePosition2D pos3 = new ImmutablePosition2Dimpl(0, 100);
 	final boolean addItemOutput = gameEnv.getEntityManager().addItem(item);
-	final Optional<List<PickupItem>> itemsBefore = gameEnv.getEntityManager().getItems();
+	final List<PickupItem> itemsBefore = List.copyOf(gameEnv.getEntityManager().getItems());
 	gameEnv.deleteObjByPosition(pos3);
-	final Optional<List<PickupItem>> itemsAfter = gameEnv.getEntityManager().getItems();
+	final List<PickupItem> itemsAfter = gameEnv.getEntityManager().getItems();
 	// #subtest4 -- weapons
 	final ImmutablePosition2D pos4 = new ImmutablePosition2Dimpl(100, 101);
 	final boolean addWeaponOutput = gameEnv.getEntityManager().addWeapon(weapon);
-	final Optional<List<Weapon>> weaponsBefore = gameEnv.getEntityManager().getWeapons();
+	final List<Weapon> weaponsBefore = List.copyOf(gameEnv.getEntityManager().getWeapons());
 	AppLogger.getAppLogger().debug("Weapons: " + gameEnv.getEntityManager().getWeapons());
 	gameEnv.deleteObjByPosition(pos4);
-	final Optional<List<Weapon>> weaponsAfter = gameEnv.getEntityManager().getWeapons();
+	final List<Weapon> weaponsAfter = gameEnv.getEntityManager().getWeapons();
 	AppLogger.getAppLogger().debug("Weapons: " + gameEnv.getEntityManager().getWeapons());
 	// #subtest5 -- bullets
 	final ImmutablePosition2D pos5 = new ImmutablePosition2Dimpl(101, 100);
 	final boolean addBulletOutput = gameEnv.getEntityManager().addBullet(bullet);
-	final Optional<List<Bullet>> bulletsBefore = gameEnv.getEntityManager().getBullets();
+	final List<Bullet> bulletsBefore = List.copyOf(gameEnv.getEntityManager().getBullets());
 	gameEnv.deleteObjByPosition(pos5);
-	final Optional<List<Bullet>> bulletsAfter = gameEnv.getEntityManager().getBullets();
+	final List<Bullet> bulletsAfter = gameEnv.getEntityManager().getBullets();
 	/*
 	 * ASSERTIONS
 	 * #subtestassert1 -- player
@@ -151,19 +159,136 @@ public class GameEnvironmentTest {
 	assertTrue(gameEnv.getEntityManager().getPlayer().isEmpty());
 	// #subtestassert2 -- obstacles
 	assertTrue(addObstacleOutput);
-	assertEquals(obstaclesBefore, Optional.of(List.of(obstacle)));
-	assertFalse(obstaclesAfter.isPresent());
+	assertEquals(obstaclesBefore, List.of(obstacle));
+	assertTrue(obstaclesAfter.isEmpty());
 	// #subtestassert3 -- items
 	assertTrue(addItemOutput);
-	assertEquals(itemsBefore, Optional.of(List.of(item)));
-	assertFalse(itemsAfter.isPresent());
+	assertEquals(itemsBefore, List.of(item));
+	assertTrue(itemsAfter.isEmpty());
 	// #subtestassert4 -- weapons
 	assertTrue(addWeaponOutput);
-	assertEquals(weaponsBefore, Optional.of(List.of(weapon)));
-	assertFalse(weaponsAfter.isPresent());
+	assertEquals(weaponsBefore, List.of(weapon));
+	assertTrue(weaponsAfter.isEmpty());
 	// #subtestassert5 -- bullets
 	assertTrue(addBulletOutput);
-	assertEquals(bulletsBefore, Optional.of(List.of(bullet)));
-	assertFalse(bulletsAfter.isPresent());
+	assertEquals(bulletsBefore, List.of(bullet));
+	assertTrue(bulletsAfter.isEmpty());
+  }
+
+  @Test
+  public void testDeleteObjById() {
+	final Environment gameEnv = new GameEnvironment();
+	final Item first = this.itemFactory.createHealingItem(gameEnv, new SpeedVector2DImpl(new MutablePosition2Dimpl(10, 10), DEFAULT_SPEED));
+	final Item stacked = this.itemFactory.createHealingItem(gameEnv, new SpeedVector2DImpl(new MutablePosition2Dimpl(10, 10), DEFAULT_SPEED));
+	final Item last = this.itemFactory.createDamagingItem(gameEnv, new SpeedVector2DImpl(new MutablePosition2Dimpl(50, 10), DEFAULT_SPEED));
+	gameEnv.getEntityManager().addItem(first);
+	gameEnv.getEntityManager().addItem(stacked);
+	gameEnv.getEntityManager().addItem(last);
+
+	// An entity already stored is not added twice.
+	assertFalse(gameEnv.getEntityManager().addItem(first));
+	// Only the stacked item goes, even if it shares its position with the first one.
+	assertTrue(gameEnv.deleteObjById(stacked.getId()));
+	assertFalse(gameEnv.deleteObjById(stacked.getId()));
+	assertFalse(gameEnv.getEntityManager().contains(stacked.getId()));
+	// The last item takes the slot of the deleted one.
+	assertEquals(List.of(first, last), gameEnv.getEntityManager().getItems());
+	assertTrue(gameEnv.deleteObjById(last.getId()));
+	assertTrue(gameEnv.deleteObjById(first.getId()));
+	assertTrue(gameEnv.getEntityManager().getItems().isEmpty());
+	assertTrue(gameEnv.getEntityManager().addItem(first));
+	assertEquals(List.of(first), gameEnv.getEntityManager().getItems());
+  }
+
+  @Test
+  public void testDeferredChanges() {
+	final Environment gameEnv = new GameEnvironment();
+	final Bullet bullet = this.bulletFactory.createClassicBullet(gameEnv, new SpeedVector2DImpl(new MutablePosition2Dimpl(0, 0), DEFAULT_SPEED));
+	final Item item = this.itemFactory.createHealingItem(gameEnv, new SpeedVector2DImpl(new MutablePosition2Dimpl(10, 10), DEFAULT_SPEED));
+	gameEnv.getEntityManager().addItem(item);
+
+	gameEnv.getEntityManager().spawn(bullet);
+	gameEnv.getEntityManager().despawn(item.getId());
+	gameEnv.getEntityManager().despawn(item.getId());
+	// Nothing changes before the end of the tick.
+	assertTrue(gameEnv.getEntityManager().getBullets().isEmpty());
+	assertEquals(List.of(item), gameEnv.getEntityManager().getItems());
+	// The second despawn of the item is a no-op.
+	assertEquals(2, gameEnv.getEntityManager().applyChanges());
+	assertEquals(List.of(bullet), gameEnv.getEntityManager().getBullets());
+	assertTrue(gameEnv.getEntityManager().getItems().isEmpty());
+	assertEquals(0, gameEnv.getEntityManager().applyChanges());
+  }
+
+  @Test
+  public void testDespawnOutside() {
+	final List<GameEvent> events = new ArrayList<>();
+	final Environment gameEnv = new GameEnvironment(GravityConstants.TEST.getValue(), DEFAULT_DIM, DEFAULT_DIM, 
+			new EntityContainer(), events::add);
+	gameEnv.setDespawnMargin(DEFAULT_DIM);
+	final Player player = this.characterFactory.createPlayer(EntityList.Characters.Player.PLAYER1, new SpeedVector2DImpl(new MutablePosition2Dimpl(0.0, 0.0), 0.0), gameEnv);
+	// A bullet about to cross the right edge and the margin, and one far from it.
+	final Bullet leaving = this.bulletFactory.createClassicBullet(gameEnv, new SpeedVector2DImpl(new MutablePosition2Dimpl(2 * DEFAULT_DIM - 1, 0), DEFAULT_SPEED));
+	final Bullet flying = this.bulletFactory.createClassicBullet(gameEnv, new SpeedVector2DImpl(new MutablePosition2Dimpl(DEFAULT_DIM, 0), DEFAULT_SPEED));
+	// An item scrolled past the left edge and a platform still to scroll in from the right.
+	final Item scrolled = this.itemFactory.createHealingItem(gameEnv, new SpeedVector2DImpl(new MutablePosition2Dimpl(-4 * DEFAULT_DIM, 0), DEFAULT_SPEED));
+	final Platform ahead = new Platform(new SpeedVector2DImpl(new MutablePosition2Dimpl(10 * DEFAULT_DIM, 0), DEFAULT_SPEED), gameEnv, DEFAULT_MASS, 
+			new Dimension2Dimpl(DEFAULT_DIM, DEFAULT_DIM));
+	gameEnv.getEntityManager().setPlayer(player);
+	gameEnv.getEntityManager().addBullet(leaving);
+	gameEnv.getEntityManager().addBullet(flying);
+	gameEnv.getEntityManager().addItem(scrolled);
+	gameEnv.getEntityManager().addPlatform(ahead);
+
+	gameEnv.updateState();
+	gameEnv.getEntityManager().applyChanges();
+
+	assertEquals(List.of(flying), gameEnv.getEntityManager().getBullets());
+	assertTrue(gameEnv.getEntityManager().getItems().isEmpty());
+	assertEquals(List.of(ahead), gameEnv.getEntityManager().getPlatforms());
+	assertEquals(1, gameEnv.getDespawnCount(GameEntities.BULLET));
+	assertEquals(1, gameEnv.getDespawnCount(GameEntities.PICKUP_ITEM));
+	assertEquals(0, gameEnv.getDespawnCount(GameEntities.PLATFORM));
+	assertEquals(2, events.stream().filter(e -> e.getType() == GameEvents.ENTITY_LEAVES_WORLD).count());
+  }
+
+  @Test
+  public void testStreamLevel() {
+	final int chunkWidth = EnvironmentGenerator.CHUNK_COLUMNS * TILE_SIZE;
+	final List<GameEvent> events = new ArrayList<>();
+	final Environment gameEnv = new GameEnvironment(GravityConstants.TEST.getValue(), DEFAULT_DIM, chunkWidth, 
+			new EntityContainer(), e -> { });
+	final LevelGenerator generator = new EnvironmentGenerator(0, 42L);
+	generator.setEnvironment(gameEnv);
+	generator.generate();
+	// Only the chunk in view and the one right after it.
+	final int shown = all(gameEnv.getEntityManager()).size();
+	assertTrue(shown > 0);
+	all(gameEnv.getEntityManager()).forEach(e -> assertTrue(e.getPosition().get().getX() < 2 * chunkWidth));
+
+	generator.setEventListener(events::add);
+	generator.stream(chunkWidth - 1);
+	assertEquals(shown, all(gameEnv.getEntityManager()).size());
+	generator.stream(1);
+	final int streamed = all(gameEnv.getEntityManager()).size() - shown;
+	assertTrue(streamed > 0);
+	assertEquals(streamed, events.stream().filter(e -> e.getType() == GameEvents.ENTITY_ENTERS_WORLD).count());
+	// The new chunk is streamed at its place in the world, within one width of the environment past the view.
+	all(gameEnv.getEntityManager()).forEach(e -> assertTrue(e.getPosition().get().getX() - generator.getScrolled() < 2 * chunkWidth));
+
+	generator.stream(generator.getLevelWidth() * TILE_SIZE);
+	final int total = all(gameEnv.getEntityManager()).size();
+	all(gameEnv.getEntityManager()).forEach(e -> assertTrue(generator.getOrdinal(e.getId()).get() < total));
+  }
+
+  private static List<PhysicalObject> all(final EntityManager entities) {
+	final List<PhysicalObject> all = new ArrayList<>();
+	entities.getPlayer().ifPresent(all::add);
+	all.addAll(entities.getPlatforms());
+	all.addAll(entities.getEnemies());
+	all.addAll(entities.getItems());
+	all.addAll(entities.getObstacles());
+	all.addAll(entities.getWeapons());
+	return all;
   }
 }
@@ -0,0 +1,64 @@
+package it.unibo.pensilina14.bullet.ballet.profiling.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.profiling.EnginePhases;
+import it.unibo.pensilina14.bullet.ballet.profiling.FrameProfiler;
+import it.unibo.pensilina14.bullet.ballet.profiling.FrameProfilerImpl;
+import it.unibo.pensilina14.bullet.ballet.profiling.LatencyHistogram;
+
+public class LatencyHistogramTest {
+
+    private static final int SAMPLES = 1000;
+    private static final long MICRO = 1000;
+
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= SAMPLES; i++) {
+            histogram.record(i * MICRO);
+        }
+        assertEquals(SAMPLES, histogram.getCount());
+        assertEquals(SAMPLES * MICRO, histogram.getMax());
+        assertWithin(500 * MICRO, histogram.getPercentile(50));
+        assertWithin(990 * MICRO, histogram.getPercentile(99));
+        assertEquals(SAMPLES * MICRO, histogram.getPercentile(100));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void testSmallValues() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(-1);
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(3, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testProfilerWindow() {
+        final int window = 4;
+        final FrameProfiler profiler = new FrameProfilerImpl(window);
+        for (int i = 0; i < window - 1; i++) {
+            profiler.record(EnginePhases.UPDATE, MICRO);
+            profiler.endFrame();
+        }
+        assertEquals(0, profiler.getP50(EnginePhases.UPDATE));
+        profiler.record(EnginePhases.UPDATE, MICRO);
+        profiler.endFrame();
+        assertWithin(MICRO, profiler.getP50(EnginePhases.UPDATE));
+        assertEquals(MICRO, profiler.getMax(EnginePhases.UPDATE));
+        assertEquals(window * MICRO, profiler.getTotal(EnginePhases.UPDATE));
+        assertEquals(0, profiler.getMax(EnginePhases.RENDER));
+    }
+
+    private static void assertWithin(final long expected, final long actual) {
+        assertTrue(actual + " is not close to " + expected,
+                Math.abs(actual - expected) <= expected / LatencyHistogram.SUB_BUCKETS);
+    }
+}
@@ -0,0 +1,150 @@
+package it.unibo.pensilina14.bullet.ballet.replay.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import it.unibo.pensilina14.bullet.ballet.common.EntityManager;
+import it.unibo.pensilina14.bullet.ballet.core.GameEngine;
+import it.unibo.pensilina14.bullet.ballet.core.controller.HeadlessViewController;
+import it.unibo.pensilina14.bullet.ballet.core.controller.ModelControllerImpl;
+import it.unibo.pensilina14.bullet.ballet.core.controller.ViewController;
+import it.unibo.pensilina14.bullet.ballet.input.Right;
+import it.unibo.pensilina14.bullet.ballet.input.Space;
+import it.unibo.pensilina14.bullet.ballet.input.Up;
+import it.unibo.pensilina14.bullet.ballet.model.entities.PhysicalObject;
+import it.unibo.pensilina14.bullet.ballet.model.environment.GameState;
+import it.unibo.pensilina14.bullet.ballet.replay.Replay;
+import it.unibo.pensilina14.bullet.ballet.replay.ReplayPlayer;
+import it.unibo.pensilina14.bullet.ballet.replay.ReplayRecorder;
+import it.unibo.pensilina14.bullet.ballet.sounds.MuteSoundsFactory;
+
+public class ReplayTest {
+
+    private static final int LEVEL = 0;
+    private static final long SEED = 42L;
+    private static final int TICKS = 200;
+    private static final int KEYFRAME_INTERVAL = 50;
+    private static final int JUMP_EVERY = 40;
+    private static final int SHOOT_EVERY = 15;
+    private static final long SEEK_TICK = 130;
+
+    /**
+     * Tag of a command record in a replay file.
+     */
+    private static final int TAG_COMMAND = 1;
+
+    private byte[] bytes;
+    private Replay replay;
+    private String recorded;
+
+    @Before
+    public void record() throws IOException {
+        final GameState state = new GameState("test", LEVEL, SEED);
+        final ViewController view = new HeadlessViewController();
+        final GameEngine engine = new GameEngine(view, new ModelControllerImpl(state), new MuteSoundsFactory());
+        engine.setup();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        engine.startRecording(new ReplayRecorder(out, state, KEYFRAME_INTERVAL));
+        engine.holdCommand(Right.getInstance());
+        for (int i = 0; i < TICKS; i++) {
+            if (i % JUMP_EVERY == 0) {
+                engine.notifyCommand(new Up(new MuteSoundsFactory()));
+            }
+            if (i % SHOOT_EVERY == 0) {
+                engine.notifyCommand(new Space(view.getGameView(), new MuteSoundsFactory()));
+            }
+            engine.processInput();
+            engine.updateGame();
+        }
+        engine.stopRecording();
+        this.recorded = fingerprint(state);
+        this.bytes = out.toByteArray();
+        this.replay = Replay.read(new ByteArrayInputStream(this.bytes));
+    }
+
+    @Test
+    public void testHeader() {
+        assertEquals("test", this.replay.getPlayerName());
+        assertEquals(LEVEL, this.replay.getLevelIndex());
+        assertEquals(SEED, this.replay.getSeed());
+        assertEquals(TICKS, this.replay.getTicks());
+        assertEquals(TICKS / KEYFRAME_INTERVAL + 1, this.replay.getKeyframeCount());
+        assertTrue(this.replay.getCommandCount() >= TICKS);
+    }
+
+    @Test
+    public void testPlay() {
+        final ReplayPlayer player = new ReplayPlayer(this.replay);
+        assertEquals(TICKS, player.play(Long.MAX_VALUE).getTicks());
+        assertTrue(player.isOver());
+        assertFalse(player.step());
+        assertEquals(this.recorded, fingerprint(player.getGameState()));
+    }
+
+    @Test
+    public void testSeek() {
+        final ReplayPlayer player = new ReplayPlayer(this.replay);
+        player.seek(SEEK_TICK);
+        assertEquals(SEEK_TICK, player.getTick());
+        player.play(Long.MAX_VALUE);
+        assertEquals(this.recorded, fingerprint(player.getGameState()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotAReplay() throws IOException {
+        Replay.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5}));
+    }
+
+    @Test
+    public void testCorruptedCommand() throws IOException {
+        // The header of the recorded replay, then a command with no code.
+        final ByteArrayOutputStream corrupted = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(corrupted);
+        out.write(this.bytes, 0, Integer.BYTES + 1);
+        out.writeUTF("test");
+        out.writeInt(LEVEL);
+        out.writeLong(SEED);
+        out.writeByte(TAG_COMMAND);
+        out.writeByte(0);
+        out.writeByte(0xFF);
+        try {
+            Replay.read(new ByteArrayInputStream(corrupted.toByteArray()));
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    private static String fingerprint(final GameState state) {
+        final EntityManager entities = state.getGameEnvironment().getEntityManager();
+        final StringBuilder text = new StringBuilder();
+        text.append(entities.getPlayer().get().getHealth()).append(' ')
+            .append(entities.getPlayer().get().getCurrentScore().showScore()).append(' ');
+        append(text, List.of(entities.getPlayer().get()));
+        append(text, entities.getEnemies());
+        entities.getEnemies().forEach(e -> text.append(e.getHealth()).append(' '));
+        append(text, entities.getBullets());
+        append(text, entities.getObstacles());
+        append(text, entities.getItems());
+        return text.toString();
+    }
+
+    private static void append(final StringBuilder text, final List<? extends PhysicalObject> objects) {
+        text.append(objects.size()).append(':');
+        for (final PhysicalObject obj : objects) {
+            text.append(obj.getPosition().get().getX()).append(',')
+                .append(obj.getPosition().get().getY()).append(';');
+        }
+    }
+}